@@ -0,0 +1,122 @@
+package com.mysite.sbb.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mysite.sbb.LmsProjectApplication;
+import com.mysite.sbb.search.SearchIndexer;
+
+// [추가] 벤치마크용 애플리케이션 컨텍스트
+// 운영과 같은 Flyway 스키마로 메모리 H2 를 만들고, 실제 서비스 규모에 가까운 데이터를 JDBC 배치로 채운다.
+// 벤치마크마다(= fork 마다) 한 번 띄우며, 난수 시드를 고정해 실행마다 같은 데이터가 만들어진다.
+final class BenchmarkContext {
+
+	static final int INSTRUCTORS = 40;
+	static final int LEARNERS = 2000;
+	static final int CLASSES = 600;
+	static final int ENROLLMENTS_PER_LEARNER = 15;
+	static final int QUESTIONS = 200; // 벤치마크 퀴즈의 문제 은행 크기 (응시마다 20문제 추출)
+	static final String QUIZ_TYPE = "BENCHMARK";
+
+	private static final int BATCH = 1000;
+
+	private BenchmarkContext() {
+	}
+
+	static ConfigurableApplicationContext start() {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(LmsProjectApplication.class)
+				.web(WebApplicationType.SERVLET) // 운영과 같은 빈 구성 (인터셉터, 지표 등) - 포트는 임의 배정
+				.bannerMode(Banner.Mode.OFF)
+				.logStartupInfo(false)
+				.run("--spring.datasource.url=jdbc:h2:mem:lms-jmh;DB_CLOSE_DELAY=-1",
+						"--server.port=0",
+						"--spring.jpa.properties.hibernate.show_sql=false",
+						"--spring.jpa.properties.hibernate.format_sql=false",
+						"--lms.progress.flush-interval-ms=3600000", // 버퍼 반영은 벤치마크가 직접 호출
+						"--toss.secret-key=benchmark",
+						"--logging.level.root=WARN");
+		seed(context.getBean(JdbcTemplate.class));
+		context.getBean(SearchIndexer.class).rebuild(); // 기동 시점에는 데이터가 없었으므로 색인을 다시 만듦
+		return context;
+	}
+
+	private static void seed(JdbcTemplate jdbc) {
+		Random random = new Random(42);
+		LocalDateTime now = LocalDateTime.now();
+
+		jdbc.update("insert into level (level_id, level_name) values (1, '초급'), (2, '중급'), (3, '고급')");
+
+		List<Object[]> users = new ArrayList<>();
+		for (int i = 0; i < INSTRUCTORS + LEARNERS; i++) {
+			boolean instructor = i < INSTRUCTORS;
+			String id = (instructor ? "bench-inst-" : "bench-user-") + i;
+			users.add(new Object[] { id, id, id + "@bench.test", "{noop}pw",
+					instructor ? "ROLE_INSTRUCTOR" : "ROLE_LEARNER", 1 + random.nextInt(3),
+					Timestamp.valueOf(now.minusDays(random.nextInt(365))) });
+		}
+		batch(jdbc, "insert into site_user (user_id, user_name, email, password, role, level_id, user_cdate, "
+				+ "approved, is_paid) values (?, ?, ?, ?, ?, ?, ?, true, false)", users);
+		List<Long> instructors = jdbc.queryForList(
+				"select uno from site_user where role = 'ROLE_INSTRUCTOR' order by uno", Long.class);
+		List<Long> learners = jdbc.queryForList(
+				"select uno from site_user where role = 'ROLE_LEARNER' order by uno", Long.class);
+
+		List<Object[]> classes = new ArrayList<>();
+		for (int i = 0; i < CLASSES; i++) {
+			classes.add(new Object[] { "벤치마크 강의 " + i, "강의 소개 " + i, 1 + (i % 3),
+					instructors.get(i % instructors.size()), Timestamp.valueOf(now.minusHours(i)) });
+		}
+		batch(jdbc, "insert into classes (title, classes_content, level_id, uno, created_date) "
+				+ "values (?, ?, ?, ?, ?)", classes);
+		List<Long> classesIds = jdbc.queryForList("select classes_id from classes order by classes_id", Long.class);
+
+		// 인기 강의 쪽으로 치우친 수강 분포 (앞쪽 강의일수록 수강생이 많음), 약 40% 수료
+		List<Object[]> enrollments = new ArrayList<>();
+		for (Long uno : learners) {
+			Set<Long> picked = new HashSet<>();
+			while (picked.size() < ENROLLMENTS_PER_LEARNER) {
+				double skewed = Math.pow(random.nextDouble(), 2);
+				picked.add(classesIds.get((int) (skewed * classesIds.size())));
+			}
+			for (Long classesId : picked) {
+				boolean completed = random.nextInt(10) < 4;
+				enrollments.add(new Object[] { uno, classesId, completed ? 100 : random.nextInt(100), completed,
+						Timestamp.valueOf(now.minusDays(random.nextInt(180))) });
+			}
+		}
+		batch(jdbc, "insert into enrollment (uno, classes_id, progress, is_completed, enrollment_cdate) "
+				+ "values (?, ?, ?, ?, ?)", enrollments);
+		jdbc.update("update classes c set enrollment_count = "
+				+ "(select count(*) from enrollment e where e.classes_id = c.classes_id)");
+		jdbc.update("insert into learner_progress (uno, level_id, completed_count) "
+				+ "select e.uno, c.level_id, count(*) from enrollment e join classes c on c.classes_id = e.classes_id "
+				+ "where e.is_completed = true group by e.uno, c.level_id");
+
+		jdbc.update("insert into quiz (quiz_title, quiz_type, total_score) values ('벤치마크 퀴즈', ?, 100)", QUIZ_TYPE);
+		Long quizId = jdbc.queryForObject("select quiz_id from quiz where quiz_type = ?", Long.class, QUIZ_TYPE);
+		List<Object[]> questions = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			questions.add(new Object[] { quizId, "문제 " + i, "보기 " + i + "-1", "보기 " + i + "-2",
+					"보기 " + i + "-3", "보기 " + i + "-4", "보기 " + i + "-" + (1 + i % 4), 5 });
+		}
+		batch(jdbc, "insert into quiz_question (quiz_id, quiz_content, option1, option2, option3, option4, "
+				+ "correct_answer, score) values (?, ?, ?, ?, ?, ?, ?, ?)", questions);
+	}
+
+	private static void batch(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += BATCH) {
+			jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH)));
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.mysite.sbb.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesCatalog;
+import com.mysite.sbb.classes.ClassesService;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+// [추가] 강의 목록 (ClassesService.getList) - 수강생 레벨 상한 + 난이도 Specification 조회
+// cached=false 면 매번 카탈로그 캐시를 비워 Specification 쿼리(목록 + count)를 측정하고,
+// cached=true 면 같은 조건의 반복 조회(캐시된 id 로 한 번 조회)를 측정. 검색어 목록은 전문 검색 색인 경로
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ClassesListBenchmark {
+
+	private static final int PAGE_SIZE = 9; // ClassesController.list 와 같은 크기
+	private static final int PAGES = 10;
+
+	private ConfigurableApplicationContext context;
+	private ClassesService cService;
+	private Cache catalogCache;
+	private List<User> learners;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = BenchmarkContext.start();
+		cService = context.getBean(ClassesService.class);
+		catalogCache = context.getBean(CacheManager.class).getCache(ClassesCatalog.CATALOG_CACHE);
+		learners = context.getBean(UserRepository.class).findByRole(UserRole.ROLE_LEARNER);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public Page<Classes> browse(Catalog catalog) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (!catalog.cached) {
+			catalogCache.clear();
+		}
+		User learner = learners.get(random.nextInt(learners.size()));
+		return cService.getList(learner, "title", "", (long) random.nextInt(4), page(random));
+	}
+
+	@Benchmark
+	public Page<Classes> search() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		User learner = learners.get(random.nextInt(learners.size()));
+		return cService.getList(learner, "title", "강의 " + random.nextInt(100), 0L, page(random));
+	}
+
+	@State(Scope.Benchmark)
+	public static class Catalog {
+
+		@Param({ "true", "false" })
+		private boolean cached;
+	}
+
+	private static Pageable page(ThreadLocalRandom random) {
+		return PageRequest.of(random.nextInt(PAGES), PAGE_SIZE, Sort.by(Sort.Direction.DESC, "classesCdate"));
+	}
+}
@@ -0,0 +1,66 @@
+package com.mysite.sbb.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.enrollment.EnrollmentService;
+
+// [추가] 강의 목록 한 페이지(9개)의 수강생 수 집계
+// counterColumn: 현재 경로 (classes.enrollment_count 를 PK 로 조회)
+// groupBy: 비교용 - enrollment 를 GROUP BY 로 세는 쿼리 (수강 건수에 비례해 느려짐)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EnrollmentCountBenchmark {
+
+	private static final int PAGE_SIZE = 9;
+
+	private ConfigurableApplicationContext context;
+	private EnrollmentService eService;
+	private EnrollmentRepository enrollmentr;
+	private List<Classes> classes;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = BenchmarkContext.start();
+		eService = context.getBean(EnrollmentService.class);
+		enrollmentr = context.getBean(EnrollmentRepository.class);
+		classes = context.getBean(ClassesRepository.class).findAll();
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public Map<Long, Long> counterColumn() {
+		return eService.getEnrollmentCountsForClasses(randomPage());
+	}
+
+	@Benchmark
+	public List<Object[]> groupBy() {
+		return enrollmentr.countEnrollmentsByClasses(randomPage());
+	}
+
+	private List<Classes> randomPage() {
+		int from = ThreadLocalRandom.current().nextInt(classes.size() - PAGE_SIZE);
+		return classes.subList(from, from + PAGE_SIZE);
+	}
+}
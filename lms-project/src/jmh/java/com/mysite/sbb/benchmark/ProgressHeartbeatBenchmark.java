@@ -0,0 +1,75 @@
+package com.mysite.sbb.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mysite.sbb.enrollment.EnrollmentProgressBuffer;
+
+// [추가] 실시간 진도 heartbeat - 버퍼 기록(동시 시청자 여러 명)과, 한 주기 분량을 모은 뒤 배치 반영까지
+// 수료 기준 미만의 시청 시간만 보내서 매번 같은 경로(메모리 병합)를 측정
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProgressHeartbeatBenchmark {
+
+	private static final int HEARTBEATS_PER_FLUSH = 500;
+
+	private ConfigurableApplicationContext context;
+	private EnrollmentProgressBuffer buffer;
+	private long[][] keys; // 미수료 수강 (uno, classesId)
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = BenchmarkContext.start();
+		buffer = context.getBean(EnrollmentProgressBuffer.class);
+		List<long[]> rows = context.getBean(JdbcTemplate.class).query(
+				"select uno, classes_id from enrollment where is_completed = false",
+				(rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+		keys = rows.toArray(new long[0][]);
+	}
+
+	@TearDown(Level.Iteration)
+	public void drain() {
+		buffer.flush();
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void recordHeartbeat() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long[] key = keys[random.nextInt(keys.length)];
+		buffer.record(key[0], key[1], 1 + random.nextInt(EnrollmentProgressBuffer.TARGET_SECONDS - 1));
+	}
+
+	// ops/s 는 heartbeat 단위 (배치 UPDATE 비용을 heartbeat 수로 나눈 값)
+	@Benchmark
+	@OperationsPerInvocation(HEARTBEATS_PER_FLUSH)
+	public void recordThenFlush() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < HEARTBEATS_PER_FLUSH; i++) {
+			long[] key = keys[random.nextInt(keys.length)];
+			buffer.record(key[0], key[1], 1 + random.nextInt(EnrollmentProgressBuffer.TARGET_SECONDS - 1));
+		}
+		buffer.flush();
+	}
+}
@@ -0,0 +1,114 @@
+package com.mysite.sbb.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.quiz_answer.QuizAnswerForm;
+import com.mysite.sbb.quiz_answer.QuizAnswerRepository;
+import com.mysite.sbb.quiz_attempt.QuizAttempt;
+import com.mysite.sbb.quiz_attempt.QuizAttemptService;
+import com.mysite.sbb.quiz_question.QuizQuestion;
+import com.mysite.sbb.quiz_question.QuizQuestionSampler;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+// [추가] 퀴즈 응시 핫 패스 - 문제 추출, 응시 시작(추출 + 빈 답안 배치 INSERT), 채점
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class QuizBenchmark {
+
+	private static final int QUESTIONS_PER_ATTEMPT = 20;
+
+	private ConfigurableApplicationContext context;
+	private QuizAttemptService qAttemptService;
+	private QuizQuestionSampler qQuestionSampler;
+	private QuizAnswerRepository qAnswerr;
+	private Quiz quiz;
+	private List<User> learners;
+	private Map<Long, String> correctAnswers; // 문제 id → 정답
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = BenchmarkContext.start();
+		qAttemptService = context.getBean(QuizAttemptService.class);
+		qQuestionSampler = context.getBean(QuizQuestionSampler.class);
+		qAnswerr = context.getBean(QuizAnswerRepository.class);
+		quiz = context.getBean(QuizRepository.class).findByQuizType(BenchmarkContext.QUIZ_TYPE).orElseThrow();
+		learners = context.getBean(UserRepository.class).findByRole(UserRole.ROLE_LEARNER);
+		correctAnswers = new HashMap<>();
+		context.getBean(JdbcTemplate.class).query("select question_id, correct_answer from quiz_question",
+				rs -> {
+					correctAnswers.put(rs.getLong(1), rs.getString(2));
+				});
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<QuizQuestion> sampleQuestions() {
+		return qQuestionSampler.sample(quiz.getQuizId(), QUESTIONS_PER_ATTEMPT);
+	}
+
+	@Benchmark
+	public QuizAttempt startAttempt() {
+		return qAttemptService.startAttempt(quiz, randomLearner());
+	}
+
+	// 채점은 응시 기록마다 한 번만 가능하므로, 호출마다 새 응시와 답안지를 준비 (준비 시간은 측정에서 제외)
+	@Benchmark
+	public QuizAttempt gradeSubmission(Submission submission) {
+		return qAttemptService.submitAnswersAndGrade(submission.attemptId, submission.forms, submission.user);
+	}
+
+	@State(Scope.Thread)
+	public static class Submission {
+
+		private long attemptId;
+		private List<QuizAnswerForm> forms;
+		private User user;
+
+		@Setup(Level.Invocation)
+		public void prepare(QuizBenchmark benchmark) {
+			user = benchmark.randomLearner();
+			attemptId = benchmark.qAttemptService.startAttempt(benchmark.quiz, user).getAttemptId();
+			forms = new ArrayList<>(QUESTIONS_PER_ATTEMPT);
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for (Object[] row : benchmark.qAnswerr.findQuestionIdsByAttemptId(attemptId)) {
+				QuizAnswerForm form = new QuizAnswerForm();
+				form.setQAnswerId((Long) row[0]);
+				form.setQQuestionId((Long) row[1]);
+				// 약 70% 정답 - 최소 한 문제는 맞혀야 점수가 0 이 아니게 됨
+				form.setUserAnswer(forms.isEmpty() || random.nextInt(10) < 7
+						? benchmark.correctAnswers.get(row[1]) : "오답");
+				forms.add(form);
+			}
+		}
+	}
+
+	private User randomLearner() {
+		return learners.get(ThreadLocalRandom.current().nextInt(learners.size()));
+	}
+}
@@ -0,0 +1,72 @@
+package com.mysite.sbb.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [추가] 엔드포인트별 응답 시간 기록 - 측정 구간이 끝난 뒤 백분위수(p50/p99)와 처리량을 계산
+class LatencyStats {
+
+	private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+	void record(String endpoint, long nanos, boolean ok) {
+		series.computeIfAbsent(endpoint, key -> new Series()).add(nanos, ok);
+	}
+
+	// endpoint → { count, errors, throughputPerSecond, p50Ms, p99Ms, maxMs } (이름순)
+	Map<String, Map<String, Object>> summary(double seconds) {
+		Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+		for (Map.Entry<String, Series> entry : new TreeMap<>(series).entrySet()) {
+			result.put(entry.getKey(), entry.getValue().summary(seconds));
+		}
+		return result;
+	}
+
+	private static final class Series {
+
+		private long[] nanos = new long[1024];
+		private int count;
+		private int errors;
+
+		synchronized void add(long value, boolean ok) {
+			if (count == nanos.length) {
+				nanos = Arrays.copyOf(nanos, count * 2);
+			}
+			nanos[count++] = value;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		synchronized Map<String, Object> summary(double seconds) {
+			long[] sorted = Arrays.copyOf(nanos, count);
+			Arrays.sort(sorted);
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("count", count);
+			row.put("errors", errors);
+			row.put("throughputPerSecond", round(count / seconds));
+			row.put("p50Ms", millis(percentile(sorted, 0.50)));
+			row.put("p99Ms", millis(percentile(sorted, 0.99)));
+			row.put("maxMs", millis(count == 0 ? 0 : sorted[count - 1]));
+			return row;
+		}
+
+		private static long percentile(long[] sorted, double p) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(p * sorted.length) - 1;
+			return sorted[Math.max(0, index)];
+		}
+
+		private static double millis(long nanos) {
+			return round(nanos / 1_000_000.0);
+		}
+
+		private static double round(double value) {
+			return Math.round(value * 100) / 100.0;
+		}
+	}
+}
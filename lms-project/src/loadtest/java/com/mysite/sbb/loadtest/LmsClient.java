@@ -0,0 +1,226 @@
+package com.mysite.sbb.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// [추가] 가상 사용자 한 명의 브라우저 역할 - 세션 쿠키와 CSRF 토큰을 유지하며 폼 요청을 보냄
+// 리다이렉트는 따라가지 않고(요청 하나 = 측정 하나) Location 헤더로 다음 단계를 판단한다.
+class LmsClient {
+
+	static final String PASSWORD = "Load123!";
+
+	private static final Pattern INPUT = Pattern.compile("<input\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+	private static final Pattern ATTRIBUTE = Pattern.compile("\\b(type|name|value)=\"([^\"]*)\"");
+	private static final Pattern EXAM = Pattern.compile("/quiz_attempt/exam/(\\d+)");
+
+	private final HttpClient http;
+	private final URI base;
+	private final LatencyStats stats;
+
+	private String session; // JSESSIONID
+	private String csrf;
+
+	LmsClient(HttpClient http, URI base, LatencyStats stats) {
+		this.http = http;
+		this.base = base;
+		this.stats = stats;
+	}
+
+	// 회원가입 (수강생) - 레벨 테스트 응시는 가입 후 서버에서 비동기로 준비됨
+	boolean signup(String userId) {
+		get("signup.form", "/user/signup");
+		Map<String, String> form = new LinkedHashMap<>();
+		form.put("userName", userId);
+		form.put("userId", userId);
+		form.put("email", userId + "@load.test");
+		form.put("password", PASSWORD);
+		form.put("password1", PASSWORD);
+		form.put("role", "ROLE_LEARNER");
+		form.put("isPaid", "false");
+		return post("signup", "/user/signup", form, "/user/login") != null;
+	}
+
+	// 로그인 - 레벨 테스트를 아직 보지 않았으면 응시 id 를 돌려줌
+	Long login(String userId) {
+		get("login.form", "/user/login");
+		String location = post("login", "/user/login", Map.of("userid", userId, "password", PASSWORD), "/");
+		if (location == null || location.contains("error")) {
+			return null;
+		}
+		Matcher exam = EXAM.matcher(location);
+		if (exam.find()) {
+			return Long.valueOf(exam.group(1));
+		}
+		get("mainpage", "/mainpage"); // 로그인 후 새 CSRF 토큰
+		return null;
+	}
+
+	// 퀴즈 풀이 화면을 읽고 보기 중 하나씩 골라 제출
+	boolean submitQuiz(long attemptId) {
+		String html = get("quiz.exam", "/quiz_attempt/exam/" + attemptId);
+		if (html == null) {
+			return false;
+		}
+		Map<String, String> form = new LinkedHashMap<>();
+		Map<String, List<String>> choices = new LinkedHashMap<>();
+		for (String[] input : inputs(html)) {
+			String type = input[0];
+			String name = input[1];
+			if (name.startsWith("answerForms[") && "hidden".equalsIgnoreCase(type)) {
+				form.put(name, input[2]);
+			} else if (name.startsWith("answerForms[") && "radio".equalsIgnoreCase(type)) {
+				choices.computeIfAbsent(name, key -> new ArrayList<>()).add(input[2]);
+			}
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		choices.forEach((name, values) -> form.put(name, values.get(random.nextInt(values.size()))));
+		return post("quiz.submit", "/quiz_attempt/" + attemptId + "/submit", form, "/result") != null;
+	}
+
+	// 연습 퀴즈 응시 시작 → 풀이 → 제출
+	boolean takeQuiz(long quizId) {
+		String location = post("quiz.start", "/quiz_attempt/start/" + quizId, Map.of(), "/quiz_attempt/exam/");
+		if (location == null) {
+			return false;
+		}
+		Matcher exam = EXAM.matcher(location);
+		return exam.find() && submitQuiz(Long.parseLong(exam.group(1)));
+	}
+
+	// 강의 상세 화면의 수강 신청 폼으로 신청 (레벨 테스트 응시 없이 로그인한 경우 여기서 첫 CSRF 토큰을 받음)
+	boolean enroll(long classesId) {
+		if (get("classes.detail", "/classes/" + classesId) == null) {
+			return false;
+		}
+		return post("enroll", "/enrollment/create/" + classesId, Map.of(), "/classes/" + classesId) != null;
+	}
+
+	// 시청 페이지가 1초마다 보내는 진도 heartbeat
+	boolean heartbeat(long classesId, int watchedSeconds) {
+		return post("heartbeat", "/enrollment/progress/" + classesId,
+				Map.of("watched_seconds", String.valueOf(watchedSeconds)), null) != null;
+	}
+
+	boolean searchClasses(String kw, int page) {
+		return get("classes.list", "/classes/list?kw=" + encode(kw) + "&page=" + page) != null;
+	}
+
+	boolean postQuestion(long classesId) {
+		Map<String, String> form = new LinkedHashMap<>();
+		form.put("classId", String.valueOf(classesId));
+		form.put("title", "부하 테스트 질문 " + System.nanoTime());
+		form.put("quesContent", "강의 내용 중 이해가 안 되는 부분이 있습니다.");
+		return post("question.create", "/question/create", form, "/question/list") != null;
+	}
+
+	// GET - 200 이면 본문, 아니면 null
+	private String get(String endpoint, String path) {
+		HttpResponse<String> response = send(endpoint, request(path).GET().build(), 200);
+		if (response == null) {
+			return null;
+		}
+		captureCsrf(response.body());
+		return response.body();
+	}
+
+	// POST (폼) - expectRedirect 가 있으면 302 + Location 포함 여부로, 없으면 200 으로 성공 판단
+	private String post(String endpoint, String path, Map<String, String> form, String expectRedirect) {
+		StringJoiner body = new StringJoiner("&");
+		form.forEach((key, value) -> body.add(encode(key) + "=" + encode(value)));
+		if (csrf != null) {
+			body.add("_csrf=" + encode(csrf));
+		}
+		HttpRequest request = request(path)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+				.build();
+		HttpResponse<String> response = send(endpoint, request, expectRedirect == null ? 200 : 302);
+		if (response == null) {
+			return null;
+		}
+		if (expectRedirect == null) {
+			return "";
+		}
+		String location = response.headers().firstValue("Location").orElse("");
+		return location.contains(expectRedirect) ? location : null;
+	}
+
+	private HttpRequest.Builder request(String path) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path));
+		if (session != null) {
+			builder.header("Cookie", "JSESSIONID=" + session);
+		}
+		return builder;
+	}
+
+	private HttpResponse<String> send(String endpoint, HttpRequest request, int expectedStatus) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+			boolean ok = response.statusCode() == expectedStatus;
+			stats.record(endpoint, System.nanoTime() - start, ok);
+			response.headers().allValues("Set-Cookie").stream()
+					.filter(cookie -> cookie.startsWith("JSESSIONID="))
+					.findFirst()
+					.ifPresent(cookie -> session = cookie.substring("JSESSIONID=".length(), cookie.indexOf(';')));
+			return ok ? response : null;
+		} catch (IOException e) {
+			stats.record(endpoint, System.nanoTime() - start, false);
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private void captureCsrf(String html) {
+		for (String[] input : inputs(html)) {
+			if ("_csrf".equals(input[1])) {
+				csrf = input[2];
+				return;
+			}
+		}
+	}
+
+	// <input> 태그의 (type, name, value)
+	private static List<String[]> inputs(String html) {
+		List<String[]> inputs = new ArrayList<>();
+		Matcher tag = INPUT.matcher(html);
+		while (tag.find()) {
+			String[] input = { "", "", "" };
+			Matcher attribute = ATTRIBUTE.matcher(tag.group());
+			while (attribute.find()) {
+				int index = switch (attribute.group(1)) {
+				case "type" -> 0;
+				case "name" -> 1;
+				default -> 2;
+				};
+				input[index] = unescape(attribute.group(2));
+			}
+			inputs.add(input);
+		}
+		return inputs;
+	}
+
+	private static String unescape(String value) {
+		return value.replace("&quot;", "\"").replace("&#39;", "'").replace("&lt;", "<").replace("&gt;", ">")
+				.replace("&amp;", "&");
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,402 @@
+package com.mysite.sbb.loadtest;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysite.sbb.AdmissionLimitedDataSource;
+import com.mysite.sbb.LmsProjectApplication;
+import com.mysite.sbb.enrollment.EnrollmentProgressBuffer;
+import com.mysite.sbb.search.SearchIndexer;
+
+// [추가] 부하 테스트 - 메모리 H2 로 애플리케이션을 띄우고, 가상 사용자들이 실제 트래픽 비율대로 요청을 보냄
+// 가상 사용자 1명 = 가입 → 로그인 → 레벨 테스트 제출 → 수강 신청 후, 1초마다 아래 비율로 행동 하나
+//   시청 heartbeat 70 / 강의 목록·검색 15 / 신규 가입 5 / 연습 퀴즈 응시 5 / 질문 등록 5
+// 결과: 엔드포인트별 처리량, p50/p99 응답 시간(ms)을 JSON 으로 저장 (gradle loadTest, build.gradle 참고)
+// [추가] load.compare=true 면 같은 트래픽을 4가지 설정 (플랫폼/가상 스레드 x DB 동시 사용 상한 없음/있음)으로 재생하고
+// 결과를 한 보고서에 나란히 저장. 설정마다 새 JVM 을 띄워 앞 설정의 JIT/힙 상태가 다음 설정에 이어지지 않게 하고,
+// 각 JVM 안에서는 버리는 예열 구간(load.warmup 초)을 먼저 재생한다.
+public final class LoadTest {
+
+	private static final String[] KEYWORDS = { "자바", "스프링", "데이터베이스", "파이썬", "네트워크", "알고리즘" };
+
+	private static final int CLASSES = 200;
+	private static final int INSTRUCTORS = 20;
+	private static final int LEVEL_TEST_QUESTIONS = 60;
+	private static final int PRACTICE_QUESTIONS = 100;
+
+	private enum Action {
+		HEARTBEAT(70), SEARCH(15), SIGNUP(5), QUIZ(5), QUESTION(5);
+
+		private final int weight;
+
+		Action(int weight) {
+			this.weight = weight;
+		}
+
+		static Action pick(ThreadLocalRandom random) {
+			int roll = random.nextInt(100);
+			for (Action action : values()) {
+				roll -= action.weight;
+				if (roll < 0) {
+					return action;
+				}
+			}
+			return HEARTBEAT;
+		}
+	}
+
+	// 비교 시나리오 - 스레드 종류(vthreads 프로필)와 DB 동시 사용 상한(dbadmission 프로필)을 따로 켬
+	private enum Scenario {
+		PLATFORM(""), PLATFORM_LIMITED("dbadmission"), VIRTUAL("vthreads"), VIRTUAL_LIMITED("vthreads,dbadmission");
+
+		private final String profiles;
+
+		Scenario(String profiles) {
+			this.profiles = profiles;
+		}
+
+		String key() {
+			return name().toLowerCase().replace('_', '-');
+		}
+
+		String appArgs(String appArgs) {
+			return profiles.isEmpty() ? appArgs : appArgs + " --spring.profiles.active=" + profiles;
+		}
+
+		static Scenario of(String key) {
+			for (Scenario scenario : values()) {
+				if (scenario.key().equals(key)) {
+					return scenario;
+				}
+			}
+			throw new IllegalArgumentException("unknown scenario: " + key);
+		}
+	}
+
+	private final int users = Integer.getInteger("load.users", 100);
+	private final int rampUpSeconds = Integer.getInteger("load.rampup", 10);
+	private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+	private final String scenario;
+	private final String appArgs;
+	private final int durationSeconds;
+	private final LatencyStats stats = new LatencyStats();
+
+	private List<Long> classesIds;
+	private long practiceQuizId;
+	private HttpClient http;
+	private URI base;
+
+	private LoadTest(String scenario, String appArgs, int durationSeconds) {
+		this.scenario = scenario;
+		this.appArgs = appArgs;
+		this.durationSeconds = durationSeconds;
+	}
+
+	public static void main(String[] args) throws Exception {
+		String appArgs = System.getProperty("load.appArgs", "");
+		String output = System.getProperty("load.output", "build/results/loadtest/results.json");
+		int duration = Integer.getInteger("load.duration", 60);
+		String forked = System.getProperty("load.scenario");
+		if (forked != null) {
+			// 비교 모드가 띄운 JVM - 시나리오 하나만 예열 후 재생
+			Scenario scenario = Scenario.of(forked);
+			int warmup = Integer.getInteger("load.warmup", 30);
+			if (warmup > 0) {
+				new LoadTest(scenario.key() + "-warmup", scenario.appArgs(appArgs), warmup).run();
+			}
+			writeReport(output, new LoadTest(scenario.key(), scenario.appArgs(appArgs), duration).run());
+			System.exit(0);
+		}
+		if (!Boolean.getBoolean("load.compare")) {
+			writeReport(output, new LoadTest("default", appArgs, duration).run());
+			System.exit(0);
+		}
+
+		File dir = new File(output).getAbsoluteFile().getParentFile();
+		Map<String, Map<String, Object>> scenarios = new LinkedHashMap<>();
+		for (Scenario scenario : Scenario.values()) {
+			scenarios.put(scenario.key(), fork(scenario, new File(dir, "scenario-" + scenario.key() + ".json")));
+		}
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("javaVersion", System.getProperty("java.version"));
+		report.put("scenarios", scenarios);
+		writeReport(output, report);
+		printComparison(scenarios);
+		System.exit(0);
+	}
+
+	// 시나리오 하나를 같은 java / 클래스패스 / JVM 옵션의 새 JVM 에서 실행하고 그 보고서를 읽음
+	private static Map<String, Object> fork(Scenario scenario, File output) throws Exception {
+		List<String> command = new ArrayList<>();
+		command.add(ProcessHandle.current().info().command()
+				.orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java"));
+		for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			if (!arg.startsWith("-Dload.compare=") && !arg.startsWith("-Dload.output=")) {
+				command.add(arg);
+			}
+		}
+		command.add("-Dload.scenario=" + scenario.key());
+		command.add("-Dload.output=" + output.getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(LoadTest.class.getName());
+
+		int exit = new ProcessBuilder(command).inheritIO().start().waitFor();
+		if (exit != 0) {
+			throw new IllegalStateException("scenario " + scenario.key() + " failed (exit " + exit + ")");
+		}
+		return new ObjectMapper().readValue(output, new TypeReference<Map<String, Object>>() {
+		});
+	}
+
+	private Map<String, Object> run() throws Exception {
+		ConfigurableApplicationContext app = start();
+		seed(app.getBean(JdbcTemplate.class));
+		app.getBean(SearchIndexer.class).rebuild();
+		base = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+
+		ExecutorService executor = perTaskExecutor();
+		http = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.build();
+
+		String serverThreads = Threading.VIRTUAL.isActive(app.getEnvironment()) ? "virtual" : "platform";
+		System.out.printf("load test [%s]: %d users, %ds (ramp-up %ds), client %s threads, server %s threads%n",
+				scenario, users, durationSeconds, rampUpSeconds, threadKind(executor), serverThreads);
+		long started = System.nanoTime();
+		long deadline = started + TimeUnit.SECONDS.toNanos(durationSeconds);
+		for (int i = 0; i < users; i++) {
+			long delay = TimeUnit.SECONDS.toNanos(rampUpSeconds) * i / users;
+			int n = i;
+			executor.execute(() -> virtualUser(n, started + delay, deadline));
+		}
+		executor.shutdown();
+		executor.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+		double elapsed = (System.nanoTime() - started) / 1e9;
+
+		app.getBean(EnrollmentProgressBuffer.class).flush();
+		Map<String, Object> report = report(elapsed, threadKind(executor), serverThreads,
+				admissionPermits(app.getBean(DataSource.class)));
+		app.close();
+		return report;
+	}
+
+	private void virtualUser(int n, long startAt, long deadline) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		sleepUntil(startAt);
+		LmsClient client = new LmsClient(http, base, stats);
+		String userId = "load" + runId + "u" + n;
+		if (!client.signup(userId)) {
+			return;
+		}
+		Long levelTest = client.login(userId);
+		if (levelTest != null) {
+			client.submitQuiz(levelTest);
+		}
+
+		long classesId = randomClasses(random);
+		client.enroll(classesId);
+		int watched = 0;
+		int signups = 0;
+		while (System.nanoTime() < deadline) {
+			long tick = System.nanoTime();
+			switch (Action.pick(random)) {
+			case HEARTBEAT -> {
+				client.heartbeat(classesId, ++watched);
+				if (watched > 2 * EnrollmentProgressBuffer.TARGET_SECONDS) { // 다 보고 다음 강의로
+					classesId = randomClasses(random);
+					client.enroll(classesId);
+					watched = 0;
+				}
+			}
+			case SEARCH -> client.searchClasses(random.nextBoolean() ? KEYWORDS[random.nextInt(KEYWORDS.length)] : "",
+					random.nextInt(5));
+			case SIGNUP -> new LmsClient(http, base, stats).signup(userId + "s" + (++signups)); // 로그인하지 않는 신규 가입
+			case QUIZ -> client.takeQuiz(practiceQuizId);
+			case QUESTION -> client.postQuestion(classesId);
+			}
+			sleepUntil(tick + TimeUnit.SECONDS.toNanos(1));
+		}
+	}
+
+	private long randomClasses(ThreadLocalRandom random) {
+		return classesIds.get(random.nextInt(classesIds.size()));
+	}
+
+	private static void sleepUntil(long nanoTime) {
+		long remaining = nanoTime - System.nanoTime();
+		if (remaining > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(remaining);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private ConfigurableApplicationContext start() {
+		List<String> args = new ArrayList<>(List.of(
+				"--spring.datasource.url=jdbc:h2:mem:lms-load-" + scenario + ";DB_CLOSE_DELAY=-1",
+				"--server.port=0",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--spring.jpa.properties.hibernate.format_sql=false",
+				"--spring.thymeleaf.cache=true",
+				"--toss.secret-key=loadtest",
+				"--logging.level.root=WARN"));
+		for (String arg : appArgs.trim().split("\\s+")) {
+			if (!arg.isEmpty()) {
+				args.add(arg);
+			}
+		}
+		return new SpringApplicationBuilder(LmsProjectApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.bannerMode(Banner.Mode.OFF)
+				.logStartupInfo(false)
+				.run(args.toArray(String[]::new));
+	}
+
+	// 강사 / 강의 / 레벨 테스트 / 연습 퀴즈 (수강생은 부하 테스트 중 가입으로 만들어짐)
+	private void seed(JdbcTemplate jdbc) {
+		jdbc.update("insert into level (level_id, level_name) values (1, '초급'), (2, '중급'), (3, '고급')");
+
+		List<Object[]> instructors = new ArrayList<>();
+		for (int i = 0; i < INSTRUCTORS; i++) {
+			String id = "load-inst-" + i;
+			instructors.add(new Object[] { id, id, id + "@load.test" });
+		}
+		jdbc.batchUpdate("insert into site_user (user_id, user_name, email, password, role, user_cdate, approved, "
+				+ "is_paid) values (?, ?, ?, '{noop}pw', 'ROLE_INSTRUCTOR', current_timestamp, true, false)",
+				instructors);
+		List<Long> instructorUnos = jdbc.queryForList(
+				"select uno from site_user where role = 'ROLE_INSTRUCTOR' order by uno", Long.class);
+
+		List<Object[]> classes = new ArrayList<>();
+		for (int i = 0; i < CLASSES; i++) {
+			classes.add(new Object[] { KEYWORDS[i % KEYWORDS.length] + " 강의 " + i, "강의 소개 " + i,
+					i % 4 == 0 ? 2 : 1, instructorUnos.get(i % instructorUnos.size()) });
+		}
+		jdbc.batchUpdate("insert into classes (title, classes_content, level_id, uno, created_date) "
+				+ "values (?, ?, ?, ?, current_timestamp)", classes);
+		classesIds = jdbc.queryForList("select classes_id from classes", Long.class);
+
+		insertQuiz(jdbc, "LEVEL_TEST", "레벨 테스트", LEVEL_TEST_QUESTIONS);
+		practiceQuizId = insertQuiz(jdbc, "PRACTICE", "연습 퀴즈", PRACTICE_QUESTIONS);
+	}
+
+	private static long insertQuiz(JdbcTemplate jdbc, String type, String title, int questions) {
+		jdbc.update("insert into quiz (quiz_title, quiz_type, total_score) values (?, ?, 100)", title, type);
+		Long quizId = jdbc.queryForObject("select quiz_id from quiz where quiz_type = ?", Long.class, type);
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < questions; i++) {
+			rows.add(new Object[] { quizId, title + " 문제 " + i, "보기 " + i + "-1", "보기 " + i + "-2",
+					"보기 " + i + "-3", "보기 " + i + "-4", "보기 " + i + "-" + (1 + i % 4) });
+		}
+		jdbc.batchUpdate("insert into quiz_question (quiz_id, quiz_content, option1, option2, option3, option4, "
+				+ "correct_answer, score) values (?, ?, ?, ?, ?, ?, ?, 5)", rows);
+		return quizId;
+	}
+
+	private Map<String, Object> report(double elapsedSeconds, String clientThreads, String serverThreads,
+			Integer dbPermits) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("scenario", scenario);
+		report.put("users", users);
+		report.put("durationSeconds", Math.round(elapsedSeconds * 100) / 100.0);
+		report.put("rampUpSeconds", rampUpSeconds);
+		report.put("clientThreads", clientThreads);
+		report.put("serverThreads", serverThreads);
+		report.put("dbAdmissionPermits", dbPermits);
+		report.put("javaVersion", System.getProperty("java.version"));
+		report.put("appArgs", appArgs.trim());
+		Map<String, Map<String, Object>> endpoints = stats.summary(elapsedSeconds);
+		report.put("endpoints", endpoints);
+
+		System.out.printf("%-16s %8s %7s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)");
+		endpoints.forEach((endpoint, row) -> System.out.printf("%-16s %8s %7s %9s %9s %9s%n", endpoint,
+				row.get("count"), row.get("errors"), row.get("throughputPerSecond"), row.get("p50Ms"), row.get("p99Ms")));
+		return report;
+	}
+
+	private static void writeReport(String output, Map<String, Object> report) throws Exception {
+		File file = new File(output);
+		file.getAbsoluteFile().getParentFile().mkdirs();
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, report);
+		System.out.println("report: " + file.getAbsolutePath());
+	}
+
+	// 엔드포인트별 처리량 / p99 / 오류 수를 시나리오별로 나란히 출력
+	private static void printComparison(Map<String, Map<String, Object>> scenarios) {
+		System.out.printf("%njava %s%n", System.getProperty("java.version"));
+		scenarios.forEach((name, report) -> System.out.printf("%-16s server threads %s, db permits %s%n", name,
+				report.get("serverThreads"), report.get("dbAdmissionPermits")));
+		printMetric(scenarios, "req/s", "throughputPerSecond");
+		printMetric(scenarios, "p99(ms)", "p99Ms");
+		printMetric(scenarios, "errors", "errors");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void printMetric(Map<String, Map<String, Object>> scenarios, String title, String metric) {
+		System.out.printf("%n%-16s", title);
+		scenarios.keySet().forEach(name -> System.out.printf(" %16s", name));
+		System.out.println();
+		Map<String, Object> first = scenarios.values().iterator().next();
+		for (String endpoint : ((Map<String, Object>) first.get("endpoints")).keySet()) {
+			System.out.printf("%-16s", endpoint);
+			for (Map<String, Object> report : scenarios.values()) {
+				Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+				System.out.printf(" %16s", endpoints.getOrDefault(endpoint, Map.of()).get(metric));
+			}
+			System.out.println();
+		}
+	}
+
+	private static Integer admissionPermits(DataSource dataSource) {
+		try {
+			return dataSource.isWrapperFor(AdmissionLimitedDataSource.class)
+					? dataSource.unwrap(AdmissionLimitedDataSource.class).getMaxPermits()
+					: null;
+		} catch (SQLException e) {
+			return null;
+		}
+	}
+
+	// Java 21 이상에서 실행하면 가상 스레드, 아니면 작업마다 새 플랫폼 스레드
+	// (빌드는 Java 17 이므로 리플렉션으로 확인)
+	private static ExecutorService perTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+	private static String threadKind(ExecutorService executor) {
+		return executor.getClass().getName().contains("ThreadPerTask") ? "virtual" : "platform";
+	}
+}
@@ -0,0 +1,130 @@
+package com.mysite.sbb;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// [추가] DB 동시 사용 상한 - 커넥션을 빌리기 전에 허가(permit)를 받고, 커넥션을 닫을 때 돌려줌
+// 가상 스레드로 요청을 받으면 요청 스레드 수에 상한이 없으므로, 커넥션 풀 앞에서 FIFO 로 줄을 세운다.
+// (기다리는 동안은 가상 스레드가 park 될 뿐이라 비용이 작고, DB 를 쓰지 않는 요청은 줄과 무관하게 처리됨)
+// 제한 시간 안에 허가를 받지 못하면 풀 대기 시간 초과와 같은 SQLTransientConnectionException
+public class AdmissionLimitedDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxPermits;
+	private final long timeoutMillis;
+
+	public AdmissionLimitedDataSource(DataSource target, int maxPermits, long timeoutMillis) {
+		super(target);
+		if (maxPermits < 1) {
+			throw new IllegalArgumentException("허가 수는 1 이상이어야 합니다: " + maxPermits);
+		}
+		this.permits = new Semaphore(maxPermits, true);
+		this.maxPermits = maxPermits;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		return admitted(() -> obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		return admitted(() -> obtainTargetDataSource().getConnection(username, password));
+	}
+
+	public int getMaxPermits() {
+		return maxPermits;
+	}
+
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	// 허가를 기다리는 스레드 수 (근사값)
+	public int getQueueLength() {
+		return permits.getQueueLength();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new SQLTransientConnectionException(
+						"DB 동시 사용 상한(" + maxPermits + ")에 걸려 " + timeoutMillis + "ms 안에 커넥션을 받지 못했습니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트되었습니다.", e);
+		}
+	}
+
+	// 풀에서 커넥션을 받지 못하면 허가를 바로 돌려줌
+	private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+		Connection target;
+		try {
+			target = supplier.get();
+		} catch (SQLException | RuntimeException | Error e) {
+			permits.release();
+			throw e;
+		}
+		return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+				new Class<?>[] { ConnectionProxy.class }, new ReleaseOnClose(target));
+	}
+
+	private interface ConnectionSupplier {
+		Connection get() throws SQLException;
+	}
+
+	// close() 는 여러 번 불려도 허가는 한 번만 반환
+	private final class ReleaseOnClose implements InvocationHandler {
+
+		private final Connection target;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		ReleaseOnClose(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "getTargetConnection":
+				return target;
+			case "close":
+				try {
+					target.close();
+				} finally {
+					if (released.compareAndSet(false, true)) {
+						permits.release();
+					}
+				}
+				return null;
+			default:
+				try {
+					return method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.mysite.sbb;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// [추가] 비동기 작업 스레드 풀 - 요청 스레드에서 분리한 후속 작업용 (가입 후 레벨 테스트 준비)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+	public static final String ONBOARDING_EXECUTOR = "onboardingExecutor";
+
+	// 대기열이 가득 차면 버림 - 작업은 onboarding_task 에 PENDING 으로 남아 있으므로 주기 재처리가 이어받음
+	// (가입 요청 스레드가 대신 실행하거나 예외를 받지 않도록)
+	@Bean(name = ONBOARDING_EXECUTOR)
+	public ThreadPoolTaskExecutor onboardingExecutor(@Value("${lms.onboarding.threads:2}") int threads,
+			@Value("${lms.onboarding.queue-capacity:10000}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("onboarding-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+}
@@ -0,0 +1,97 @@
+package com.mysite.sbb;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// [추가] 커서(키셋) 페이징 위치 - URL 에는 Base64 로 인코딩한 불투명 문자열(?cursor=...)로만 노출
+// offset: 이 페이지 첫 행의 순번 (번호 표시 / 검색 결과처럼 offset 으로만 넘길 수 있는 목록용)
+// position: 직전 페이지 마지막(이전 페이지로 갈 때는 첫) 행의 정렬 키 값 - WHERE (정렬 키) < (값) 으로 바로 찾아감
+public record Cursor(long offset, KeysetScrollPosition position) {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	// 첫 페이지
+	public static Cursor first() {
+		return new Cursor(0, ScrollPosition.keyset());
+	}
+
+	// offset 만 있는 위치 (검색 결과 목록)
+	public static Cursor ofOffset(long offset) {
+		return new Cursor(offset, ScrollPosition.keyset());
+	}
+
+	public boolean isBackward() {
+		return position.scrollsBackward();
+	}
+
+	// "offset|F|quesDate=T:2025-01-01T10:00;boardQuesId=L:12" 형태를 Base64 로 인코딩
+	public String encode() {
+		StringBuilder text = new StringBuilder()
+				.append(offset).append('|')
+				.append(isBackward() ? 'B' : 'F').append('|');
+		String sep = "";
+		for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+			text.append(sep).append(key.getKey()).append('=').append(encodeValue(key.getValue()));
+			sep = ";";
+		}
+		return ENCODER.encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 빈 값이면 첫 페이지, 형식이 잘못되면 400
+	public static Cursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return first();
+		}
+		try {
+			String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+			if (parts.length != 3) {
+				throw new IllegalArgumentException(cursor);
+			}
+			long offset = Math.max(0, Long.parseLong(parts[0]));
+			Map<String, Object> keys = new LinkedHashMap<>();
+			if (!parts[2].isEmpty()) {
+				for (String entry : parts[2].split(";")) {
+					int eq = entry.indexOf('=');
+					keys.put(entry.substring(0, eq), decodeValue(entry.substring(eq + 1)));
+				}
+			}
+			KeysetScrollPosition position = "B".equals(parts[1])
+					? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+			return new Cursor(offset, position);
+		} catch (RuntimeException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 위치입니다.");
+		}
+	}
+
+	private static String encodeValue(Object value) {
+		if (value instanceof Long) {
+			return "L:" + value;
+		}
+		if (value instanceof Integer) {
+			return "I:" + value;
+		}
+		if (value instanceof LocalDateTime) {
+			return "T:" + value;
+		}
+		throw new IllegalArgumentException("커서에 담을 수 없는 정렬 키 타입: " + value);
+	}
+
+	private static Object decodeValue(String value) {
+		String raw = value.substring(2);
+		return switch (value.charAt(0)) {
+		case 'L' -> Long.valueOf(raw);
+		case 'I' -> Integer.valueOf(raw);
+		case 'T' -> LocalDateTime.parse(raw);
+		default -> throw new IllegalArgumentException(value);
+		};
+	}
+}
@@ -0,0 +1,104 @@
+package com.mysite.sbb;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+// [추가] 커서 페이징 결과 - pagination.html 의 cursor 프래그먼트가 이전/다음 버튼만 그린다 (COUNT 쿼리 없음)
+// 템플릿이 기존 Page 처럼 쓸 수 있도록 size / content / hasContent / isEmpty 를 같은 이름으로 제공
+public class CursorPage<T> implements Iterable<T> {
+
+	private final List<T> content;
+	private final int size;
+	private final long offset;
+	private final String nextCursor;
+	private final String previousCursor;
+
+	private CursorPage(List<T> content, int size, long offset, String nextCursor, String previousCursor) {
+		this.content = content;
+		this.size = size;
+		this.offset = offset;
+		this.nextCursor = nextCursor;
+		this.previousCursor = previousCursor;
+	}
+
+	// 키셋 조회 결과 (Window) - 이전 페이지로 온 경우 Window.hasNext() 는 "더 앞쪽 행이 있음" 을 뜻함
+	public static <T> CursorPage<T> of(Window<T> window, Cursor cursor, int size) {
+		List<T> content = window.getContent();
+		boolean backward = cursor.isBackward();
+		boolean hasPrevious = backward ? window.hasNext() : cursor.offset() > 0;
+		boolean hasNext = backward || window.hasNext();
+		long offset = (backward && !hasPrevious) ? 0 : cursor.offset();
+		if (content.isEmpty()) {
+			return new CursorPage<>(content, size, offset, null, null);
+		}
+
+		String next = hasNext
+				? new Cursor(offset + content.size(), ScrollPosition.forward(keysAt(window, content.size() - 1))).encode()
+				: null;
+		String previous = hasPrevious
+				? new Cursor(Math.max(0, offset - size), ScrollPosition.backward(keysAt(window, 0))).encode()
+				: null;
+		return new CursorPage<>(content, size, offset, next, previous);
+	}
+
+	// offset 으로만 넘길 수 있는 목록 (검색 결과 - 관련도 순이라 키셋을 만들 수 없음)
+	public static <T> CursorPage<T> of(Page<T> page, Cursor cursor) {
+		long offset = cursor.offset();
+		int size = page.getSize();
+		String next = page.hasNext() ? Cursor.ofOffset(offset + size).encode() : null;
+		String previous = offset > 0 ? Cursor.ofOffset(Math.max(0, offset - size)).encode() : null;
+		return new CursorPage<>(page.getContent(), size, offset, next, previous);
+	}
+
+	private static Map<String, Object> keysAt(Window<?> window, int index) {
+		return ((KeysetScrollPosition) window.positionAt(index)).getKeys();
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	// 이 페이지 첫 행의 순번 (0부터)
+	public long getOffset() {
+		return offset;
+	}
+
+	public boolean hasContent() {
+		return !content.isEmpty();
+	}
+
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	public boolean hasPrevious() {
+		return previousCursor != null;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public String getPreviousCursor() {
+		return previousCursor;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+}
@@ -0,0 +1,58 @@
+package com.mysite.sbb;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// [추가] DB 동시 사용 상한 (lms.db.admission.enabled=true, dbadmission 프로필에서 켬)
+// 애플리케이션 DataSource(커넥션 풀)를 AdmissionLimitedDataSource 로 감싼다.
+// 허가 수 기본값은 풀 크기 - 풀보다 많은 요청이 동시에 DB 를 쓰려 하면 풀 안이 아니라 이 앞에서 FIFO 로 대기
+// 지표: lms.db.admission.available / lms.db.admission.waiting (/actuator/metrics)
+@Configuration
+@ConditionalOnProperty(name = "lms.db.admission.enabled", havingValue = "true")
+public class DbAdmissionConfig {
+
+	@Bean
+	static BeanPostProcessor dbAdmissionDataSourcePostProcessor(Environment env) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionLimitedDataSource
+						|| !"dataSource".equals(beanName)) {
+					return bean;
+				}
+				int poolSize = env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+				int permits = env.getProperty("lms.db.admission.permits", Integer.class, poolSize);
+				long timeoutMillis = env.getProperty("lms.db.admission.timeout-ms", Long.class, 30000L);
+				return new AdmissionLimitedDataSource(dataSource, permits, timeoutMillis);
+			}
+		};
+	}
+
+	@Bean
+	MeterBinder dbAdmissionMetrics(DataSource dataSource) {
+		return registry -> {
+			AdmissionLimitedDataSource limited;
+			try {
+				limited = dataSource.unwrap(AdmissionLimitedDataSource.class);
+			} catch (SQLException e) {
+				return; // 감싸지지 않은 DataSource
+			}
+			Gauge.builder("lms.db.admission.available", limited, AdmissionLimitedDataSource::getAvailablePermits)
+					.description("DB 동시 사용 허가 중 남은 수")
+					.register(registry);
+			Gauge.builder("lms.db.admission.waiting", limited, AdmissionLimitedDataSource::getQueueLength)
+					.description("DB 동시 사용 허가를 기다리는 스레드 수")
+					.register(registry);
+		};
+	}
+}
@@ -3,10 +3,14 @@ package com.mysite.sbb;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @SpringBootApplication
+@EnableCaching // [추가] 강의 카탈로그 조회 캐시 (ClassesCatalog)
+@EnableScheduling // [추가] 진도율 버퍼 주기 반영 등 스케줄 작업
 public class LmsProjectApplication {
 
 	public static void main(String[] args) {
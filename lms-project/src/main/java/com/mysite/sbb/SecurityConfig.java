@@ -15,13 +15,10 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
-import com.mysite.sbb.quiz.Quiz;
-import com.mysite.sbb.quiz.QuizRepository;
-import com.mysite.sbb.quiz_attempt.QuizAttempt;
-import com.mysite.sbb.quiz_attempt.QuizAttemptService;
-import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.CurrentUserCache;
+import com.mysite.sbb.user.CurrentUserSnapshot;
+import com.mysite.sbb.user.LevelTestOnboardingService;
 import com.mysite.sbb.user.UserRole;
-import com.mysite.sbb.user.UserService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.web.DefaultRedirectStrategy;
@@ -33,9 +30,8 @@ import org.springframework.security.web.RedirectStrategy;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final UserService userService;
-    private final QuizRepository quizRepository;
-    private final QuizAttemptService quizAttemptService;
+    private final CurrentUserCache currentUserCache; // [수정] 로그인 직후 사용자 정보를 세션 캐시에 올려 둠
+    private final LevelTestOnboardingService levelTestOnboarding; // [수정] 가입 후 준비된 레벨 테스트 응시 조회
 
     // Static resources - 완전히 Security 무시
     @Bean
@@ -63,6 +59,9 @@ public class SecurityConfig {
                 .requestMatchers("/classes/list", "/classes/list/**").permitAll()
                 .requestMatchers("/classes/instructor/**").permitAll()
                 .requestMatchers("/classes/{classesId}").permitAll()
+                // [추가] 운영 지표 (캐시 적중률 등) - 헬스체크만 공개, 나머지는 관리자 전용
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
             )
@@ -94,24 +93,23 @@ public class SecurityConfig {
     public AuthenticationSuccessHandler customAuthenticationSuccessHandler() {
         return (request, response, authentication) -> {
             String userId = authentication.getName();
-            User user = userService.getUser(userId);
+            // [수정] 로그인 처리 중에는 요청 단위 영속성 컨텍스트가 없으므로 엔티티 대신 요약으로 판단
+            CurrentUserSnapshot user = currentUserCache.resolveSnapshot(request, userId);
             RedirectStrategy redirectStrategy = new DefaultRedirectStrategy();
 
-            if (user.getRole() == UserRole.ROLE_INSTRUCTOR || user.getRole() == UserRole.ROLE_ADMIN) {
+            if (user.role() == UserRole.ROLE_INSTRUCTOR || user.role() == UserRole.ROLE_ADMIN) {
                 redirectStrategy.sendRedirect(request, response, "/mainpage");
                 return;
             }
 
-            if (user.getRole() == UserRole.ROLE_LEARNER) {
+            if (user.role() == UserRole.ROLE_LEARNER) {
                 try {
-                    Optional<Quiz> levelTestQuizOpt = quizRepository.findByQuizType("LEVEL_TEST");
-                    if (levelTestQuizOpt.isPresent()) {
-                        Quiz levelTestQuiz = levelTestQuizOpt.get();
-                        Optional<QuizAttempt> attemptOpt = quizAttemptService.findLatestAttemptByUserAndQuiz(user, levelTestQuiz);
-                        if (attemptOpt.isPresent() && attemptOpt.get().getScore() == 0) {
-                            redirectStrategy.sendRedirect(request, response, "/quiz_attempt/exam/" + attemptOpt.get().getAttemptId());
-                            return;
-                        }
+                    // [수정] 가입 후 비동기로 준비된 레벨 테스트 응시가 있고 아직 제출 전이면 응시 화면으로 (쿼리 1회)
+                    // 아직 준비 중이면 메인으로 - 다음 로그인 때 이동
+                    Optional<Long> attemptId = levelTestOnboarding.findUnsubmittedAttemptId(user.uno());
+                    if (attemptId.isPresent()) {
+                        redirectStrategy.sendRedirect(request, response, "/quiz_attempt/exam/" + attemptId.get());
+                        return;
                     }
                 } catch (Exception e) {
                     // ignore
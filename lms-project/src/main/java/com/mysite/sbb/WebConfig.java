@@ -0,0 +1,33 @@
+package com.mysite.sbb;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.mysite.sbb.monitoring.SqlStatsInterceptor;
+import com.mysite.sbb.user.CurrentUserArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final CurrentUserArgumentResolver currentUserArgumentResolver;
+	private final SqlStatsInterceptor sqlStatsInterceptor;
+
+	// [추가] @CurrentUser 파라미터 지원
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(currentUserArgumentResolver);
+	}
+
+	// [추가] 컨트롤러 메서드별 SQL 지표 기록
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(sqlStatsInterceptor);
+	}
+}
@@ -9,11 +9,16 @@ import com.mysite.sbb.user.User;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,6 +26,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 질문 상세의 답변 목록용 (작성자) / 내 답글 목록용 (질문 + 강의 + 난이도)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "BoardAnswer.withUser", attributeNodes = @NamedAttributeNode("user")),
+	@NamedEntityGraph(name = "BoardAnswer.withQuestion",
+			attributeNodes = @NamedAttributeNode(value = "question", subgraph = "question"),
+			subgraphs = {
+					@NamedSubgraph(name = "question", attributeNodes = @NamedAttributeNode(value = "classes", subgraph = "classes")),
+					@NamedSubgraph(name = "classes", attributeNodes = @NamedAttributeNode("level")) }) })
 @Table(name = "board_answer")
 public class BoardAnswer {
 	@Id
@@ -28,11 +41,11 @@ public class BoardAnswer {
 	@Column(name = "board_answ_id")
 	private Long boardAnswId; // 답변번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "board_ques_id", nullable=false)
 	private BoardQuestion question; // 질문번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "uno", nullable=false)
 	private User user; // 회원번호
 	
@@ -3,10 +3,6 @@ package com.mysite.sbb.board_answer;
 import java.security.Principal;
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -19,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.board_question.BoardQuestion;
 import com.mysite.sbb.board_question.BoardQuestionService;
 import com.mysite.sbb.user.User;
@@ -140,13 +138,12 @@ public class BoardAnswerController {
     @PreAuthorize("isAuthenticated()") // 로그인한 사용자만 접근 가능
     @GetMapping("/my") // 최종 URL은 /answer/my 가 됩니다.
     public String myAnswers(Model model, Principal principal,
-    		@RequestParam(value = "page", defaultValue = "0") int page) {
+    		@RequestParam(value = "cursor", required = false) String cursor) {
         
         User currentUser = uService.getUser(principal.getName());
         
-        Pageable pageable = PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "answDate")); // 5개씩
-        
-        Page<BoardAnswer> paging = baService.findMyAnswers(currentUser, pageable);
+        // [수정] page 번호 대신 커서(이전/다음 페이지 위치)로 조회 (5개씩)
+        CursorPage<BoardAnswer> paging = baService.findMyAnswers(currentUser, Cursor.decode(cursor));
         
         model.addAttribute("paging", paging);
         model.addAttribute("user", currentUser);
@@ -2,15 +2,21 @@ package com.mysite.sbb.board_answer;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.mysite.sbb.user.User;
 
 public interface BoardAnswerRepository extends JpaRepository<BoardAnswer, Long> {
+	@EntityGraph("BoardAnswer.withUser")
 	List<BoardAnswer> findByQuestionBoardQuesId(Long boardQuesId);
 	
 	//내 답글
-	Page<BoardAnswer> findByUserOrderByAnswDateDesc(User user, Pageable pageable);
+	// [수정] 커서 페이징 (sort 의 키 값 다음부터 limit 개, COUNT 쿼리 없음)
+	@EntityGraph("BoardAnswer.withQuestion")
+	Window<BoardAnswer> findByUser(User user, ScrollPosition position, Sort sort, Limit limit);
 }
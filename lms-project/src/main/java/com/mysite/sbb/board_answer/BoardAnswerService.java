@@ -2,10 +2,12 @@ package com.mysite.sbb.board_answer;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.DataNotFoundException;
 import com.mysite.sbb.board_question.BoardQuestion;
 import com.mysite.sbb.user.User;
@@ -16,6 +18,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BoardAnswerService {
 
+	// [추가] 내 답글 커서 페이징 - 작성일 최신순, 같은 시각이면 번호 역순
+	private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "answDate", "boardAnswId");
+	private static final int MY_PAGE_SIZE = 5;
+
 	private final BoardAnswerRepository baRepository;
 
 	// ID로 답변을 조회하는 메소드
@@ -49,7 +55,9 @@ public class BoardAnswerService {
 	}
 
 	// "내 답글" 목록 조회
-	public Page<BoardAnswer> findMyAnswers(User user, Pageable pageable) {
-		return baRepository.findByUserOrderByAnswDateDesc(user, pageable);
+	// [수정] 커서 페이징 (5개씩)
+	public CursorPage<BoardAnswer> findMyAnswers(User user, Cursor cursor) {
+		return CursorPage.of(baRepository.findByUser(user, cursor.position(), LATEST, Limit.of(MY_PAGE_SIZE)),
+				cursor, MY_PAGE_SIZE);
 	}
 }
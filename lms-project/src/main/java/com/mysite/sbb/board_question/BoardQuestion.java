@@ -13,11 +13,15 @@ import com.mysite.sbb.user.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -26,6 +30,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 질문 목록용 fetch plan - 강의(+난이도)와 작성자를 함께 조회
+@NamedEntityGraph(name = "BoardQuestion.withClassesAndUser",
+		attributeNodes = { @NamedAttributeNode(value = "classes", subgraph = "classes"), @NamedAttributeNode("user") },
+		subgraphs = @NamedSubgraph(name = "classes", attributeNodes = @NamedAttributeNode("level")))
 @Table(name = "board_question")
 public class BoardQuestion {
 	
@@ -34,11 +42,11 @@ public class BoardQuestion {
 	@Column(name = "board_ques_id")
 	private Long boardQuesId; // 질문번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "class_id", nullable=false)
 	private Classes classes; // 강의번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "uno", nullable=false)
 	private User user; // 회원번호
 	
@@ -0,0 +1,5 @@
+package com.mysite.sbb.board_question;
+
+// [추가] 질문 등록/수정/삭제 시 발행되는 이벤트 (검색 색인 갱신용)
+public record BoardQuestionChangedEvent(Long boardQuesId) {
+}
@@ -4,9 +4,7 @@ import java.security.Principal;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -19,6 +17,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.board_answer.BoardAnswer;
 import com.mysite.sbb.board_answer.BoardAnswerForm;
 import com.mysite.sbb.board_answer.BoardAnswerService;
@@ -49,14 +49,16 @@ public class BoardQuestionController {
 	@PreAuthorize("isAuthenticated()")
 	@GetMapping("/list")
 	public String list(Model model,
-			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "cursor", required = false) String cursor,
 			@RequestParam(value = "kw", defaultValue = "") String kw,
             @RequestParam(value = "searchType", defaultValue = "title") String searchType) {
 		
-		// 서비스 호출 (page, searchType, kw 전달)
-		Page<BoardQuestion> paging = bqService.getList(page, searchType, kw);
+		// 서비스 호출 (cursor, searchType, kw 전달)
+		// [수정] page 번호 대신 커서(이전/다음 페이지 위치)로 조회
+		CursorPage<BoardQuestion> paging = bqService.getList(Cursor.decode(cursor), searchType, kw);
 		
 		model.addAttribute("paging", paging);
+		model.addAttribute("totalCount", bqService.getTotalCount()); // [추가] 전체 건수 (캐시된 근사값)
 		model.addAttribute("kw", kw);
 		model.addAttribute("searchType", searchType);
 		
@@ -190,14 +192,13 @@ public class BoardQuestionController {
 	@PreAuthorize("isAuthenticated()") // 로그인한 사용자만 접근 가능
 	@GetMapping("/my")
 	public String myQuestions(Model model, Principal principal,
-			@RequestParam(value = "page", defaultValue = "0") int page) {
+			@RequestParam(value = "cursor", required = false) String cursor) {
 
 		// 1. 현재 로그인한 사용자 정보를 가져옵니다.
 		User currentUser = this.uService.getUser(principal.getName());
 
-		// 2. BoardQuestionService를 통해 현재 사용자가 작성한 질문 목록을 조회합니다.
-		Pageable pageable = PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "quesDate")); // 5개씩
-		Page<BoardQuestion> paging = this.bqService.findMyQuestions(currentUser, pageable);
+		// 2. BoardQuestionService를 통해 현재 사용자가 작성한 질문 목록을 조회합니다. (5개씩, 커서 페이징)
+		CursorPage<BoardQuestion> paging = this.bqService.findMyQuestions(currentUser, Cursor.decode(cursor));
 
 		// 3. Model에 질문 목록을 담아서 템플릿으로 전달
 		model.addAttribute("paging", paging);
@@ -4,9 +4,14 @@ package com.mysite.sbb.board_question;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,22 +22,49 @@ import com.mysite.sbb.user.User;
 public interface BoardQuestionRepository extends JpaRepository<BoardQuestion, Long> {
 	
 	// Classes_User_Uno 메서드 수정
+	// [추가] 질문 목록 화면은 강의(+난이도)와 작성자를 함께 조회 (목록 메서드 공통)
+	@EntityGraph("BoardQuestion.withClassesAndUser")
 	@Query("SELECT bq FROM BoardQuestion bq WHERE bq.classes.user.uno = :uno")
     Page<BoardQuestion> findByInstructorUno(@Param("uno") Long uno, Pageable pageable);
 	
-	//  User 객체로 질문 목록을 페이징하여 조회
-    Page<BoardQuestion> findByUserOrderByQuesDateDesc(User user, Pageable pageable);
+	// [수정] 내 질문 목록 - 커서 페이징 (sort 의 키 값 다음부터 limit 개, COUNT 쿼리 없음)
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    Window<BoardQuestion> findByUser(User user, ScrollPosition position, Sort sort, Limit limit);
+    
+    // [추가] 질문 게시판 목록 (검색어 없음) - 커서 페이징
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    Window<BoardQuestion> findBy(ScrollPosition position, Sort sort, Limit limit);
     
     //  특정 사용자가 작성한 질문 (페이징)
+    @EntityGraph("BoardQuestion.withClassesAndUser")
     Page<BoardQuestion> findByUser(User user, Pageable pageable);
     //  특정 강사의 강의에 달린 질문 (List - 기존 메소드용)
+    @EntityGraph("BoardQuestion.withClassesAndUser")
     @Query("SELECT bq FROM BoardQuestion bq WHERE bq.classes.user.uno = :uno")
     List<BoardQuestion> findByInstructorUno(@Param("uno") Long uno);
     
     // 강사의 강의 목록(List<Classes>)에 포함된 모든 질문을 최신순으로 페이징하여 조회
+    @EntityGraph("BoardQuestion.withClassesAndUser")
     Page<BoardQuestion> findByClassesInOrderByQuesDateDesc(List<Classes> classesList, Pageable pageable);
     
+    // [추가] 질문 게시판 목록 (검색어 없음)
+    @Override
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    Page<BoardQuestion> findAll(Pageable pageable);
+    
+    // [추가] 검색 결과 id 목록을 한 번에 조회 / 검색 색인 갱신용
+    @Override
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    List<BoardQuestion> findAllById(Iterable<Long> ids);
+    
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    List<BoardQuestion> findByClasses_ClassesId(Long classesId);
+    
+    @EntityGraph("BoardQuestion.withClassesAndUser")
+    List<BoardQuestion> findByUser_Uno(Long uno);
+    
     // Specification을 지원하는 findall 메서드
+    @EntityGraph("BoardQuestion.withClassesAndUser")
     Page<BoardQuestion> findAll(Specification<BoardQuestion> spec, Pageable pageable);
     
 }
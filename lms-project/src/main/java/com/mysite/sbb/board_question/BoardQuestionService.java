@@ -3,29 +3,37 @@ package com.mysite.sbb.board_question;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.search.SearchService;
 import com.mysite.sbb.user.User;
 
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class BoardQuestionService {
 
+	// [추가] 목록 커서 페이징 - 작성일 최신순, 같은 시각이면 번호 역순 (키셋 값이 행 하나를 정확히 가리키도록)
+	private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "quesDate", "boardQuesId");
+	private static final int PAGE_SIZE = 10;
+	private static final int MY_PAGE_SIZE = 5;
+
+	public static final String COUNT_CACHE = "pageCounts"; // [추가] 목록 전체 건수 (TTL 동안 근사값)
+
 	private final BoardQuestionRepository bqr;
+	private final SearchService searchService; // [추가] 질문 검색 (전문 검색 색인)
+	private final ApplicationEventPublisher eventPublisher; // [추가] 질문 변경 이벤트 발행 (검색 색인 갱신)
 
 	// 전체 질문 목록 조회
 	public List<BoardQuestion> getList() {
@@ -44,50 +52,26 @@ public class BoardQuestionService {
 	}
 
 	//  전체 질문 목록 조회 (페이징) + 검색 기능 포함
-	public Page<BoardQuestion> getList(int page, String searchType, String kw) {
-		Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "quesDate"));
-        Specification<BoardQuestion> spec = getSpec(searchType, kw);
-        return bqr.findAll(spec, pageable);
+	// [수정] 검색어가 있으면 전문 검색 색인에서 관련도 순으로 조회 (LIKE '%kw%' 전체 스캔 대체)
+	// [수정] 검색어가 없으면 커서(키셋) 페이징 - 뒤 페이지로 갈수록 느려지는 OFFSET 과 매 요청 COUNT(*) 제거
+	public CursorPage<BoardQuestion> getList(Cursor cursor, String searchType, String kw) {
+		if (kw != null && !kw.trim().isEmpty()) {
+			Pageable pageable = PageRequest.of((int) (cursor.offset() / PAGE_SIZE), PAGE_SIZE);
+			Page<BoardQuestion> found = searchService.searchQuestions(searchType, kw.trim(), pageable);
+			return CursorPage.of(found, cursor);
+		}
+		return CursorPage.of(bqr.findBy(cursor.position(), LATEST, Limit.of(PAGE_SIZE)), cursor, PAGE_SIZE);
 	}
 
-	// 검색 쿼리 생성 메서드 (Specification)
-    private Specification<BoardQuestion> getSpec(String searchType, String kw) {
-        return new Specification<>() {
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            public Predicate toPredicate(Root<BoardQuestion> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-                query.distinct(true); // 중복 제거
-                
-                // 검색어가 없으면 조건 없음 (모든 데이터)
-                if (kw == null || kw.trim().isEmpty()) {
-                    return null;
-                }
-                
-                // 검색어가 있으면 조건 생성
-                String likeKw = "%" + kw.toLowerCase() + "%";
-                
-                if ("class".equals(searchType)) {
-                    // 1. 강의명 검색 (Classes 테이블 조인)
-                    Join<BoardQuestion, Classes> cJoin = root.join("classes", JoinType.INNER);
-                    return cb.like(cb.lower(cJoin.get("title")), likeKw);
-                    
-                } else if ("author".equals(searchType)) {
-                    // 2. 글쓴이 검색 (User 테이블 조인)
-                    Join<BoardQuestion, User> uJoin = root.join("user", JoinType.INNER);
-                    return cb.like(cb.lower(uJoin.get("userName")), likeKw);
-                    
-                } else {
-                    // 3. 제목 검색 (기본값)
-                    return cb.like(cb.lower(root.get("title")), likeKw);
-                }
-            }
-        };
-    }
+	// [추가] 질문 게시판 전체 건수 - 캐시 TTL(spring.cache.caffeine.spec) 동안은 근사값
+	@Cacheable(cacheNames = COUNT_CACHE, key = "'question'")
+	public long getTotalCount() {
+		return bqr.count();
+	}
 	
-	// [수정] "내 질문" 목록을 가져오는 메서드 (페이징)
-	public Page<BoardQuestion> findMyQuestions(User user, Pageable pageable) {
-		return bqr.findByUserOrderByQuesDateDesc(user, pageable);
+	// [수정] "내 질문" 목록을 가져오는 메서드 (커서 페이징, 5개씩)
+	public CursorPage<BoardQuestion> findMyQuestions(User user, Cursor cursor) {
+		return CursorPage.of(bqr.findByUser(user, cursor.position(), LATEST, Limit.of(MY_PAGE_SIZE)), cursor, MY_PAGE_SIZE);
 	}
 
 	public void create(String title, String quesContent, User user, Classes classes) {
@@ -98,6 +82,7 @@ public class BoardQuestionService {
 		q.setClasses(classes); // 질문 강의 정보
 
 		bqr.save(q);
+		eventPublisher.publishEvent(new BoardQuestionChangedEvent(q.getBoardQuesId()));
 	}
 
 	// 질문 수정
@@ -105,11 +90,13 @@ public class BoardQuestionService {
 		question.setTitle(title);
 		question.setQuesContent(quesContent);
 		bqr.save(question);
+		eventPublisher.publishEvent(new BoardQuestionChangedEvent(question.getBoardQuesId()));
 	}
 
 	// 질문 삭제
 	public void delete(BoardQuestion question) {
 		bqr.delete(question);
+		eventPublisher.publishEvent(new BoardQuestionChangedEvent(question.getBoardQuesId()));
 	}
 
 	// 강사 ID로 질문 목록 조회
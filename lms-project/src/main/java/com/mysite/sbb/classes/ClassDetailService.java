@@ -0,0 +1,54 @@
+package com.mysite.sbb.classes;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.review.ReviewService;
+import com.mysite.sbb.review.ReviewSummary;
+import com.mysite.sbb.user.User;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강의 상세 페이지 조회 전용 서비스
+// 상세 페이지를 (1) 강의 프로젝션 1회 + (2) 리뷰 페이지 1회 로 구성하고,
+// 로그인 사용자는 (3) 수강/리뷰 여부 확인 1회를 더한다. (기존: 강의, 수강생 수, 수강 내역, 리뷰 전체, 평균, 개수, 작성 가능 여부 등 8회 이상)
+@RequiredArgsConstructor
+@Service
+public class ClassDetailService {
+
+	private final ClassesRepository classesr;
+	private final EnrollmentRepository enrollmentr;
+	private final ReviewService reviewService;
+
+	@Transactional(readOnly = true)
+	public ClassDetailView getView(Long classesId, User currentUser, int reviewPage, int reviewPageSize) {
+		ClassDetailView view = classesr.findDetailView(classesId)
+				.orElseThrow(() -> new DataNotFoundException("해당 강의를 찾을 수 없습니다."));
+
+		// 리뷰 집계 행이 아직 없는 강의(기존 데이터)만 집계를 따로 계산 (캐시되므로 최초 1회)
+		if (!view.isHasReviewStats()) {
+			ReviewSummary summary = reviewService.getSummary(classesId);
+			view.setReviewCount(summary.getReviewCount());
+			view.setRatingSum(summary.getRatingSum());
+		}
+
+		view.setReviews(reviewService.getReviewPage(classesId, reviewPage, reviewPageSize, view.getReviewCount()));
+
+		// 로그인 사용자: 수강 여부/수료 여부/작성한 리뷰 수를 한 번에 확인
+		if (currentUser != null) {
+			List<Object[]> rows = enrollmentr.findStatusWithReviewCount(currentUser.getUno(), classesId);
+			if (!rows.isEmpty()) {
+				boolean completed = (Boolean) rows.get(0)[0];
+				long myReviews = ((Number) rows.get(0)[1]).longValue();
+				view.setEnrolled(true);
+				view.setCompleted(completed);
+				view.setCanWriteReview(completed && myReviews == 0); // 수강 완료 + 아직 리뷰 없음
+			}
+		}
+		return view;
+	}
+}
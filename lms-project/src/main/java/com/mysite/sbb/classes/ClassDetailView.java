@@ -0,0 +1,69 @@
+package com.mysite.sbb.classes;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Page;
+
+import com.mysite.sbb.review.Review;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// [추가] 강의 상세 페이지 뷰 모델
+// 강의/레벨/강사/수강생 수/리뷰 집계는 프로젝션 쿼리 한 번으로 채우고(생성자),
+// 리뷰 페이지와 로그인 사용자별 상태(수강 여부, 수료 여부, 리뷰 작성 가능 여부)는 ClassDetailService 가 채운다.
+@Getter
+public class ClassDetailView {
+
+	private final Long classesId;
+	private final String title;
+	private final String classesContent;
+	private final LocalDateTime classesCdate;
+	private final String classesImg;
+	private final String classesVideo;
+	private final long enrollmentCount;
+	private final Long levelId;
+	private final String levelName;
+	private final String instructorUserId;
+	private final String instructorName;
+
+	// 리뷰 집계 (review_stats 가 없는 강의면 hasReviewStats = false)
+	@Setter
+	private long ratingSum;
+	@Setter
+	private long reviewCount;
+	private final boolean hasReviewStats;
+
+	@Setter
+	private Page<Review> reviews;
+	@Setter
+	private boolean enrolled;
+	@Setter
+	private boolean completed;
+	@Setter
+	private boolean canWriteReview;
+
+	public ClassDetailView(Long classesId, String title, String classesContent, LocalDateTime classesCdate,
+			String classesImg, String classesVideo, long enrollmentCount, Long levelId, String levelName,
+			String instructorUserId, String instructorName, Long ratingSum, Long reviewCount) {
+		this.classesId = classesId;
+		this.title = title;
+		this.classesContent = classesContent;
+		this.classesCdate = classesCdate;
+		this.classesImg = classesImg;
+		this.classesVideo = classesVideo;
+		this.enrollmentCount = enrollmentCount;
+		this.levelId = levelId;
+		this.levelName = levelName;
+		this.instructorUserId = instructorUserId;
+		this.instructorName = instructorName;
+		this.hasReviewStats = reviewCount != null;
+		this.ratingSum = (ratingSum != null) ? ratingSum : 0;
+		this.reviewCount = (reviewCount != null) ? reviewCount : 0;
+	}
+
+	// 평균 별점 (소수 첫째 자리 반올림)
+	public double getAverageRating() {
+		return (reviewCount > 0) ? Math.round((double) ratingSum / reviewCount * 10) / 10.0 : 0.0;
+	}
+}
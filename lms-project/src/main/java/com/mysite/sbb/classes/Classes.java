@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.mysite.sbb.board_question.BoardQuestion;
@@ -14,11 +15,16 @@ import com.mysite.sbb.user.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -27,7 +33,13 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name="classes")
+// [추가] 목록/캐시용 fetch plan - 강사(+레벨)와 난이도를 함께 조회
+@NamedEntityGraph(name = "Classes.withUserAndLevel",
+		attributeNodes = { @NamedAttributeNode(value = "user", subgraph = "user"), @NamedAttributeNode("level") },
+		subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("level")))
+@Table(name="classes", indexes = {
+		// [추가] 강사별 '수강생 많은 순' 정렬용
+		@Index(name = "idx_classes_uno_enrollment_count", columnList = "uno, enrollment_count") })
 public class Classes {
 	
 	@Id
@@ -35,11 +47,11 @@ public class Classes {
 	@Column(name="classes_id")
 	private Long classesId; //강의번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name="uno", nullable = false)
 	private User user; //강사 (User FK)
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name="level_id",nullable = false)
 	private Level level; //난이도 (Level FK)
 	
@@ -58,6 +70,13 @@ public class Classes {
 	
 	@Column(name = "classes_video")
 	private String classesVideo; //강의영상
+	
+	// [추가] 수강생 수 (비정규화 카운터) - EnrollmentService 의 수강신청/취소에서 원자적 UPDATE 로만 변경
+	// 엔티티 저장 시에는 건드리지 않음 (insertable/updatable = false). 캐시된 엔티티의 값은 오래됐을 수 있으므로
+	// 화면 표시는 EnrollmentService.getEnrollmentCount(s) 로 조회할 것
+	@ColumnDefault("0")
+	@Column(name = "enrollment_count", nullable = false, insertable = false, updatable = false)
+	private long enrollmentCount;
 
 	
 	// cascade = CascadeType.ALL 추가
@@ -0,0 +1,15 @@
+package com.mysite.sbb.classes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// [추가] 강의 카드 표시용 경량 프로젝션 (메인페이지 등) - 엔티티/연관관계를 불러오지 않고 필요한 컬럼만 조회
+@Getter
+@AllArgsConstructor
+public class ClassesCardView {
+	private Long classesId;
+	private String title;
+	private String classesImg;
+	private String levelName;
+	private String instructorName;
+}
@@ -0,0 +1,64 @@
+package com.mysite.sbb.classes;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.user.UserChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강의 카탈로그 조회 캐시 (read-through)
+// 강의 목록은 강사가 강의를 등록·수정·삭제할 때만 바뀌므로 캐시에서 읽고, 변경이 커밋된 뒤 이벤트로 비운다.
+// 엔티티는 요청(영속성 컨텍스트)마다 따로 있어야 하므로 캐시에는 id 와 DTO 만 두고,
+// 목록 페이지는 ClassesService 가 id 로 다시 조회한다.
+// 캐시 설정(크기, TTL, 통계)은 application.properties 의 spring.cache.caffeine.spec 참고
+@RequiredArgsConstructor
+@Component
+public class ClassesCatalog {
+
+	public static final String CATALOG_CACHE = "classesCatalog"; // 목록 (최신 카드 / 목록 페이지 id)
+
+	private final ClassesRepository classesr;
+
+	// 목록 페이지 캐시 키 - 레벨 상한(null 이면 제한 없음) + 난이도(0 이면 전체) + 페이지
+	// (검색어가 있는 목록은 SearchService 가 전문 검색 색인에서 조회하므로 캐시하지 않음)
+	public record PageKey(Long levelBound, Long levelId, Pageable pageable) {
+	}
+
+	// 목록 페이지의 강의 id (표시 순서) + 전체 건수
+	public record IdPage(List<Long> ids, long total) {
+	}
+
+	// 최신 강의 카드 limit 개 (레벨 상한별)
+	@Cacheable(cacheNames = CATALOG_CACHE, key = "'cards:' + #levelBound + ':' + #limit")
+	public List<ClassesCardView> findLatestCards(Long levelBound, int limit) {
+		return classesr.findCards(levelBound, PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "classesCdate")));
+	}
+
+	@Cacheable(cacheNames = CATALOG_CACHE, key = "#key")
+	public IdPage findPage(PageKey key, Specification<Classes> spec) {
+		Page<Classes> page = classesr.findAll(spec, key.pageable());
+		return new IdPage(page.getContent().stream().map(Classes::getClassesId).toList(), page.getTotalElements());
+	}
+
+	// 커밋 후 목록 캐시 무효화 - 강의 등록/수정/삭제
+	@CacheEvict(cacheNames = CATALOG_CACHE, allEntries = true)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClassesChanged(ClassesChangedEvent event) {
+	}
+
+	// 강사 정보 변경/삭제 - 카드에 강사 이름이 들어 있고, 강사를 삭제하면 강의도 함께 삭제됨
+	@CacheEvict(cacheNames = CATALOG_CACHE, allEntries = true, condition = "#event.instructor()")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+	}
+}
@@ -0,0 +1,5 @@
+package com.mysite.sbb.classes;
+
+// [추가] 강의 등록/수정/삭제 시 발행되는 이벤트 (추천 풀 등 캐시 갱신용)
+public record ClassesChangedEvent(Long classesId) {
+}
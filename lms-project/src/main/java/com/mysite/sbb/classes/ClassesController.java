@@ -1,11 +1,8 @@
 package com.mysite.sbb.classes;
 
-import java.security.Principal;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,12 +28,10 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.mysite.sbb.enrollment.Enrollment;
 import com.mysite.sbb.enrollment.EnrollmentService;
+import com.mysite.sbb.enrollment.LearnerProgressService;
 import com.mysite.sbb.level.Level;
 import com.mysite.sbb.level.LevelService;
-import com.mysite.sbb.quiz.Quiz;
-import com.mysite.sbb.quiz.QuizRepository;
-import com.mysite.sbb.review.Review;
-import com.mysite.sbb.review.ReviewService;
+import com.mysite.sbb.user.CurrentUser;
 import com.mysite.sbb.user.User;
 import com.mysite.sbb.user.UserRole;
 import com.mysite.sbb.user.UserService;
@@ -53,8 +48,11 @@ public class ClassesController {
 	private final UserService uService;
 	private final LevelService lService;
 	private final EnrollmentService eService;
-	private final QuizRepository quizr;
-        private final ReviewService reviewService;
+	private final LearnerProgressService learnerProgress; // [수정] 승급 현황 조회
+	private final ClassDetailService classDetailService; // [추가] 상세 페이지 조회 전용
+
+	// [추가] 상세 페이지 리뷰 한 페이지당 개수
+	private static final int REVIEW_PAGE_SIZE = 10;
 
 	// 강의 등록 페이지(관리자/강사용)
 	@PreAuthorize("hasRole('ROLE_INSTRUCTOR') or hasRole('ROLE_ADMIN')") // 관리자 or 강사만
@@ -70,7 +68,7 @@ public class ClassesController {
 	@PreAuthorize("hasRole('ROLE_INSTRUCTOR') or hasRole('ROLE_ADMIN')") // 관리자 or 강사만
 	@PostMapping("/create")
 	public String create(@Valid @ModelAttribute("classesForm") ClassesForm classesForm, // @Valid, @ModelAttribute 사용
-			BindingResult bindingResult, Principal principal, Model model) {
+			BindingResult bindingResult, @CurrentUser User currentUser, Model model) {
 
 		if (bindingResult.hasErrors()) {
 			List<Level> levels = lService.getAllLevel(); 
@@ -78,8 +76,6 @@ public class ClassesController {
 			return "classes_create"; 
 		}
 
-		User currentUser = uService.getUser(principal.getName()); 
-
 		try {
 			cService.create(classesForm, currentUser); 
 		} catch (Exception e) {
@@ -94,36 +90,22 @@ public class ClassesController {
 
 	// 전체 강의 목록 페이지 (등급업 테스트 자격 확인 로직부터는 동일)
 	@GetMapping("/list")
-	public String list(Model model, Principal principal, @RequestParam(value = "page", defaultValue = "0") int page,
+	public String list(Model model, @CurrentUser User currentUser, @RequestParam(value = "page", defaultValue = "0") int page,
 			@RequestParam(value = "searchType", defaultValue = "title") String searchType,
 			@RequestParam(value = "kw", defaultValue = "") String kw,
 			@RequestParam(value = "levelId", defaultValue = "0") Long levelId) {
 
-		User currentUser = (principal != null) ? uService.getUser(principal.getName()) : null;
-
 		// 페이징 및 검색 로직
 		Pageable pageable = PageRequest.of(page, 9, Sort.by(Sort.Direction.DESC, "classesCdate")); // 9개씩, 최신순
 		Page<Classes> paging = cService.getList(currentUser, searchType, kw, levelId, pageable);
 
 		List<Level> levels = lService.getAllLevel();
 
-		// 수강 상태 및 수강 인원 Map 로직
-		Map<Long, String> enrollmentStatusMap = new HashMap<>(); // 수강상태 Map
-		Map<Long, Long> enrollmentCountMap = new HashMap<>(); // 인원수 Map
-
-		if (currentUser != null) {
-			// 현재 사용자의 모든 수강신청 내역을 가져옴
-			List<Enrollment> userEnrollments = eService.getByUser(currentUser.getUno());
-
-			enrollmentStatusMap = userEnrollments.stream()
-					.collect(Collectors.toMap(enrollment -> enrollment.getClasses().getClassesId(),
-							enrollment -> enrollment.isCompleted() ? "COMPLETED" : "ENROLLED",
-							(status1, status2) -> status1));
-
-		}
+		// [수정] 수강 상태 Map - 현재 페이지 강의들에 대해서만 조회 (비로그인이면 빈 Map)
+		Map<Long, String> enrollmentStatusMap = eService.getStatusMap(currentUser, classesIdsOf(paging));
 
 		// 수강 인원 수 Map 생성
-		enrollmentCountMap = eService.getEnrollmentCountsForClasses(paging.getContent());
+		Map<Long, Long> enrollmentCountMap = eService.getEnrollmentCountsForClasses(paging.getContent());
 
 		model.addAttribute("paging", paging);
 		model.addAttribute("currentUser", currentUser);
@@ -135,68 +117,17 @@ public class ClassesController {
 		model.addAttribute("enrollmentStatusMap", enrollmentStatusMap);
 		model.addAttribute("enrollmentCountMap", enrollmentCountMap);
 
-		// 등급업 테스트 자격 확인 로직
-		long completedCountForPromotion = 0; // 현재 레벨 완료 개수
-		long totalCount = 10L;
-		double progressPercent = 0;
-		boolean promotionTestEligible = false;
-		Long promotionTestQuizId = null;
-		String promotionTestType = null;
-
-		// 현재 레벨에 따라 다음 승급 테스트 타입 결정
-		if (currentUser != null && currentUser.getLevel() != null) {
-			Level currentLevel = currentUser.getLevel();
-
-			if (currentLevel.getLevelId() == 1L) // 초급
-				promotionTestType = "PROMOTION_TEST_BEGINNER";
-			else if (currentLevel.getLevelId() == 2L) // 중급
-				promotionTestType = "PROMOTION_TEST_INTERMEDIATE";
-
-			if (promotionTestType != null) {
-				// 현재 레벨에서 10개 이상 완료했는지 확인
-				completedCountForPromotion = eService.getCompletedCountByLevel(currentUser, currentLevel); 
-																											
-				promotionTestEligible = (completedCountForPromotion >= 10);
-
-				// 진행률 계산
-				progressPercent = (double) completedCountForPromotion / totalCount * 100;
-				if (progressPercent > 100.0) {
-					progressPercent = 100.0;
-				}
-
-				// 진도율 충족 시 퀴즈 탐색
-				if (promotionTestEligible && quizr != null) {
-					Optional<Quiz> promotionQuizOpt = quizr.findByQuizType(promotionTestType);
-					if (promotionQuizOpt.isPresent()) {
-						promotionTestQuizId = promotionQuizOpt.get().getQuizId();
-					} else {
-						promotionTestEligible = false;
-						System.err.println(promotionTestType + " 타입의 퀴즈를 찾을 수 없습니다.");
-					}
-				} else if (promotionTestEligible && quizr == null) {
-					promotionTestEligible = false;
-				}
-			}
-		}
-
-		// --- 모델 전달 ---
-		model.addAttribute("completedCount", completedCountForPromotion); // 현재 레벨 완료 카운트
-		model.addAttribute("totalCount", totalCount);
-		model.addAttribute("progressPercent", progressPercent);
-		model.addAttribute("promotionTestEligible", promotionTestEligible);
-		model.addAttribute("promotionTestQuizId", promotionTestQuizId);
-		// --- 등급업 테스트 로직 끝 ---
+		// [수정] 등급업 테스트 자격 - 등급별 수료 집계를 캐시로 조회
+		model.addAllAttributes(learnerProgress.getStatus(currentUser).toModelAttributes());
 		return "classes_list";
 	}
 
 	// 강사 마이페이지 - 내 강의 관리 (페이징 적용)
 	@PreAuthorize("hasAnyRole('ROLE_INSTRUCTOR', 'ROLE_ADMIN')")
 	@GetMapping("/classes")
-	public String instructorClasses(Model model, Principal principal,
+	public String instructorClasses(Model model, @CurrentUser User currentUser,
 			@RequestParam(value = "page", defaultValue = "0") int page) {
 
-		User currentUser = uService.getUser(principal.getName());
-
 		Pageable pageable = PageRequest.of(page, 6, Sort.by(Sort.Direction.DESC, "classesCdate"));
 		Page<Classes> paging = cService.getClassesByInstructor(currentUser, pageable);
 
@@ -213,42 +144,24 @@ public class ClassesController {
 
 	// 강의 상세보기
 	@GetMapping("/{classesId}")
-	public String detail(@PathVariable("classesId") Long classesId, Model model, Principal principal) {
-		Classes classes = cService.getClassById(classesId);
+	public String detail(@PathVariable("classesId") Long classesId, Model model, @CurrentUser User currentUser,
+			@RequestParam(value = "reviewPage", defaultValue = "0") int reviewPage) {
+		// [수정] 강의/수강생 수/리뷰 집계/리뷰 페이지/수강 상태를 상세 전용 뷰 모델로 한 번에 구성
+		ClassDetailView classes = classDetailService.getView(classesId, currentUser, reviewPage, REVIEW_PAGE_SIZE);
 		model.addAttribute("classes", classes);
 
-		long enrollmentCount = eService.getEnrollmentCount(classesId);
-
 		// 수강 상태 확인 로직 추가
-		boolean isEnrolled = false;
-		boolean isCompleted = false;
-
-		if (principal != null) {
-			try {
-				User currentUser = uService.getUser(principal.getName());
-				Optional<Enrollment> enrollmentOpt = eService.findByUserAndClasses(currentUser, classes);
-				if (enrollmentOpt.isPresent()) {
-					isEnrolled = true;
-					isCompleted = enrollmentOpt.get().isCompleted();
-				}
-			} catch (Exception e) {
-				isEnrolled = false;
-				isCompleted = false;
-			}
-		}
-		model.addAttribute("isEnrolled", isEnrolled);
-		model.addAttribute("isCompleted", isCompleted);
-		model.addAttribute("enrollmentCount", enrollmentCount);
+		model.addAttribute("isEnrolled", classes.isEnrolled());
+		model.addAttribute("isCompleted", classes.isCompleted());
+		model.addAttribute("enrollmentCount", classes.getEnrollmentCount());
 
                 // 리뷰 데이터 추가
-                List<Review> reviews = reviewService.getReviewsByClasses(classes);
-                model.addAttribute("reviews", reviews);
-                model.addAttribute("averageRating", reviewService.getAverageRating(classes));
-                model.addAttribute("reviewCount", reviewService.getReviewCount(classes));
+                model.addAttribute("reviews", classes.getReviews());
+                model.addAttribute("averageRating", classes.getAverageRating());
+                model.addAttribute("reviewCount", classes.getReviewCount());
                 
                 // 현재 사용자가 리뷰 작성 가능한지
-                User currentUser = (principal != null) ? uService.getUser(principal.getName()) : null;
-                model.addAttribute("canWriteReview", reviewService.canWriteReview(classes, currentUser));
+                model.addAttribute("canWriteReview", classes.isCanWriteReview());
                 model.addAttribute("currentUser", currentUser);
 
 		return "classes_detail";
@@ -257,14 +170,13 @@ public class ClassesController {
 	// 강의 수정 (강사/관리자만)
 	@PreAuthorize("hasRole('ROLE_INSTRUCTOR') or hasRole('ROLE_ADMIN')")
 	@GetMapping("/edit/{classesId}")
-	public String editForm(@PathVariable("classesId") Long classesId, Model model, Principal principal,
+	public String editForm(@PathVariable("classesId") Long classesId, Model model, @CurrentUser User currentUser,
 			ClassesForm classesForm) {
 
 		Classes classes = cService.getClassById(classesId);
-		User currentUser = uService.getUser(principal.getName()); // 현재 사용자 정보 조회
 
 		// 수정 권한 확인 (본인 또는 관리자)
-		if (!classes.getUser().getUserId().equals(principal.getName())
+		if (!classes.getUser().getUserId().equals(currentUser.getUserId())
 				&& currentUser.getRole() != UserRole.ROLE_ADMIN) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다.");
 		}
@@ -289,13 +201,12 @@ public class ClassesController {
 	@PostMapping("/edit/{classesId}")
 	public String update(@PathVariable("classesId") Long classesId,
 			@Valid @ModelAttribute("classesForm") ClassesForm classesForm, // @Valid, @ModelAttribute, DTO 사용
-			BindingResult bindingResult, Principal principal, Model model) {
+			BindingResult bindingResult, @CurrentUser User currentUser, Model model) {
 
 		Classes originalClasses = cService.getClassById(classesId); // 원본 데이터 로드
-		User currentUser = uService.getUser(principal.getName()); // 사용자 정보 조회
 
 		// 수정 권한 확인(본인 또는 관리자)
-		if (!originalClasses.getUser().getUserId().equals(principal.getName())
+		if (!originalClasses.getUser().getUserId().equals(currentUser.getUserId())
 				&& currentUser.getRole() != UserRole.ROLE_ADMIN) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다.");
 		}
@@ -323,11 +234,10 @@ public class ClassesController {
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_INSTRUCTOR')")
 	@PostMapping("/delete/{classesId}")
 	public String delete(@PathVariable("classesId") Long classesId,
-	                     Principal principal,
+	                     @CurrentUser User currentUser,
 	                     RedirectAttributes redirectAttributes) {
 
 	    Classes classes = cService.getClassById(classesId);
-	    User currentUser = uService.getUser(principal.getName());
 
 	    // 관리자이거나 해당 강의를 만든 강사일 때만 삭제 허용
 	    boolean isOwner = classes.getUser().getUserId().equals(currentUser.getUserId());
@@ -369,10 +279,8 @@ public class ClassesController {
 	// [수정] 강의 영상 시청 페이지 (10분 타이머 기능용 수정)
 	@PreAuthorize("isAuthenticated()")
 	@GetMapping("/watch/{classesId}")
-	public String watchClassVideo(@PathVariable("classesId") Long classesId, Model model, Principal principal) {
+	public String watchClassVideo(@PathVariable("classesId") Long classesId, Model model, @CurrentUser User currentUser) {
 
-		User currentUser = uService.getUser(principal.getName());
-		
 		// ★ [추가] 권한 체크
 	    if (!uService.canAccessCourse(currentUser)) {
 	        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "이용권이 만료되었습니다. 멤버십을 구매해주세요.");
@@ -403,7 +311,7 @@ public class ClassesController {
 
 	// 강사별 강의 목록 페이지 (메인페이지 추천 강사 클릭 시 이동)
     @GetMapping("/instructor/{uno}")
-    public String instructorClasses(@PathVariable("uno") Long uno, Model model,
+    public String instructorClasses(@PathVariable("uno") Long uno, Model model, @CurrentUser User currentUser,
                                     @RequestParam(value = "page", defaultValue = "0") int page,
                                     @RequestParam(value = "levelId", required = false) Long levelId,
                                     @RequestParam(value = "kw", defaultValue = "") String kw) {
@@ -422,6 +330,8 @@ public class ClassesController {
         model.addAttribute("instructor", instructor);
         model.addAttribute("paging", paging); // [핵심] classesList 대신 paging 전달
         model.addAttribute("enrollmentCountMap", enrollmentCountMap); // 수강생 수 맵 전달
+        // [추가] 로그인 수강생의 수강 상태 (이미 신청한 강의는 수강신청 버튼 대신 상태 표시)
+        model.addAttribute("enrollmentStatusMap", eService.getStatusMap(currentUser, classesIdsOf(paging)));
         
         // 5. 검색 조건 유지를 위해 모델에 추가
         model.addAttribute("levelId", levelId);
@@ -430,4 +340,9 @@ public class ClassesController {
         return "classes_instructor"; 
     }
 
+    // [추가] 목록 페이지에 보이는 강의 id
+    private static List<Long> classesIdsOf(Page<Classes> paging) {
+        return paging.getContent().stream().map(Classes::getClassesId).toList();
+    }
+
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.mysite.sbb.classes;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 //import java.util.Optional;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,36 +20,95 @@ import com.mysite.sbb.user.User;
 public interface ClassesRepository extends JpaRepository<Classes, Long>, JpaSpecificationExecutor<Classes>{
 	
 	// 강사(uno) 기준으로 강의 목록 조회
+	@EntityGraph("Classes.withUserAndLevel")
 	List<Classes> findByUser_Uno(Long uno); 
 	
 	// 특정 레벨의 강의 개수 조회 (EnrollmentService에서 사용)
 	long countByLevel(Level level);
 	
 	// 특정 레벨 ID 이하의 모든 강의 조회 (사용자 레벨에 맞는 강의 출력에 필요)
-	List<Classes> findByLevel_LevelIdLessThanEqual(Long levelId);
+	// [수정] 파생 쿼리는 level 조인 별칭에 조건을 걸어 classes 전체 스캔이 되므로 FK 컬럼(level_id)에 직접 조건
+	@EntityGraph("Classes.withUserAndLevel")
+	@Query("SELECT c FROM Classes c WHERE c.level.levelId <= :levelId")
+	List<Classes> findByLevel_LevelIdLessThanEqual(@Param("levelId") Long levelId);
 	
-	// [추가] 랜덤으로 강의를 조회하는 쿼리 (H2 DB는 RANDOM() 사용)
-    @Query("SELECT c FROM Classes c ORDER BY RANDOM()")
-    Page<Classes> findRandomClasses(Pageable pageable);
+	// [수정] 추천 강의 풀(RecommendationPool) 갱신용 - id 와 레벨 id 만 조회 (ORDER BY RANDOM() 대체)
+    @Query("SELECT c.classesId, c.level.levelId FROM Classes c")
+    List<Object[]> findAllIdAndLevelId();
+
+	// [추가] 추천 강의 풀 변경분 반영용 - 강의 하나의 레벨 id (삭제된 강의면 비어 있음)
+    @Query("SELECT c.level.levelId FROM Classes c WHERE c.classesId = :classesId")
+    Optional<Long> findLevelIdById(@Param("classesId") Long classesId);
     
-    // [추가] 특정 레벨(level)의 강의 중에서 랜덤 조회
-    @Query("SELECT c FROM Classes c WHERE c.level = :level ORDER BY RANDOM()")
-    Page<Classes> findRandomClassesByLevel(@Param("level") Level level, Pageable pageable);
+    // [추가] 강의 카드 목록 (id, 제목, 이미지, 레벨명, 강사명) - levelBound 이하 레벨만 (null 이면 전체), 페이징
+    @Query("SELECT new com.mysite.sbb.classes.ClassesCardView(c.classesId, c.title, c.classesImg, l.levelName, u.userName) " +
+           "FROM Classes c JOIN c.level l JOIN c.user u " +
+           "WHERE (:levelBound IS NULL OR l.levelId <= :levelBound)")
+    List<ClassesCardView> findCards(@Param("levelBound") Long levelBound, Pageable pageable);
     
     // [추가] User 객체와 Pageable을 받아서 해당 강사의 강의만 페이징
+    @EntityGraph("Classes.withUserAndLevel")
     Page<Classes> findByUser(User user, Pageable pageable);
     
     // [추가] 강사 마이페이지용: 검색(제목, 레벨) + 정렬(수강생 많은 순)
+    // [수정] 수강생 수는 enrollment 조인/GROUP BY 대신 enrollment_count 컬럼으로 정렬
+    @EntityGraph("Classes.withUserAndLevel")
     @Query("SELECT c FROM Classes c " +
-           "LEFT JOIN c.enrollments e " +  // 수강생 수 계산을 위해 조인
            "WHERE c.user = :instructor " + // 내 강의만 조회
            "AND (:levelId IS NULL OR c.level.levelId = :levelId) " + // 레벨 검색 (null이면 전체)
            "AND (:kw IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :kw, '%'))) " + // 제목 검색
-           "GROUP BY c " + // 강의별로 그룹화
-           "ORDER BY COUNT(e) DESC, c.classesCdate DESC") // 수강생 수 내림차순, 그 다음엔 최신순
+           "ORDER BY c.enrollmentCount DESC, c.classesCdate DESC") // 수강생 수 내림차순, 그 다음엔 최신순
     Page<Classes> findByInstructorWithSortAndFilter(
             @Param("instructor") User instructor, 
             @Param("levelId") Long levelId, 
             @Param("kw") String kw, 
             Pageable pageable);
+    
+    // [추가] 목록/상세/추천 풀 조회 - 강사와 난이도를 한 번에 조회 (기본 LAZY 연관관계의 N+1 방지)
+    @Override
+    @EntityGraph("Classes.withUserAndLevel")
+    List<Classes> findAll();
+    
+    @Override
+    @EntityGraph("Classes.withUserAndLevel")
+    Page<Classes> findAll(Specification<Classes> spec, Pageable pageable);
+    
+    @Override
+    @EntityGraph("Classes.withUserAndLevel")
+    Page<Classes> findAll(Pageable pageable);
+    
+    @Override
+    @EntityGraph("Classes.withUserAndLevel")
+    Optional<Classes> findById(Long classesId);
+    
+    @Override
+    @EntityGraph("Classes.withUserAndLevel")
+    List<Classes> findAllById(Iterable<Long> ids);
+    
+    // [추가] 강의 상세 페이지 프로젝션 - 강의 + 레벨 + 강사 + 수강생 수 + 리뷰 집계를 한 번에 조회
+    @Query("SELECT new com.mysite.sbb.classes.ClassDetailView(c.classesId, c.title, c.classesContent, c.classesCdate, " +
+           "c.classesImg, c.classesVideo, c.enrollmentCount, l.levelId, l.levelName, u.userId, u.userName, " +
+           "s.ratingSum, s.reviewCount) " +
+           "FROM Classes c JOIN c.level l JOIN c.user u " +
+           "LEFT JOIN ReviewStats s ON s.classesId = c.classesId " +
+           "WHERE c.classesId = :classesId")
+    Optional<ClassDetailView> findDetailView(@Param("classesId") Long classesId);
+    
+    // [추가] 수강생 수 카운터 조회 (상세/목록 페이지용)
+    @Query("SELECT c.enrollmentCount FROM Classes c WHERE c.classesId = :classesId")
+    Optional<Long> findEnrollmentCountById(@Param("classesId") Long classesId);
+    
+    @Query("SELECT c.classesId, c.enrollmentCount FROM Classes c WHERE c.classesId IN :ids")
+    List<Object[]> findEnrollmentCountsByIds(@Param("ids") List<Long> ids);
+    
+    // [추가] 수강생 수 카운터 원자적 증감 (수강신청 / 수강취소)
+    @Modifying
+    @Query("UPDATE Classes c SET c.enrollmentCount = c.enrollmentCount + :delta WHERE c.classesId = :classesId")
+    int addEnrollmentCount(@Param("classesId") Long classesId, @Param("delta") long delta);
+    
+    // [추가] 카운터 보정 - 실제 수강 내역 수와 다른 강의만 다시 계산 (회원 탈퇴 등으로 어긋난 경우)
+    @Modifying
+    @Query("UPDATE Classes c SET c.enrollmentCount = (SELECT COUNT(e) FROM Enrollment e WHERE e.classes = c) " +
+           "WHERE c.enrollmentCount <> (SELECT COUNT(e) FROM Enrollment e WHERE e.classes = c)")
+    int reconcileEnrollmentCounts();
 }
\ No newline at end of file
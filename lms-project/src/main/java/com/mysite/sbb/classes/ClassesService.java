@@ -1,24 +1,30 @@
 package com.mysite.sbb.classes;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.enrollment.LearnerProgressService;
 import com.mysite.sbb.level.Level;
 import com.mysite.sbb.level.LevelService;
+import com.mysite.sbb.review.ReviewStatsService;
+import com.mysite.sbb.search.SearchService;
 import com.mysite.sbb.user.User;
 import com.mysite.sbb.user.UserRole;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +34,16 @@ import lombok.RequiredArgsConstructor;
 public class ClassesService {
 
     private final ClassesRepository classesr;
+    private final ClassesCatalog catalog; // [추가] 강의 목록 조회 캐시
     private final LevelService lService;
+    private final RecommendationPool recommendationPool;
+    private final ApplicationEventPublisher eventPublisher; // [추가] 강의 변경 이벤트 발행
+    private final SearchService searchService; // [추가] 강의 검색 (전문 검색 색인)
+    private final LearnerProgressService learnerProgress; // [추가] 레벨 변경 시 등급별 수료 집계 재계산
+    private final ReviewStatsService reviewStatsService; // [추가] 강의별 리뷰 집계 행 생성/삭제
 
     // 강의 등록
+    @Transactional // [추가] 강의와 리뷰 집계 행을 함께 저장
     public void create(ClassesForm classesForm, User user) {
         Classes classes = new Classes();
         classes.setTitle(classesForm.getTitle());
@@ -44,6 +57,8 @@ public class ClassesService {
         classes.setClassesVideo(classesForm.getClassesVideo());
 
         classesr.save(classes);
+        reviewStatsService.create(classes.getClassesId()); // [추가] 첫 리뷰 전에 집계 행을 만들어 둠
+        eventPublisher.publishEvent(new ClassesChangedEvent(classes.getClassesId()));
     }
 
     // 전체 강의 목록 (리스트 페이지용)
@@ -53,18 +68,28 @@ public class ClassesService {
 
     public List<Classes> getClassesForUser(User user) {
         // 비로그인, 강사, 관리자는 모든 강의 보임
-        if (user == null || user.getRole() == UserRole.ROLE_INSTRUCTOR || user.getRole() == UserRole.ROLE_ADMIN) {
+        Long levelBound = levelBound(user);
+        if (levelBound == null) {
             return classesr.findAll();
         }
 
         // 수강생인 경우 레벨에 따라 필터링
-        Long userLevelId;
-        if (user.getLevel() != null) {
-            userLevelId = user.getLevel().getLevelId();
-        } else {
-            userLevelId = 1L; // 레벨 없으면 초급만
+        return classesr.findByLevel_LevelIdLessThanEqual(levelBound);
+    }
+
+    // [추가] 메인페이지용 - 사용자가 볼 수 있는 최신 강의 카드 limit 개 (카탈로그 크기와 무관)
+    public List<ClassesCardView> getLatestCards(User user, int limit) {
+        return catalog.findLatestCards(levelBound(user), limit);
+    }
+
+    // [추가] 사용자가 볼 수 있는 최대 레벨 (null 이면 제한 없음) - 목록 캐시 키로도 사용
+    private Long levelBound(User user) {
+        // 비로그인, 관리자, 강사: 모든 강의 표시
+        if (user == null || user.getRole() == UserRole.ROLE_INSTRUCTOR || user.getRole() == UserRole.ROLE_ADMIN) {
+            return null;
         }
-        return classesr.findByLevel_LevelIdLessThanEqual(userLevelId);
+        // 수강생: 본인 레벨 이하 강의만 표시 (레벨 없으면 초급만)
+        return (user.getLevel() != null) ? user.getLevel().getLevelId() : 1L;
     }
 
     // 강사별 강의 목록 (마이페이지나 강사 전용 페이지용)
@@ -88,12 +113,13 @@ public class ClassesService {
         return classesr.findByInstructorWithSortAndFilter(instructor, finalLevelId, kw, pageable);
     }
 
-    // 강의 상세보기 (상세 페이지용)
+    // 강의 상세보기 (권한 확인 / 수정 / 삭제에도 사용하므로 캐시하지 않음)
     public Classes getClassById(Long classesId) {
         return classesr.findById(classesId).orElseThrow(() -> new DataNotFoundException("해당 강의를 찾을 수 없습니다."));
     }
 
     // 강의 수정
+    @Transactional // [추가] 강의 수정과 등급별 수료 집계 재계산을 함께 커밋
     public void updateClass(Long classesId, ClassesForm classesForm, User user) {
         Classes classes = getClassById(classesId);
 
@@ -104,6 +130,7 @@ public class ClassesService {
         classes.setTitle(classesForm.getTitle());
         classes.setClassesContent(classesForm.getClassesContent());
 
+        Long oldLevelId = classes.getLevel().getLevelId();
         Level level = lService.getLevel(classesForm.getLevelId());
         classes.setLevel(level);
 
@@ -111,9 +138,15 @@ public class ClassesService {
         classes.setClassesVideo(classesForm.getClassesVideo());
 
         classesr.save(classes);
+        // [추가] 이 강의를 수료한 회원은 이전 레벨 수료 수가 줄고 새 레벨 수료 수가 늘어남
+        if (!oldLevelId.equals(level.getLevelId())) {
+            learnerProgress.onClassesLevelChanged(classesId, oldLevelId, level.getLevelId());
+        }
+        eventPublisher.publishEvent(new ClassesChangedEvent(classesId));
     }
 
     // 강의 삭제
+    @Transactional // [추가] 강의와 리뷰 집계 행을 함께 삭제
     public void deleteClass(Long classesId) {
         Classes classes = getClassById(classesId);
 
@@ -123,65 +156,67 @@ public class ClassesService {
         }
 
         classesr.delete(classes);
+        reviewStatsService.delete(classesId); // [추가]
+        eventPublisher.publishEvent(new ClassesChangedEvent(classesId));
     }
 
-    // [추가]getRandomClasses 메서드 수정
+    // [수정] 랜덤 추천 강의 - 추천 풀에서 뽑아서 조회 (강의 수와 무관하게 일정한 비용)
     public List<Classes> getRandomClasses(User user, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-
         // 1. 로그인했고 레벨 정보가 있으면 -> 레벨별 랜덤 강의 조회
         if (user != null && user.getLevel() != null) {
-            return classesr.findRandomClassesByLevel(user.getLevel(), pageable).getContent();
+            return recommendationPool.sampleClasses(user.getLevel(), limit);
         }
 
         // 2. 비로그인이거나 레벨 정보가 없으면 -> 전체 랜덤 강의 조회
-        return classesr.findRandomClasses(pageable).getContent();
+        return recommendationPool.sampleClasses(null, limit);
     }
 
     // 페이징 및 검색 기능이 통합된 강의 목록 조회
+    // [수정] 같은 조건(레벨 상한 + 난이도 + 페이지)의 강의 id 는 캐시에서 조회하고, 엔티티는 id 로 한 번에 다시 조회
+    // [수정] 검색어가 있으면 전문 검색 색인에서 관련도 순으로 조회 (LIKE '%kw%' 전체 스캔 대체)
     public Page<Classes> getList(User user, String searchType, String kw, Long levelId, Pageable pageable) {
-        Specification<Classes> spec = getSpec(searchType, kw, levelId, user);
-        return classesr.findAll(spec, pageable);
+        Long bound = levelBound(user);
+        Long level = (levelId != null && levelId > 0) ? levelId : null;
+        if (kw != null && !kw.trim().isEmpty()) {
+            return searchService.searchClasses(searchType, kw.trim(), bound, level, pageable);
+        }
+        ClassesCatalog.PageKey key = new ClassesCatalog.PageKey(bound, level == null ? 0L : level, pageable);
+        ClassesCatalog.IdPage ids = catalog.findPage(key, getSpec(bound, level));
+        return new PageImpl<>(inOrder(ids.ids(), classesr.findAllById(ids.ids())), pageable, ids.total());
     }
 
-    // Specification 헬퍼 메서드 (검색 및 필터링)
-    private Specification<Classes> getSpec(String searchType, String kw, Long levelId, User user) {
+    // [추가] IN 쿼리 결과를 캐시된 목록 순서대로 정렬 (그 사이 삭제된 강의는 제외)
+    private static List<Classes> inOrder(List<Long> ids, List<Classes> rows) {
+        Map<Long, Classes> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(row.getClassesId(), row));
+        List<Classes> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Classes row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    // Specification 헬퍼 메서드 (필터링)
+    private Specification<Classes> getSpec(Long levelBound, Long levelId) {
         return new Specification<>() {
             private static final long SerialVersionUID = 1L;
 
             @Override
             public Predicate toPredicate(Root<Classes> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-                query.distinct(true);
                 List<Predicate> predicates = new ArrayList<>();
 
-                // 사용자 권한에 따른 레벨 필터링
+                // 사용자 권한에 따른 레벨 필터링 (levelBound 참고)
                 // 비로그인, 관리자, 강사: 모든 강의 표시
                 // 수강생: 본인 레벨 이하 강의만 표시
-                if (user != null && user.getRole() == UserRole.ROLE_LEARNER) {
-                    Long userLevelId;
-                    if (user.getLevel() != null) {
-                        userLevelId = user.getLevel().getLevelId();
-                    } else {
-                        userLevelId = 1L; // 레벨 없으면 초급만
-                    }
-                    predicates.add(cb.lessThanOrEqualTo(root.get("level").get("levelId"), userLevelId));
-                }
-                // 비로그인, 관리자, 강사는 레벨 제한 없음 (모든 강의 표시)
-
-                // 2. 검색어(kw)가 있을 경우 검색 조건 추가
-                if (kw != null && !kw.trim().isEmpty()) {
-                    String likeKw = "%" + kw.toLowerCase() + "%";
-
-                    if ("title".equals(searchType)) {
-                        predicates.add(cb.like(cb.lower(root.get("title")), likeKw));
-                    } else if ("instructor".equals(searchType)) {
-                        Join<Classes, User> userJoin = root.join("user", JoinType.INNER);
-                        predicates.add(cb.like(cb.lower(userJoin.get("userName")), likeKw));
-                    }
+                if (levelBound != null) {
+                    predicates.add(cb.lessThanOrEqualTo(root.get("level").get("levelId"), levelBound));
                 }
 
-                // 3. 난이도(levelId) 검색 (0이 아닐 경우)
-                if (levelId != null && levelId > 0) {
+                // 난이도(levelId) 검색
+                if (levelId != null) {
                     predicates.add(cb.equal(root.get("level").get("levelId"), levelId));
                 }
 
@@ -0,0 +1,153 @@
+package com.mysite.sbb.classes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserChangedEvent;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 메인페이지 추천 강의/강사 풀
+// ORDER BY RANDOM() 으로 테이블 전체를 정렬하는 대신, id 배열을 메모리에 들고 있다가 k개만 뽑아 findAllById 로 조회한다.
+// [수정] 강의/회원 변경 이벤트는 바뀐 id 하나만 반영하고(가입 폭주 시 전체 재조회 방지), 전체 재조회는 시작 시와 주기 스케줄로만.
+@RequiredArgsConstructor
+@Component
+public class RecommendationPool {
+
+    private final ClassesRepository classesr;
+    private final UserRepository userr;
+
+    private volatile Snapshot snapshot = new Snapshot(new long[0], Map.of(), new long[0]);
+
+    private record Snapshot(long[] classesIds, Map<Long, long[]> classesIdsByLevel, long[] instructorUnos) {
+    }
+
+    // 랜덤 추천 강의 (level 이 null 이면 전체에서)
+    public List<Classes> sampleClasses(Level level, int k) {
+        Snapshot current = snapshot;
+        long[] ids = (level == null) ? current.classesIds()
+                : current.classesIdsByLevel().getOrDefault(level.getLevelId(), new long[0]);
+        List<Classes> result = new ArrayList<>(classesr.findAllById(sample(ids, k)));
+        Collections.shuffle(result);
+        return result;
+    }
+
+    // 랜덤 추천 강사
+    public List<User> sampleInstructors(int k) {
+        List<User> result = new ArrayList<>(userr.findAllById(sample(snapshot.instructorUnos(), k)));
+        Collections.shuffle(result);
+        return result;
+    }
+
+    // id 배열 전체 갱신 (id/레벨만 조회하므로 엔티티 로딩 없음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lms.recommendation.refresh-interval-ms:300000}",
+            initialDelayString = "${lms.recommendation.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        List<Object[]> rows = classesr.findAllIdAndLevelId();
+        long[] classesIds = new long[rows.size()];
+        Map<Long, List<Long>> byLevel = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Long classesId = (Long) rows.get(i)[0];
+            Long levelId = (Long) rows.get(i)[1];
+            classesIds[i] = classesId;
+            byLevel.computeIfAbsent(levelId, key -> new ArrayList<>()).add(classesId);
+        }
+        Map<Long, long[]> classesIdsByLevel = new HashMap<>();
+        byLevel.forEach((levelId, ids) -> classesIdsByLevel.put(levelId, ids.stream().mapToLong(Long::longValue).toArray()));
+
+        long[] instructorUnos = userr.findUnoByRole(UserRole.ROLE_INSTRUCTOR).stream().mapToLong(Long::longValue).toArray();
+
+        snapshot = new Snapshot(classesIds, classesIdsByLevel, instructorUnos);
+    }
+
+    // 강의 하나 등록/수정/삭제 - 기존 위치에서 빼고, 남아 있으면 현재 레벨에 다시 넣음
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onClassesChanged(ClassesChangedEvent event) {
+        long classesId = event.classesId();
+        Snapshot current = snapshot;
+        long[] classesIds = without(current.classesIds(), classesId);
+        Map<Long, long[]> classesIdsByLevel = new HashMap<>();
+        current.classesIdsByLevel().forEach((levelId, ids) -> classesIdsByLevel.put(levelId, without(ids, classesId)));
+
+        Optional<Long> levelId = classesr.findLevelIdById(classesId);
+        if (levelId.isPresent()) {
+            classesIds = with(classesIds, classesId);
+            classesIdsByLevel.merge(levelId.get(), new long[] { classesId }, (ids, added) -> with(ids, classesId));
+        }
+        snapshot = new Snapshot(classesIds, classesIdsByLevel, current.instructorUnos());
+    }
+
+    // 강사였거나 강사가 된 회원만 반영 (수강생 가입/수정은 무시)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        if (!event.instructor()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        long[] instructorUnos = without(current.instructorUnos(), event.uno());
+        if (userr.findRoleByUno(event.uno()).orElse(null) == UserRole.ROLE_INSTRUCTOR) {
+            instructorUnos = with(instructorUnos, event.uno());
+        }
+        snapshot = new Snapshot(current.classesIds(), current.classesIdsByLevel(), instructorUnos);
+    }
+
+    private static long[] without(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                long[] result = new long[ids.length - 1];
+                System.arraycopy(ids, 0, result, 0, i);
+                System.arraycopy(ids, i + 1, result, i, ids.length - i - 1);
+                return result;
+            }
+        }
+        return ids; // 없으면 그대로 (복사 없음)
+    }
+
+    private static long[] with(long[] ids, long id) {
+        long[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    // 배열에서 중복 없이 k개 선택 (Floyd 알고리즘 - 배열 크기와 무관하게 O(k))
+    static List<Long> sample(long[] ids, int k) {
+        int n = ids.length;
+        if (k >= n) {
+            List<Long> all = new ArrayList<>(n);
+            for (long id : ids) {
+                all.add(id);
+            }
+            return all;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>();
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            picked.add(picked.contains(t) ? j : t);
+        }
+        List<Long> result = new ArrayList<>(k);
+        for (int index : picked) {
+            result.add(ids[index]);
+        }
+        return result;
+    }
+}
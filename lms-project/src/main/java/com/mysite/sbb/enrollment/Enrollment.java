@@ -6,11 +6,16 @@ import com.mysite.sbb.classes.Classes;
 import com.mysite.sbb.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -19,6 +24,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 수강생 기준 목록용 (강의 + 강사 + 난이도) / 강의 기준 수강생 목록용 (수강생 + 레벨)
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Enrollment.withClasses",
+			attributeNodes = @NamedAttributeNode(value = "classes", subgraph = "classes"),
+			subgraphs = @NamedSubgraph(name = "classes", attributeNodes = { @NamedAttributeNode("user"), @NamedAttributeNode("level") })),
+	@NamedEntityGraph(name = "Enrollment.withUser",
+			attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+			subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("level"))) })
 @Table(name = "enrollment",
 	    uniqueConstraints = {
 	        @UniqueConstraint(columnNames = {"classes_id", "uno"})
@@ -31,11 +44,11 @@ public class Enrollment {
 	@Column(name="enrollment_id")
     private Long enrollmentId; 
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "classes_id", nullable = false)
 	private Classes classes; // FK: 강의
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "uno", nullable = false)
 	private User user; // FK: 수강 회원
 
@@ -9,7 +9,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.user.CurrentUser;
 import com.mysite.sbb.user.User;
 import com.mysite.sbb.user.UserService;
 
@@ -35,14 +35,15 @@ public class EnrollmentController {
 
 	private final EnrollmentService enrollments;
 	private final UserService uService;
+	private final EnrollmentProgressBuffer progressBuffer;
+	private final ProgressReportPolicy reportPolicy;
 
 	// 수강신청 (학생 전용)
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/create/{classesId}")
-	public String enroll(@PathVariable("classesId") Long classesId, Principal principal,
+	public String enroll(@PathVariable("classesId") Long classesId, @CurrentUser User currentUser,
 			RedirectAttributes redirectAttributes) { // [수정] RedirectAttributes 파라미터 추가
 
-		User currentUser = uService.getUser(principal.getName());
 		// [수정] 에러/성공 메시지를 보여주기 위해 강의 상세 페이지로 리다이렉트
 		String redirectUrl = "redirect:/classes/" + classesId;
 		
@@ -76,12 +77,11 @@ public class EnrollmentController {
 	// [수정] 내 강의실 (학생 본인만) (페이징)
 	@PreAuthorize("isAuthenticated()")
 	@GetMapping("/user")
-	public String getUserEnrollments(Principal principal, Model model,
+	public String getUserEnrollments(@CurrentUser User currentUser, Model model,
 			// [수정] status 파라미터 받기 (기본값 "active")
 			@RequestParam(value = "status", defaultValue = "active") String status,
 			@RequestParam(value = "page", defaultValue = "0") int page) {
 
-		User currentUser = uService.getUser(principal.getName());
 
 		// 사용자의 전체 수강 목록을 가져옵니다.
 		Pageable pageable = PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "enrollmentDate")); // 5개씩
@@ -129,7 +129,7 @@ public class EnrollmentController {
 	public String markAsCompleted(@PathVariable("classesId") Long classesId,
 			    				// [신규] 폼에서 전송된 시청 시간(초) 받기
 								@RequestParam(value = "watch_duration", defaultValue = "0") int watchDuration,
-								Principal principal,
+								@CurrentUser User currentUser,
 								RedirectAttributes redirectAttributes) {
 				
 		// [신규] 10분(600초) 시청 시간 검증
@@ -144,7 +144,6 @@ public class EnrollmentController {
 		}
 
 		try {
-			User currentUser = uService.getUser(principal.getName());
 			enrollments.markAsCompleted(currentUser, classesId);
 					
 			// [수정] 성공 메시지와 함께 LocalStorage 초기화 신호 전송
@@ -164,10 +163,9 @@ public class EnrollmentController {
 	// 수강 취소 (관리자/강사만 가능)
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/delete/{enrollmentId}")
-	public String delete(@PathVariable("enrollmentId") Long enrollmentId, Authentication authentication) {
+	public String delete(@PathVariable("enrollmentId") Long enrollmentId, @CurrentUser User currentUser) {
 
 		Enrollment enrollment = enrollments.getEnrollmentById(enrollmentId); // 서비스에 getEnrollmentById 필요
-		User currentUser = uService.getUser(authentication.getName());
 
 		// 8. 본인 또는 관리자만 삭제할 수 있도록 권한 확인 (중요)
 		if (!enrollment.getUser().getUno()
@@ -187,12 +185,25 @@ public class EnrollmentController {
             @RequestParam("watched_seconds") int watchedSeconds, // 클라이언트가 보낸 시청 시간
             Principal principal) {
         
-        User currentUser = uService.getUser(principal.getName());
-        
-        // 위에서 만든 'Fixed' 서비스 메서드 호출
-        enrollments.updateRealtimeProgressFixed(currentUser, classesId, watchedSeconds);
+        // [수정] 매 초 들어오는 요청이므로 DB 대신 쓰기 지연 버퍼에 기록 (주기적으로 배치 반영)
+        Long uno = uService.getUno(principal.getName());
+        progressBuffer.record(uno, classesId, watchedSeconds);
         
         return ResponseEntity.ok("Progress Updated");
     }
 
+    // [추가] 진도 보고 (구간 도달 / 페이지 이탈 시에만 호출) - 다음 보고 간격과 수료 기준을 돌려줌
+    @PostMapping("/progress/{classesId}/report")
+    @ResponseBody
+    public ResponseEntity<ProgressReportResponse> reportProgress(
+            @PathVariable("classesId") Long classesId,
+            @RequestParam("watched_seconds") int watchedSeconds,
+            Principal principal) {
+
+        Long uno = uService.getUno(principal.getName());
+        progressBuffer.record(uno, classesId, watchedSeconds);
+
+        return ResponseEntity.ok(reportPolicy.nextReport(watchedSeconds));
+    }
+
 }
\ No newline at end of file
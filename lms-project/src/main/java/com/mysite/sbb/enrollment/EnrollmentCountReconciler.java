@@ -0,0 +1,25 @@
+package com.mysite.sbb.enrollment;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mysite.sbb.classes.ClassesRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강의별 수강생 수 카운터(classes.enrollment_count) 주기 보정
+// 평소에는 수강신청/취소가 카운터를 원자적으로 증감하지만, 회원 탈퇴(cascade 삭제)처럼 EnrollmentService 를
+// 거치지 않는 변경이나 컬럼 추가 직후의 초기값은 여기서 실제 수강 내역 수로 맞춘다. (기동 직후 한 번 실행)
+@RequiredArgsConstructor
+@Component
+public class EnrollmentCountReconciler {
+
+	private final ClassesRepository classesr;
+
+	@Scheduled(fixedDelayString = "${lms.enrollment.count-reconcile-interval-ms:3600000}")
+	@Transactional
+	public void reconcile() {
+		classesr.reconcileEnrollmentCounts();
+	}
+}
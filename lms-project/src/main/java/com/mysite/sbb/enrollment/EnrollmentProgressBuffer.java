@@ -0,0 +1,146 @@
+package com.mysite.sbb.enrollment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.sbb.DataNotFoundException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+// [추가] 실시간 진도율 heartbeat 쓰기 지연(write-behind) 버퍼
+// 시청 페이지가 1초마다 보내는 진도를 메모리에 모아 두었다가 주기적으로 JDBC 배치 UPDATE 로 한 번에 반영한다.
+// (uno, classesId) 별로 가장 큰 시청 시간만 보관하고, 수료 기준에 도달하면 즉시 반영한다.
+@RequiredArgsConstructor
+@Component
+public class EnrollmentProgressBuffer {
+
+	// 수료 기준 시간 (초) - 20초 시청 시 100%
+	public static final int TARGET_SECONDS = 20;
+
+	// 수료/수강 확인 키 기억 한도 / 유지 시간 (밀려나도 다시 한 번 반영하거나 조회할 뿐 결과는 같음)
+	private static final int MAX_KEYS = 10_000;
+	private static final Duration KEY_TTL = Duration.ofHours(1);
+
+	// 진도율은 내려가지 않고(GREATEST), 수료 여부는 한 번 true 가 되면 유지(OR)
+	private static final String FLUSH_SQL = "UPDATE enrollment SET progress = GREATEST(progress, ?), "
+			+ "is_completed = (is_completed OR ?) WHERE uno = ? AND classes_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EnrollmentRepository enrollmentr; // [추가] 수강 여부 확인
+	private final LearnerProgressService learnerProgress; // [추가] 수료 시 등급별 수료 집계 갱신
+
+	// 아직 DB에 반영되지 않은 (uno, classesId) → 최대 시청 시간(초) - 수강 중인 키만 들어오므로 수강 내역 수를 넘지 않음
+	private final Map<ProgressKey, Integer> pending = new ConcurrentHashMap<>();
+
+	// 이미 수료로 반영된 키 (수료 후 계속 들어오는 heartbeat 는 무시) - 수강 신청/취소 시 forget 으로 제거
+	private final Cache<ProgressKey, Boolean> completedKeys = Caffeine.newBuilder()
+			.maximumSize(MAX_KEYS)
+			.expireAfterAccess(KEY_TTL)
+			.build();
+
+	// [추가] 수강 중으로 확인된 키 (heartbeat 마다 조회하지 않도록) - 수강 신청/취소 시 forget 으로 제거
+	// 수강하지 않은 키는 기억하지 않으므로 신청 직후의 heartbeat 도 바로 받아들임
+	private final Cache<ProgressKey, Boolean> enrolledKeys = Caffeine.newBuilder()
+			.maximumSize(MAX_KEYS)
+			.expireAfterAccess(KEY_TTL)
+			.build();
+
+	record ProgressKey(Long uno, Long classesId) {
+	}
+
+	// heartbeat 기록 - 메모리만 갱신하고, 수료 기준에 처음 도달한 경우에만 즉시 반영
+	public void record(Long uno, Long classesId, int watchedSeconds) {
+		if (watchedSeconds <= 0) {
+			return;
+		}
+		ProgressKey key = new ProgressKey(uno, classesId);
+		if (completedKeys.getIfPresent(key) != null) {
+			return;
+		}
+		if (enrolledKeys.getIfPresent(key) == null) {
+			if (!enrollmentr.existsByUser_UnoAndClasses_ClassesId(uno, classesId)) {
+				throw new DataNotFoundException("수강 내역 없음");
+			}
+			enrolledKeys.put(key, Boolean.TRUE);
+		}
+
+		int merged = pending.merge(key, watchedSeconds, Math::max);
+		if (merged >= TARGET_SECONDS) {
+			Integer seconds = pending.remove(key);
+			if (seconds != null) {
+				write(List.of(Map.entry(key, seconds)));
+				completedKeys.put(key, Boolean.TRUE);
+			}
+		}
+	}
+
+	// [추가] 수강 신청/취소 시 해당 (회원, 강의)의 버퍼 상태를 비움
+	// (취소 후 다시 신청한 수강이 이전 수강의 수료 기록 때문에 heartbeat 를 무시하거나, 남은 시청 시간을 이어받지 않도록)
+	public void forget(Long uno, Long classesId) {
+		ProgressKey key = new ProgressKey(uno, classesId);
+		pending.remove(key);
+		completedKeys.invalidate(key);
+		enrolledKeys.invalidate(key);
+	}
+
+	// 주기적으로 쌓인 진도를 한 번의 배치 UPDATE 로 반영
+	@Scheduled(fixedDelayString = "${lms.progress.flush-interval-ms:5000}")
+	public void flush() {
+		List<Map.Entry<ProgressKey, Integer>> batch = new ArrayList<>();
+		for (ProgressKey key : pending.keySet()) {
+			// remove 는 원자적이므로, 그 사이 들어온 heartbeat 는 새 항목으로 남아 다음 주기에 반영됨
+			Integer seconds = pending.remove(key);
+			if (seconds != null) {
+				batch.add(Map.entry(key, seconds));
+			}
+		}
+		if (!batch.isEmpty()) {
+			write(batch);
+		}
+	}
+
+	// 종료 시 남은 진도 반영
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	// 반영 대기 중인 항목 수 (보고 주기 조절용 부하 지표)
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	private void write(List<Map.Entry<ProgressKey, Integer>> batch) {
+		try {
+			jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, entry) -> {
+				int seconds = entry.getValue();
+				ps.setInt(1, Math.min(100, (int) ((double) seconds / TARGET_SECONDS * 100)));
+				ps.setBoolean(2, seconds >= TARGET_SECONDS);
+				ps.setLong(3, entry.getKey().uno());
+				ps.setLong(4, entry.getKey().classesId());
+			});
+			// 수료 기준에 도달한 항목은 등급별 수료 집계를 다시 계산 (이미 수료였다면 값은 그대로)
+			for (Map.Entry<ProgressKey, Integer> entry : batch) {
+				if (entry.getValue() >= TARGET_SECONDS) {
+					learnerProgress.refreshByClasses(entry.getKey().uno(), entry.getKey().classesId());
+				}
+			}
+		} catch (RuntimeException e) {
+			// 실패한 항목은 다시 버퍼에 넣어 다음 주기에 재시도
+			for (Map.Entry<ProgressKey, Integer> entry : batch) {
+				pending.merge(entry.getKey(), entry.getValue(), Math::max);
+			}
+			throw e;
+		}
+	}
+}
@@ -1,39 +1,44 @@
 package com.mysite.sbb.enrollment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.mysite.sbb.classes.Classes;
-import com.mysite.sbb.level.Level;
 import com.mysite.sbb.user.User;
 
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>{
 
     // [수정] 사용자 기준으로 신청 목록 찾기 (페이징)
+    @EntityGraph("Enrollment.withClasses")
     Page<Enrollment> findByUser(User user, Pageable pageable);
 
     // [추가] 완료/진행중 페이징
+    @EntityGraph("Enrollment.withClasses")
     Page<Enrollment> findByUserAndCompleted(User user, boolean completed, Pageable pageable);
     
-    // 특정 회원의 신청 내역
-    List<Enrollment> findByUser_Uno(Long uno); 
+    // [수정] 특정 회원의 신청 내역 중 화면에 보이는 강의들의 수강/수료 여부만 조회 (강의 id, 수료 여부)
+    // 강의 목록 한 페이지 분량의 id 로만 찾으므로 (classes_id, uno) 유니크 인덱스로 바로 찾아감
+    @Query("SELECT e.classes.classesId, e.completed FROM Enrollment e "
+            + "WHERE e.user.uno = :uno AND e.classes.classesId IN :classesIds")
+    List<Object[]> findStatusByUserAndClassesIds(@Param("uno") Long uno, @Param("classesIds") Collection<Long> classesIds);
 
     // 특정 강의의 신청자 목록
+    @EntityGraph("Enrollment.withUser")
     List<Enrollment> findByClasses(Classes classes); 
     
     // 특정 회원의 특정 강의 신청
+    @EntityGraph("Enrollment.withUser")
     List<Enrollment> findByClasses_ClassesId(Long classesId); 
     
-    // 특정 사용자의 특정 레벨 수강 목록 조회
-    List<Enrollment> findByUserAndClasses_Level(User user, Level level);
-    
     // 중복 수강신청 방지용 (회원 + 강의 조합)
     boolean existsByUser_UnoAndClasses_ClassesId(Long uno, Long classesId);
     
@@ -43,8 +48,20 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>{
     // 강의와 사용자로 수강 정보 조회 (리뷰 작성 가능 여부 확인용)
     Optional<Enrollment> findByClassesAndUser(Classes classes, User user);
     
-    // 강사 ID(uno)로 수강내역 목록 조회 (수강생 관리 위함)
-    List<Enrollment> findByClasses_User_Uno(Long instructorUno);
+    // [수정] 강사별 수강생 목록 - 수강생 1명당 1행으로 DB 에서 집계 (전체 수강 내역을 불러와 메모리에서 중복 제거하던 방식 대체)
+    // 정렬은 StudentRosterService 가 JpaSort.unsafe 로 집계식(COUNT/AVG/MAX) 또는 컬럼을 지정
+    @Query(value = "SELECT new com.mysite.sbb.enrollment.StudentRosterView(u.uno, u.userId, u.userName, u.email, "
+            + "l.levelId, l.levelName, COUNT(e), SUM(CASE WHEN e.completed = true THEN 1 ELSE 0 END), "
+            + "AVG(e.progress), MAX(e.enrollmentDate)) "
+            + "FROM Enrollment e JOIN e.user u LEFT JOIN u.level l "
+            + "WHERE e.classes.user.uno = :instructorUno "
+            + "GROUP BY u.uno, u.userId, u.userName, u.email, l.levelId, l.levelName",
+            countQuery = "SELECT COUNT(DISTINCT e.user.uno) FROM Enrollment e WHERE e.classes.user.uno = :instructorUno")
+    Page<StudentRosterView> findRoster(@Param("instructorUno") Long instructorUno, Pageable pageable);
+
+    // [추가] 수강생 상세 - 이 수강생의 수강 내역 중 해당 강사의 강의만
+    @EntityGraph("Enrollment.withClasses")
+    List<Enrollment> findByUser_UnoAndClasses_User_Uno(Long uno, Long instructorUno);
     
     // 로그인한 사용자 기준으로 수강 완료(true)한 강의 개수
     long countByUser_UnoAndCompletedTrue(Long uno);
@@ -52,8 +69,13 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>{
     // 로그인한 사용자 기준 전체 수강 강의 개수
     long countByUser_Uno(Long uno);
     
-    // 특정 사용자가 특정 레벨에서 완료(true)한 강의 개수
-    long countByUserAndClasses_LevelAndCompletedTrue(User user, Level level);
+    // [수정] 특정 사용자가 특정 레벨에서 완료(true)한 강의 개수 - 학습자 등급별 집계(LearnerProgress) 재계산용
+    @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.user.uno = :uno AND e.classes.level.levelId = :levelId AND e.completed = true")
+    long countCompletedByLevel(@Param("uno") Long uno, @Param("levelId") Long levelId);
+
+    // [추가] 특정 강의를 수료한 회원 id 목록 (강의 레벨 변경 시 집계 재계산 대상)
+    @Query("SELECT e.user.uno FROM Enrollment e WHERE e.classes.classesId = :classesId AND e.completed = true")
+    List<Long> findCompletedUnosByClassesId(@Param("classesId") Long classesId);
     
     // (상세 페이지용) 특정 강의 ID의 총 수강신청 인원 수
     long countByClasses_ClassesId(Long classesId);
@@ -65,7 +87,13 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>{
             "GROUP BY e.classes.classesId")
     List<Object[]> countEnrollmentsByClasses(@Param("classes") List<Classes> classes);
     
+    // [추가] 강의 상세 페이지용 - 수강 여부(행 존재), 수료 여부, 이 강의에 작성한 리뷰 수를 한 번에 조회
+    @Query("SELECT e.completed, (SELECT COUNT(r) FROM Review r WHERE r.classes.classesId = :classesId AND r.user.uno = :uno) " +
+            "FROM Enrollment e WHERE e.user.uno = :uno AND e.classes.classesId = :classesId")
+    List<Object[]> findStatusWithReviewCount(@Param("uno") Long uno, @Param("classesId") Long classesId);
+    
     // [추가] 특정 강의의 수강생 목록 조회 (검색 + 페이징)
+    @EntityGraph("Enrollment.withUser")
     @Query("select e from Enrollment e "
             + "where e.classes.classesId = :classesId "
             + "and (lower(e.user.userName) like lower(concat('%', :kw, '%')) "
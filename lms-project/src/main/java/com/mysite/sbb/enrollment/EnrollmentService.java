@@ -1,5 +1,6 @@
 package com.mysite.sbb.enrollment;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.mysite.sbb.DataNotFoundException;
 import com.mysite.sbb.classes.Classes;
 import com.mysite.sbb.classes.ClassesRepository;
-import com.mysite.sbb.level.Level;
 import com.mysite.sbb.user.User;
 
 import lombok.RequiredArgsConstructor;
@@ -26,8 +26,11 @@ public class EnrollmentService {
 
 	private final EnrollmentRepository enrollmentr;
 	private final ClassesRepository classesr;
+	private final LearnerProgressService learnerProgress; // [추가] 등급별 수료 집계 갱신
+	private final EnrollmentProgressBuffer progressBuffer; // [추가] 재수강 시 이전 진도 버퍼 상태 제거
 
 	// 로그인한 회원의 수강신청
+	@Transactional // [추가] 수강 내역 저장과 수강생 수 증가를 한 트랜잭션으로
 	public void enroll(Long classesId, User currentUser) {
 
 		// 강의 유효성 검증
@@ -50,11 +53,20 @@ public class EnrollmentService {
 		enrollment.setClasses(classes);
 		enrollment.setUser(currentUser);
 		enrollmentr.save(enrollment);
+		classesr.addEnrollmentCount(classesId, 1); // [추가] 수강생 수 +1
+		progressBuffer.forget(currentUser.getUno(), classesId);
 	}
 
-	// 특정 회원의 수강 목록 (내 강의실)
-	public List<Enrollment> getByUser(Long uno) {
-		return enrollmentr.findByUser_Uno(uno);
+	// [수정] 화면에 보이는 강의들에 대한 회원의 수강 상태 (강의 id → "COMPLETED" / "ENROLLED", 신청하지 않은 강의는 없음)
+	// 전체 수강 내역 대신 현재 페이지의 강의 id 로만 조회 (강의 목록, 강사별 강의 목록, 메인페이지 추천 강의)
+	public Map<Long, String> getStatusMap(User user, Collection<Long> classesIds) {
+		if (user == null || classesIds == null || classesIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return enrollmentr.findStatusByUserAndClassesIds(user.getUno(), classesIds).stream()
+				.collect(Collectors.toMap(
+						row -> (Long) row[0],
+						row -> (Boolean) row[1] ? "COMPLETED" : "ENROLLED"));
 	}
 
 	// [수정] 현재 로그인 사용자의 수강 목록 (페이징)
@@ -95,41 +107,19 @@ public class EnrollmentService {
         return enrollmentr.findByClassesIdAndKeyword(classesId, kw, pageable);
     }
 
-	// 특정 사용자의 특정 레벨 강의 진도율 계산 (80% 이상 수강 완료 여부)
-	// 파라미터 : user(사용자), level(대상 레벨)
-	// 리턴 : 해당 레벨 강의의 80% 이상 수강 완료 시 true, 아니면 false
-	public boolean CompletedEnoughForPromotion(User user, Level level) {
-		// 해당 레벨의 전체 강의 수 조회
-		long totalClassesInLevel = classesr.countByLevel(level); // ClassesRepository에 countByLevel 메서드 필요
-
-		if (totalClassesInLevel == 0) {
-			return false; // 해당 레벨에 강의가 없으면 승급 불가
-		}
-
-		// 사용자가 해당 레벨에서 수강 완료(completed=true)한 강의 수 조회
-		List<Enrollment> enrollments = enrollmentr.findByUserAndClasses_Level(user, level); // EnrollmentRepository에 메서드
-																							// 추가 필요
-		long completedClasses = enrollments.stream().filter(Enrollment::isCompleted).count();
-		// :: -> 메서드 참조라는 표현식 Enrollment 안에 있는 isCompleted 메서드를 참조한다는 의미
-		// isCompleted 메서드를 호출해서, 그 결과가 true인 객체들만 다음 단계로 넘긴다.
-		// stream() 메서드는 컬렉션을 스트림으로 변환해서 데이터 요소들을 하나씩 처리할 수 있게 한다.
-
-		// 진도율 계산 (완료 강의 수 / 전체 강의 수)
-		double completionRate = (double) completedClasses / totalClassesInLevel;
-
-		// 80% 이상인지 확인
-		return completionRate >= 0.8;
-	}
-
 	// 진도율 업데이트 (관리자/강사용)
 	@Transactional
 	public void updateProgress(Long enrollmentId, int progress, boolean completed) {
 		Enrollment enrollment = enrollmentr.findById(enrollmentId)
 				.orElseThrow(() -> new DataNotFoundException("해당 수강 내역을 찾을 수 없습니다."));
 
+		boolean wasCompleted = enrollment.isCompleted();
 		enrollment.setProgress(progress);
 		enrollment.setCompleted(completed);
 		// @Transactional 덕분에 save() 불필요 (자동 flush)
+		if (wasCompleted != completed) {
+			learnerProgress.refresh(enrollment.getUser().getUno(), enrollment.getClasses().getLevel().getLevelId()); // [추가] 등급별 수료 집계 갱신
+		}
 	}
 
 	// 사용자의 수강완료 버튼 처리 메서드
@@ -147,20 +137,26 @@ public class EnrollmentService {
 			enrollment.setCompleted(true);
 			enrollment.setProgress(100);
 			enrollmentr.save(enrollment);
+			learnerProgress.refresh(user.getUno(), classes.getLevel().getLevelId()); // [추가] 등급별 수료 집계 갱신
 		}
 	}
 
 	// 수강 취소
+	@Transactional // [추가] 수강 내역 삭제와 수강생 수 감소를 한 트랜잭션으로
 	public void delete(Long enrollmentId) {
-		if (!enrollmentr.existsById(enrollmentId)) {
-			throw new DataNotFoundException("삭제하려는 수강 정보가 존재하지 않습니다.");
+		// [수정] 수료한 수강 내역이면 등급별 수료 집계도 다시 계산해야 하므로 수강 내역을 조회
+		Enrollment enrollment = enrollmentr.findById(enrollmentId)
+				.orElseThrow(() -> new DataNotFoundException("삭제하려는 수강 정보가 존재하지 않습니다."));
+		Classes classes = enrollment.getClasses();
+		Long uno = enrollment.getUser().getUno();
+		boolean completed = enrollment.isCompleted();
+		Long levelId = completed ? classes.getLevel().getLevelId() : null;
+		enrollmentr.delete(enrollment);
+		classesr.addEnrollmentCount(classes.getClassesId(), -1); // [추가] 수강생 수 -1
+		progressBuffer.forget(uno, classes.getClassesId());
+		if (completed) {
+			learnerProgress.refresh(uno, levelId);
 		}
-		enrollmentr.deleteById(enrollmentId);
-	}
-
-	// 특정 강사의 수강생 목록(수강 내역) 조회 ---
-	public List<Enrollment> getEnrollmentsForInstructor(Long instructorUno) {
-		return enrollmentr.findByClasses_User_Uno(instructorUno);
 	}
 
 	// 완료한 강의수
@@ -185,17 +181,10 @@ public class EnrollmentService {
 		return enrollmentr.findByUserAndClasses(user, classes);
 	}
 
-	// 특정 레벨에서 완료한 강의 수
-	public long getCompletedCountByLevel(User user, Level level) {
-		if (user == null || level == null) {
-			return 0;
-		}
-		return enrollmentr.countByUserAndClasses_LevelAndCompletedTrue(user, level);
-	}
-	
 	// (상세 페이지용) 특정 강의의 총 수강신청 인원 수 반환
+	// [수정] COUNT 대신 강의의 enrollment_count 컬럼을 읽음
 	public long getEnrollmentCount(Long classesId) {
-		return enrollmentr.countByClasses_ClassesId(classesId);
+		return classesr.findEnrollmentCountById(classesId).orElse(0L);
 	}
 	
 	// (목록 페이지용) 강의 목록(List)을 받아, 각 강의의 인원수를 Map<ClassesId, Count>로 반환
@@ -206,7 +195,9 @@ public class EnrollmentService {
 		}
 		
 		// Repository에서 목록을 받아옴
-		List<Object[]> results = enrollmentr.countEnrollmentsByClasses(classes);
+		// [수정] enrollment GROUP BY 대신 강의의 enrollment_count 컬럼을 id(PK) 로 조회
+		List<Long> ids = classes.stream().map(Classes::getClassesId).toList();
+		List<Object[]> results = classesr.findEnrollmentCountsByIds(ids);
 		
 		// List를 Map으로 변환하여 반환
 		return results.stream()
@@ -215,35 +206,4 @@ public class EnrollmentService {
 						row -> (Long) row[1]
 				));
 	}
-	// [추가] 20초 기준 실시간 진도율 업데이트
-    @Transactional
-    public void updateRealtimeProgressFixed(User user, Long classesId, int watchedSeconds) {
-        Classes classes = classesr.findById(classesId)
-                .orElseThrow(() -> new DataNotFoundException("강의 없음"));
-        
-        Enrollment enrollment = enrollmentr.findByUserAndClasses(user, classes)
-                .orElseThrow(() -> new DataNotFoundException("수강 내역 없음"));
-
-        // 1. 기준 시간: 20초 (고정)
-        int targetSeconds = 20; 
-
-        // 2. 진도율 계산 ( (본 시간 / 20초) * 100 )
-        int calculatedProgress = (int) ((double) watchedSeconds / targetSeconds * 100);
-
-        // 3. 최대 100% 제한
-        if (calculatedProgress > 100) calculatedProgress = 100;
-
-        // 4. 기존 진도율보다 높을 때만 업데이트 (진도율 하락 방지)
-        if (calculatedProgress > enrollment.getProgress()) {
-            enrollment.setProgress(calculatedProgress);
-        }
-
-        // 5. 20초 이상(100%)이면 '수료' 처리
-        if (watchedSeconds >= targetSeconds && !enrollment.isCompleted()) {
-            enrollment.setCompleted(true);
-            // enrollment.setEnrollmentDate(LocalDateTime.now()); // 필요 시 수료일 업데이트
-        }
-        
-        enrollmentr.save(enrollment);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mysite.sbb.enrollment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// [추가] 학습자 등급별 수료 강의 수 집계 (회원 + 레벨당 한 행)
+// 수료 여부가 바뀔 때 LearnerProgressService 가 갱신한다. (승급 자격 확인 시 COUNT 대체)
+@Getter
+@Setter
+@Entity
+@Table(name = "learner_progress")
+public class LearnerProgress {
+
+	@EmbeddedId
+	private LearnerProgressId id;
+
+	@Column(name = "completed_count", nullable = false)
+	private long completedCount; // 해당 레벨에서 수료한 강의 수
+}
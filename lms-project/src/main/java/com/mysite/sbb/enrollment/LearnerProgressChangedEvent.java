@@ -0,0 +1,5 @@
+package com.mysite.sbb.enrollment;
+
+// [추가] 학습자 등급별 집계 변경 알림 - 커밋 후 승급 현황 캐시 무효화용
+public record LearnerProgressChangedEvent(Long uno, Long levelId) {
+}
@@ -0,0 +1,25 @@
+package com.mysite.sbb.enrollment;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// [추가] 학습자 등급별 집계 키 (회원, 레벨)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class LearnerProgressId implements Serializable {
+
+	@Column(name = "uno")
+	private Long uno;
+
+	@Column(name = "level_id")
+	private Long levelId;
+}
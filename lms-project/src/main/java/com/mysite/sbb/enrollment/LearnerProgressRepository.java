@@ -0,0 +1,25 @@
+package com.mysite.sbb.enrollment;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface LearnerProgressRepository extends JpaRepository<LearnerProgress, LearnerProgressId> {
+
+	// 재계산용 - 같은 (회원, 레벨) 집계를 동시에 갱신해도 마지막 결과가 최신 수료 상태를 반영하도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM LearnerProgress p WHERE p.id = :id")
+	Optional<LearnerProgress> findForUpdate(@Param("id") LearnerProgressId id);
+
+	// [추가] 집계 행이 없으면 0 으로 생성, 있으면 아무것도 하지 않음 (H2 는 MERGE, MySQL 은 INSERT IGNORE 등으로 변환)
+	// 동시에 처음 수료한 두 요청이 모두 INSERT 해서 기본 키 중복으로 실패하지 않도록 잠그기 전에 호출
+	@Modifying
+	@Query("INSERT INTO LearnerProgress (id.uno, id.levelId, completedCount) VALUES (:uno, :levelId, 0) ON CONFLICT DO NOTHING")
+	int insertIfAbsent(@Param("uno") Long uno, @Param("levelId") Long levelId);
+}
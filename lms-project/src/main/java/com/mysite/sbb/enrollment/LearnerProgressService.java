@@ -0,0 +1,99 @@
+package com.mysite.sbb.enrollment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.user.User;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 학습자 등급별 수료 현황 관리
+// 화면은 캐시된 승급 현황(PromotionStatus)만 읽고, 수료 여부가 바뀔 때만 (회원, 레벨) 집계 행을 다시 계산한다.
+// 캐시 키가 (회원, 레벨)이라 회원 레벨이 바뀌면 자연히 새 레벨의 현황을 읽는다.
+@RequiredArgsConstructor
+@Service
+public class LearnerProgressService {
+
+	public static final String PROGRESS_CACHE = "learnerProgress";
+
+	// 레벨별 승급 테스트 퀴즈 타입 (고급은 승급 테스트 없음)
+	private static final Map<Long, String> PROMOTION_TEST_TYPES = Map.of(
+			1L, "PROMOTION_TEST_BEGINNER", // 초급 -> 중급
+			2L, "PROMOTION_TEST_INTERMEDIATE"); // 중급 -> 고급
+
+	private final LearnerProgressRepository progressr;
+	private final EnrollmentRepository enrollmentr;
+	private final ClassesRepository classesr;
+	private final QuizRepository quizr;
+	private final ApplicationEventPublisher eventPublisher;
+
+	// 로그인 회원의 현재 레벨 승급 현황 (캐시)
+	@Cacheable(cacheNames = PROGRESS_CACHE, key = "#user.uno + ':' + #user.level.levelId",
+			condition = "#user != null and #user.level != null")
+	@Transactional(readOnly = true)
+	public PromotionStatus getStatus(User user) {
+		if (user == null || user.getLevel() == null) {
+			return PromotionStatus.NONE;
+		}
+		Long levelId = user.getLevel().getLevelId();
+		long completed = progressr.findById(new LearnerProgressId(user.getUno(), levelId))
+				.map(LearnerProgress::getCompletedCount)
+				.orElse(0L); // 집계 행이 없으면 아직 수료한 강의가 없음
+
+		String promotionTestType = PROMOTION_TEST_TYPES.get(levelId);
+		if (promotionTestType == null || completed < PromotionStatus.REQUIRED_COUNT) {
+			return new PromotionStatus(completed, false, null);
+		}
+		Optional<Quiz> promotionQuizOpt = quizr.findByQuizType(promotionTestType);
+		if (promotionQuizOpt.isEmpty()) {
+			System.err.println(promotionTestType + " 타입의 퀴즈를 찾을 수 없습니다.");
+			return new PromotionStatus(completed, false, null);
+		}
+		return new PromotionStatus(completed, true, promotionQuizOpt.get().getQuizId());
+	}
+
+	// (회원, 레벨) 집계를 수강 내역에서 다시 계산 - 수료 여부를 바꾼 트랜잭션 안에서 호출 (조회 전 자동 flush)
+	@Transactional
+	public void refresh(Long uno, Long levelId) {
+		LearnerProgressId id = new LearnerProgressId(uno, levelId);
+		// 행을 먼저 잠근 뒤 세어야 동시에 수료한 다른 강의까지 포함된 값이 마지막에 남음
+		// [수정] 없으면 먼저 만들어 둠 - 조회 후 INSERT 하면 동시에 첫 수료한 두 요청이 모두 INSERT 함
+		progressr.insertIfAbsent(uno, levelId);
+		LearnerProgress progress = progressr.findForUpdate(id).orElseThrow();
+		progress.setCompletedCount(enrollmentr.countCompletedByLevel(uno, levelId));
+		eventPublisher.publishEvent(new LearnerProgressChangedEvent(uno, levelId));
+	}
+
+	// 강의 id 로 레벨을 찾아 재계산 (진도 버퍼처럼 강의 id 만 아는 경우)
+	@Transactional
+	public void refreshByClasses(Long uno, Long classesId) {
+		classesr.findById(classesId).ifPresent(classes -> refresh(uno, classes.getLevel().getLevelId()));
+	}
+
+	// 강의 레벨이 바뀌면 이 강의를 수료한 회원들의 이전/새 레벨 집계를 모두 재계산
+	@Transactional
+	public void onClassesLevelChanged(Long classesId, Long oldLevelId, Long newLevelId) {
+		List<Long> unos = enrollmentr.findCompletedUnosByClassesId(classesId);
+		for (Long uno : unos) {
+			refresh(uno, oldLevelId);
+			refresh(uno, newLevelId);
+		}
+	}
+
+	// 커밋 후 승급 현황 캐시 무효화
+	@CacheEvict(cacheNames = PROGRESS_CACHE, key = "#event.uno() + ':' + #event.levelId()")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProgressChanged(LearnerProgressChangedEvent event) {
+	}
+}
@@ -0,0 +1,40 @@
+package com.mysite.sbb.enrollment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 시청 페이지 진도 보고 주기 결정
+// 서버에 반영 대기 중인 진도가 많을수록(부하가 클수록) 다음 보고 간격을 늘린다.
+@RequiredArgsConstructor
+@Component
+public class ProgressReportPolicy {
+
+	// 진도율 구간 수 (20초 기준 4구간 = 25% 마다 보고)
+	private static final int MILESTONE_COUNT = 4;
+
+	private final EnrollmentProgressBuffer progressBuffer;
+
+	@Value("${lms.progress.report.base-interval-seconds:5}")
+	private int baseIntervalSeconds;
+
+	@Value("${lms.progress.report.max-interval-seconds:60}")
+	private int maxIntervalSeconds;
+
+	// 이 개수만큼 반영 대기 항목이 쌓일 때마다 보고 간격 2배
+	@Value("${lms.progress.report.pending-step:2000}")
+	private int pendingStep;
+
+	public ProgressReportResponse nextReport(int watchedSeconds) {
+		int completionSeconds = EnrollmentProgressBuffer.TARGET_SECONDS;
+		return new ProgressReportResponse(nextIntervalSeconds(), completionSeconds,
+				Math.max(1, completionSeconds / MILESTONE_COUNT), watchedSeconds >= completionSeconds);
+	}
+
+	private int nextIntervalSeconds() {
+		int steps = Math.min(progressBuffer.pendingCount() / Math.max(1, pendingStep), 16);
+		long interval = (long) baseIntervalSeconds << steps;
+		return (int) Math.min(interval, maxIntervalSeconds);
+	}
+}
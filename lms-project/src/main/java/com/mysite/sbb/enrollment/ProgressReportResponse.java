@@ -0,0 +1,14 @@
+package com.mysite.sbb.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// [추가] 진도 보고 응답 - 클라이언트는 이 값에 맞춰 다음 보고 시점을 정한다
+@Getter
+@AllArgsConstructor
+public class ProgressReportResponse {
+	private int nextIntervalSeconds; // 다음 보고까지 최소 간격 (초)
+	private int completionSeconds;   // 수료 기준 시청 시간 (초)
+	private int milestoneSeconds;    // 진도 구간 간격 (초) - 구간을 넘을 때만 보고
+	private boolean completed;       // 수료 기준 도달 여부 (true 면 더 이상 보고하지 않음)
+}
@@ -0,0 +1,43 @@
+package com.mysite.sbb.enrollment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// [추가] 메인/강의 목록 상단의 승급 현황 (캐시 대상 - 불변)
+@Getter
+@AllArgsConstructor
+public class PromotionStatus {
+
+	// 승급 테스트 응시에 필요한 수료 강의 수
+	public static final long REQUIRED_COUNT = 10;
+
+	// 비로그인 / 레벨 없는 회원 (강사, 관리자)
+	public static final PromotionStatus NONE = new PromotionStatus(0, false, null);
+
+	private final long completedCount; // 현재 레벨에서 수료한 강의 수
+	private final boolean eligible; // 승급 테스트 응시 가능 여부
+	private final Long quizId; // 응시할 승급 테스트 id (응시 불가면 null)
+
+	public long getTotalCount() {
+		return REQUIRED_COUNT;
+	}
+
+	// 진행률 (10개가 넘어도 100%)
+	public double getProgressPercent() {
+		return Math.min(100.0, (double) completedCount / REQUIRED_COUNT * 100);
+	}
+
+	// 템플릿(mainpage, classes_list)이 쓰는 모델 속성 이름으로 변환
+	public Map<String, Object> toModelAttributes() {
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		attributes.put("completedCount", completedCount);
+		attributes.put("totalCount", REQUIRED_COUNT);
+		attributes.put("progressPercent", getProgressPercent());
+		attributes.put("promotionTestEligible", eligible);
+		attributes.put("promotionTestQuizId", quizId);
+		return attributes;
+	}
+}
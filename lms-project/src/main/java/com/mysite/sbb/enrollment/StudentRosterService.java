@@ -0,0 +1,47 @@
+package com.mysite.sbb.enrollment;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강사 마이페이지 - 수강생 관리 조회
+// 수강생별 집계(수강/수료 건수, 평균 진도율, 최근 활동)를 GROUP BY 로 한 페이지씩만 조회하므로
+// 수강 내역이 많은 강사도 메모리 사용량이 페이지 크기로 제한된다.
+@RequiredArgsConstructor
+@Service
+public class StudentRosterService {
+
+	private static final int PAGE_SIZE = 20;
+	public static final String DEFAULT_SORT = "activity";
+
+	// 화면의 정렬 키 → JPQL 정렬식 (EnrollmentRepository.findRoster 의 별칭 u, e 기준)
+	private static final Map<String, String> SORT_EXPRESSIONS = Map.of(
+			"name", "u.userName",
+			"enrolled", "COUNT(e)",
+			"completed", "SUM(CASE WHEN e.completed = true THEN 1 ELSE 0 END)",
+			"progress", "AVG(e.progress)",
+			"activity", "MAX(e.enrollmentDate)");
+
+	private final EnrollmentRepository enrollmentr;
+
+	// sort: name / enrolled / completed / progress / activity (그 외는 activity), dir: asc / desc
+	public Page<StudentRosterView> getRoster(Long instructorUno, int page, String sort, String dir) {
+		String expression = SORT_EXPRESSIONS.getOrDefault(sort, SORT_EXPRESSIONS.get(DEFAULT_SORT));
+		Sort.Direction direction = "asc".equalsIgnoreCase(dir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+		// 같은 값이면 회원번호 순 (페이지 경계에서 행이 바뀌지 않도록)
+		Sort order = JpaSort.unsafe(direction, expression).andUnsafe(Sort.Direction.ASC, "u.uno");
+		return enrollmentr.findRoster(instructorUno, PageRequest.of(Math.max(page, 0), PAGE_SIZE, order));
+	}
+
+	// 수강생 상세 - 이 강사의 강의 수강 내역만
+	public List<Enrollment> getStudentEnrollments(Long instructorUno, Long studentUno) {
+		return enrollmentr.findByUser_UnoAndClasses_User_Uno(studentUno, instructorUno);
+	}
+}
@@ -0,0 +1,22 @@
+package com.mysite.sbb.enrollment;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// [추가] 강사별 수강생 목록 한 줄 (수강생 1명 = 1행) - 수강 건수/수료 건수/평균 진도율/최근 활동을 DB 에서 집계
+@Getter
+@AllArgsConstructor
+public class StudentRosterView {
+	private Long uno;
+	private String userId;
+	private String userName;
+	private String email;
+	private Long levelId;
+	private String levelName;
+	private long enrolledCount; // 내 강의 수강 건수
+	private long completedCount; // 그중 수료 건수
+	private Double averageProgress; // 평균 진도율(%)
+	private LocalDateTime lastActivity; // 내 강의에 가장 최근 수강 신청한 시각
+}
@@ -1,6 +1,5 @@
 package com.mysite.sbb.memo;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,8 +21,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.mysite.sbb.classes.Classes;
 import com.mysite.sbb.classes.ClassesService;
+import com.mysite.sbb.user.CurrentUser;
 import com.mysite.sbb.user.User;
-import com.mysite.sbb.user.UserService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,16 +33,14 @@ public class MemoController {
 
     private final MemoService memoService;
     private final ClassesService classesService;
-    private final UserService userService;
 
     // 메모 목록 조회 (AJAX용) - DTO로 반환
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/list/{classesId}")
     @ResponseBody
     public ResponseEntity<List<MemoDTO>> getMemoList(@PathVariable("classesId") Long classesId,
-                                                      Principal principal) {
+                                                      @CurrentUser User user) {
         Classes classes = classesService.getClassById(classesId);
-        User user = userService.getUser(principal.getName());
         
         List<Memo> memos = memoService.getMemosByClassesAndUser(classes, user);
         List<MemoDTO> memoDTOs = memos.stream()
@@ -59,12 +56,11 @@ public class MemoController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> createMemo(@PathVariable("classesId") Long classesId,
                                                           @RequestBody Map<String, Object> request,
-                                                          Principal principal) {
+                                                          @CurrentUser User user) {
         Map<String, Object> response = new HashMap<>();
         
         try {
             Classes classes = classesService.getClassById(classesId);
-            User user = userService.getUser(principal.getName());
             
             String content = (String) request.get("content");
             Integer videoTimestamp = request.get("videoTimestamp") != null ? 
@@ -91,12 +87,11 @@ public class MemoController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> editMemo(@PathVariable("memoId") Long memoId,
                                                         @RequestBody Map<String, Object> request,
-                                                        Principal principal) {
+                                                        @CurrentUser User user) {
         Map<String, Object> response = new HashMap<>();
         
         try {
             Memo memo = memoService.getMemo(memoId);
-            User user = userService.getUser(principal.getName());
             
             // 작성자 확인
             if (!memo.getUser().getUno().equals(user.getUno())) {
@@ -124,12 +119,11 @@ public class MemoController {
     @DeleteMapping("/delete/{memoId}")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> deleteMemo(@PathVariable("memoId") Long memoId,
-                                                          Principal principal) {
+                                                          @CurrentUser User user) {
         Map<String, Object> response = new HashMap<>();
         
         try {
             Memo memo = memoService.getMemo(memoId);
-            User user = userService.getUser(principal.getName());
             
             // 작성자 확인
             if (!memo.getUser().getUno().equals(user.getUno())) {
@@ -0,0 +1,32 @@
+package com.mysite.sbb.monitoring;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+// [추가] 엔티티 로드 수 집계 - Hibernate 의 POST_LOAD 이벤트 리스너로 등록
+@RequiredArgsConstructor
+@Component
+public class EntityLoadCounter implements PostLoadEventListener {
+
+	private final EntityManagerFactory emf;
+
+	@PostConstruct
+	void register() {
+		emf.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+				.requireService(EventListenerRegistry.class)
+				.appendListeners(EventType.POST_LOAD, this);
+	}
+
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		RequestSqlStats.entityLoaded();
+	}
+}
@@ -0,0 +1,30 @@
+package com.mysite.sbb.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+// [추가] JDBC 실행 시간 집계 - Hibernate 가 세션마다 새로 만든다 (hibernate.session.events.auto)
+public class JdbcTimeListener implements SessionEventListener {
+
+	private long statementStart;
+	private long batchStart;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		RequestSqlStats.jdbcExecuted(System.nanoTime() - statementStart);
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		RequestSqlStats.jdbcExecuted(System.nanoTime() - batchStart);
+	}
+}
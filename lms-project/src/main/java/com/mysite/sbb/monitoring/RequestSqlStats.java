@@ -0,0 +1,70 @@
+package com.mysite.sbb.monitoring;
+
+// [추가] 요청 하나가 실행한 SQL 집계 (SQL 수, JDBC 실행 시간, 엔티티 로드 수)
+// 요청을 처리하는 스레드에만 보관 - 요청 밖(스케줄러, 시작 시 작업)에서 실행된 SQL 은 집계하지 않는다.
+public final class RequestSqlStats {
+
+	private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long jdbcNanos;
+	private int entityLoads;
+
+	private RequestSqlStats() {
+	}
+
+	// 집계 시작 (이미 집계 중이면 null - forward 등으로 같은 스레드에서 다시 들어온 경우)
+	static RequestSqlStats begin() {
+		if (CURRENT.get() != null) {
+			return null;
+		}
+		RequestSqlStats stats = new RequestSqlStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	// 집계 종료
+	static void end() {
+		CURRENT.remove();
+	}
+
+	static RequestSqlStats current() {
+		return CURRENT.get();
+	}
+
+	// SqlStatsInspector - Hibernate 가 SQL 을 준비할 때마다
+	static void statementPrepared() {
+		RequestSqlStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.statements++;
+		}
+	}
+
+	// JdbcTimeListener - 실행(배치 포함) 한 번에 걸린 시간
+	static void jdbcExecuted(long nanos) {
+		RequestSqlStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.jdbcNanos += nanos;
+		}
+	}
+
+	// EntityLoadCounter - DB 에서 엔티티 하나를 읽어 올 때마다
+	static void entityLoaded() {
+		RequestSqlStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.entityLoads++;
+		}
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getJdbcNanos() {
+		return jdbcNanos;
+	}
+
+	public int getEntityLoads() {
+		return entityLoads;
+	}
+}
@@ -0,0 +1,38 @@
+package com.mysite.sbb.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+// [추가] 요청별 SQL 집계를 위한 Hibernate 설정
+// - statement_inspector: SqlStatsInspector 로 감싸서 등록 (설정 파일에 지정된 inspector 는 그 안에서 이어서 호출)
+// - session.events.auto: JdbcTimeListener (다른 리스너가 지정돼 있으면 그대로 두고 JDBC 시간은 집계하지 않음)
+@Configuration
+public class SqlStatsConfig {
+
+	@Bean
+	HibernatePropertiesCustomizer sqlStatsHibernatePropertiesCustomizer() {
+		return properties -> {
+			StatementInspector configured = toInspector(properties.get(AvailableSettings.STATEMENT_INSPECTOR));
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatsInspector(configured));
+			properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimeListener.class.getName());
+		};
+	}
+
+	// 설정 값은 inspector 객체, 클래스, 클래스 이름 중 하나
+	private static StatementInspector toInspector(Object value) {
+		if (value == null || value instanceof StatementInspector) {
+			return (StatementInspector) value;
+		}
+		try {
+			Class<?> type = (value instanceof Class<?> c) ? c
+					: ClassUtils.forName(value.toString().trim(), SqlStatsConfig.class.getClassLoader());
+			return (StatementInspector) type.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			throw new IllegalStateException("StatementInspector 를 만들 수 없습니다: " + value, e);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.mysite.sbb.monitoring;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// [추가] handler 별 SQL 지표 요약 (/actuator/sqlstats) - SQL 을 가장 많이 실행한 handler 부터
+// 분포(백분위, 히스토그램)는 /actuator/metrics/lms.sql.statements?tag=handler:ClassesController.detail 에서 확인
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+	private final MeterRegistry meterRegistry;
+
+	public record HandlerSqlStats(String handler, long requests, long totalStatements, double meanStatements,
+			double maxStatements, double totalJdbcMillis, double meanEntityLoads, long budgetExceeded) {
+	}
+
+	@ReadOperation
+	public List<HandlerSqlStats> handlers() {
+		return meterRegistry.find(SqlStatsInterceptor.STATEMENTS).summaries().stream()
+				.map(this::toStats)
+				.sorted(Comparator.comparingLong(HandlerSqlStats::totalStatements).reversed())
+				.toList();
+	}
+
+	private HandlerSqlStats toStats(DistributionSummary statements) {
+		String handler = statements.getId().getTag(SqlStatsInterceptor.HANDLER_TAG);
+		Timer jdbc = meterRegistry.find(SqlStatsInterceptor.JDBC_TIME).tag(SqlStatsInterceptor.HANDLER_TAG, handler).timer();
+		DistributionSummary loads = meterRegistry.find(SqlStatsInterceptor.ENTITY_LOADS)
+				.tag(SqlStatsInterceptor.HANDLER_TAG, handler).summary();
+		Counter exceeded = meterRegistry.find(SqlStatsInterceptor.BUDGET_EXCEEDED)
+				.tag(SqlStatsInterceptor.HANDLER_TAG, handler).counter();
+		return new HandlerSqlStats(handler, statements.count(), (long) statements.totalAmount(), statements.mean(),
+				statements.max(),
+				(jdbc == null) ? 0 : jdbc.totalTime(TimeUnit.MILLISECONDS),
+				(loads == null) ? 0 : loads.mean(),
+				(exceeded == null) ? 0 : (long) exceeded.count());
+	}
+}
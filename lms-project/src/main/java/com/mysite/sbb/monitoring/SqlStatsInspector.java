@@ -0,0 +1,19 @@
+package com.mysite.sbb.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// [추가] Hibernate 가 보내는 SQL 수 집계 - 따로 설정된 StatementInspector 가 있으면 그대로 이어서 호출
+public class SqlStatsInspector implements StatementInspector {
+
+	private final StatementInspector delegate;
+
+	public SqlStatsInspector(StatementInspector delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		RequestSqlStats.statementPrepared();
+		return (delegate == null) ? sql : delegate.inspect(sql);
+	}
+}
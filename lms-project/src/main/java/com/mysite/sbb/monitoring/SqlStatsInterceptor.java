@@ -0,0 +1,117 @@
+package com.mysite.sbb.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// [추가] 컨트롤러 메서드(handler)별 SQL 지표 기록
+// 요청이 끝나면(뷰 렌더링 포함) SQL 수 / JDBC 시간 / 엔티티 로드 수를 handler 태그(예: ClassesController.detail)로 기록하고,
+// SQL 수가 기준(lms.sql.statement-budget)을 넘으면 경고를 남긴다. (/actuator/sqlstats, /actuator/metrics/lms.sql.*)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SqlStatsInterceptor implements AsyncHandlerInterceptor {
+
+	public static final String STATEMENTS = "lms.sql.statements";
+	public static final String JDBC_TIME = "lms.sql.jdbc.time";
+	public static final String ENTITY_LOADS = "lms.sql.entity.loads";
+	public static final String BUDGET_EXCEEDED = "lms.sql.budget.exceeded";
+	public static final String HANDLER_TAG = "handler";
+
+	private static final String STARTED_ATTR = SqlStatsInterceptor.class.getName() + ".STARTED";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${lms.sql.statement-budget:30}")
+	private int statementBudget;
+
+	private record Started(String handler, RequestSqlStats stats) {
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod method) {
+			RequestSqlStats stats = RequestSqlStats.begin();
+			if (stats != null) {
+				request.setAttribute(STARTED_ATTR, new Started(handlerName(method), stats));
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (!(request.getAttribute(STARTED_ATTR) instanceof Started started)
+				|| started.stats() != RequestSqlStats.current()) {
+			return;
+		}
+		request.removeAttribute(STARTED_ATTR);
+		RequestSqlStats.end();
+		record(started.handler(), started.stats(), request);
+	}
+
+	// 비동기 처리로 넘어가면 이 스레드의 집계는 버림 (스레드 재사용 시 섞이지 않도록)
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+			Object handler) {
+		if (request.getAttribute(STARTED_ATTR) instanceof Started started
+				&& started.stats() == RequestSqlStats.current()) {
+			request.removeAttribute(STARTED_ATTR);
+			RequestSqlStats.end();
+		}
+	}
+
+	private void record(String handler, RequestSqlStats stats, HttpServletRequest request) {
+		DistributionSummary.builder(STATEMENTS)
+				.description("요청 하나가 실행한 SQL 수")
+				.baseUnit("statements")
+				.tag(HANDLER_TAG, handler)
+				.publishPercentiles(0.5, 0.95)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(stats.getStatements());
+		Timer.builder(JDBC_TIME)
+				.description("요청 하나의 JDBC 실행 시간 합계")
+				.tag(HANDLER_TAG, handler)
+				.publishPercentiles(0.5, 0.95)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+		DistributionSummary.builder(ENTITY_LOADS)
+				.description("요청 하나가 DB 에서 읽은 엔티티 수")
+				.baseUnit("entities")
+				.tag(HANDLER_TAG, handler)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(stats.getEntityLoads());
+
+		if (stats.getStatements() > statementBudget) {
+			Counter.builder(BUDGET_EXCEEDED)
+					.description("SQL 수 기준을 넘은 요청 수")
+					.tag(HANDLER_TAG, handler)
+					.register(meterRegistry)
+					.increment();
+			log.warn("[SQL 경고] {} ({} {}) SQL {}개 실행 (기준 {}개), JDBC {}ms, 엔티티 로드 {}개", handler,
+					request.getMethod(), request.getRequestURI(), stats.getStatements(), statementBudget,
+					TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()), stats.getEntityLoads());
+		}
+	}
+
+	// 예: ClassesController.detail
+	private static String handlerName(HandlerMethod method) {
+		return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+	}
+}
@@ -34,11 +34,11 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime paidAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "level_id", nullable = false)
     private Level level;
 }
\ No newline at end of file
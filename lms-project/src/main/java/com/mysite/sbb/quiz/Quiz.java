@@ -9,6 +9,7 @@ import com.mysite.sbb.quiz_question.QuizQuestion;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -28,7 +29,7 @@ public class Quiz {
 	@Column(name = "quiz_id")
 	private Long quizId; //퀴즈 ID
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "level_id") // 레벨 테스트는 null
 	private Level level; // Level FK 연결 (승급 테스트용)
 	
@@ -1,8 +1,12 @@
 package com.mysite.sbb.quiz;
 
 import java.util.List;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.enrollment.LearnerProgressService;
+import com.mysite.sbb.quiz_question.QuizQuestionChangedEvent;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -10,8 +14,10 @@ import lombok.RequiredArgsConstructor;
 public class QuizService {
 	
 	private final QuizRepository quizr;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 퀴즈 등록
+    @CacheEvict(cacheNames = LearnerProgressService.PROGRESS_CACHE, allEntries = true) // [추가] 승급 현황의 승급 테스트 id 갱신
     public Quiz createQuiz(Quiz quiz) {
         return quizr.save(quiz);
     }
@@ -28,6 +34,7 @@ public class QuizService {
     }
 
     // 퀴즈 수정
+    @CacheEvict(cacheNames = LearnerProgressService.PROGRESS_CACHE, allEntries = true) // [추가] 승급 현황 캐시 무효화
     public Quiz updateQuiz(Long quizId, Quiz updatedQuiz) {
         Quiz quiz = getQuizById(quizId);
         quiz.setQuizTitle(updatedQuiz.getQuizTitle());
@@ -38,7 +45,9 @@ public class QuizService {
     }
 
     // 퀴즈 삭제
+    @CacheEvict(cacheNames = LearnerProgressService.PROGRESS_CACHE, allEntries = true) // [추가] 승급 현황 캐시 무효화
     public void deleteQuiz(Long quizId) {
     	quizr.deleteById(quizId);
+    	eventPublisher.publishEvent(new QuizQuestionChangedEvent(quizId)); // [추가] 문제도 함께 삭제되므로 캐시 무효화
     }
 }
@@ -4,17 +4,22 @@ import com.mysite.sbb.quiz_attempt.QuizAttempt;
 import com.mysite.sbb.quiz_question.QuizQuestion;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
+// [추가] 응시/결과 화면용 fetch plan - 답안과 문제를 함께 조회
+@NamedEntityGraph(name = "QuizAnswer.withQuestion", attributeNodes = @NamedAttributeNode("qQuestion"))
 public class QuizAnswer {
 	
 	@Id
@@ -22,11 +27,11 @@ public class QuizAnswer {
 	@Column(name = "answer_id")
 	private Long answerId; //답안 번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "question_id", nullable = false)
 	private QuizQuestion qQuestion; // 각 답안은 1개의 문제에 연결
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "attempt_id", nullable = false)
 	private QuizAttempt qAttempt; // 각 답안은 1개의 응시 기록에 연결
 
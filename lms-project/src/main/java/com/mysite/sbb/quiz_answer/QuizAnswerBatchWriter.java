@@ -0,0 +1,47 @@
+package com.mysite.sbb.quiz_answer;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mysite.sbb.quiz_question.QuizQuestion;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 퀴즈 답안 JDBC 배치 처리
+// QuizAnswer 는 IDENTITY 전략이라 Hibernate 가 INSERT 를 배치로 묶지 못하므로, 빈 답안 생성은 JDBC 배치 한 번으로 처리한다.
+// (JPA 트랜잭션과 같은 커넥션을 사용하므로 같은 트랜잭션 안에서 커밋/롤백됨)
+@RequiredArgsConstructor
+@Repository
+public class QuizAnswerBatchWriter {
+
+	private static final String INSERT_PLACEHOLDER_SQL =
+			"INSERT INTO quiz_answer (attempt_id, question_id, is_correct) VALUES (?, ?, FALSE)";
+
+	private static final String UPDATE_GRADE_SQL =
+			"UPDATE quiz_answer SET user_answer = ?, is_correct = ? WHERE answer_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 채점 결과 한 건 (답안 id, 사용자 답, 정답 여부)
+	public record Grade(Long answerId, String userAnswer, boolean correct) {
+	}
+
+	// 응시 기록에 문제별 빈 답안(채점 전) 생성
+	public void insertPlaceholders(Long attemptId, List<QuizQuestion> questions) {
+		jdbcTemplate.batchUpdate(INSERT_PLACEHOLDER_SQL, questions, questions.size(), (ps, question) -> {
+			ps.setLong(1, attemptId);
+			ps.setLong(2, question.getQuestionId());
+		});
+	}
+
+	// 채점 결과를 배치 UPDATE 한 번으로 반영
+	public void updateGrades(List<Grade> grades) {
+		jdbcTemplate.batchUpdate(UPDATE_GRADE_SQL, grades, grades.size(), (ps, grade) -> {
+			ps.setString(1, grade.userAnswer());
+			ps.setBoolean(2, grade.correct());
+			ps.setLong(3, grade.answerId());
+		});
+	}
+}
@@ -2,10 +2,18 @@ package com.mysite.sbb.quiz_answer;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mysite.sbb.quiz_attempt.QuizAttempt;
 
 public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long>{
+	@EntityGraph("QuizAnswer.withQuestion")
 	List<QuizAnswer> findByqAttempt(QuizAttempt qAttempt);
+
+	// [추가] 채점용 - 응시 기록의 (답안 id, 문제 id)만 조회 (문제 엔티티는 불러오지 않음)
+	@Query("SELECT a.answerId, a.qQuestion.questionId FROM QuizAnswer a WHERE a.qAttempt.attemptId = :attemptId")
+	List<Object[]> findQuestionIdsByAttemptId(@Param("attemptId") Long attemptId);
 }
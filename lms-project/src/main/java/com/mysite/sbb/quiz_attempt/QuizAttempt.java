@@ -10,11 +10,14 @@ import com.mysite.sbb.user.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -23,6 +26,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 응시 기록 목록용 fetch plan - 퀴즈와 응시자를 함께 조회
+@NamedEntityGraph(name = "QuizAttempt.withQuizAndUser",
+		attributeNodes = { @NamedAttributeNode("quiz"), @NamedAttributeNode("user") })
 @Table(name = "quiz_attempt")
 public class QuizAttempt {
 	
@@ -32,12 +38,12 @@ public class QuizAttempt {
 	private Long attemptId; //응시 번호
 	
 	// Quiz FK (N:1)
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name="quiz_id", nullable = false)
 	private Quiz quiz;
 	
 	// User FK (N:1)
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uno", nullable = false)
     private User user;
 	
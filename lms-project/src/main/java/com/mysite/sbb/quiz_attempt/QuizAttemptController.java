@@ -1,13 +1,11 @@
 package com.mysite.sbb.quiz_attempt;
 
-import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,8 +23,8 @@ import com.mysite.sbb.quiz_answer.QuizAnswer;
 import com.mysite.sbb.quiz_answer.QuizAnswerForm;
 import com.mysite.sbb.quiz_answer.QuizAnswerListForm;
 import com.mysite.sbb.quiz_answer.QuizAnswerRepository;
+import com.mysite.sbb.user.CurrentUser;
 import com.mysite.sbb.user.User;
-import com.mysite.sbb.user.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +35,6 @@ import lombok.RequiredArgsConstructor;
 public class QuizAttemptController {
 	
 	private final QuizAttemptService qAttempts;
-	private final UserService uService;
 	private final QuizService qService;
 	private final QuizAnswerRepository qAnswerr;
 	
@@ -46,10 +43,9 @@ public class QuizAttemptController {
 	// 리턴 : 퀴즈 풀이 페이지 또는 에러 페이지로
 	@PreAuthorize("isAuthenticated()")
 	@PostMapping("/start/{quizId}")
-	public String startAttempt(Model model, @PathVariable("quizId") Long quizId, Principal principal) {
+	public String startAttempt(Model model, @PathVariable("quizId") Long quizId, @CurrentUser User user) {
 		
 		Quiz quiz = qService.getQuizById(quizId);
-		User user = uService.getUser(principal.getName());
 		
 		try {
 			// [수정] 서비스의 startAttempt 호출 (이 안에서 20개 문제/답안 생성)
@@ -69,11 +65,10 @@ public class QuizAttemptController {
 	// 퀴즈 풀이 페이지 (GET) 메소드 추가 (10/28)
 		@PreAuthorize("isAuthenticated()")
 		@GetMapping("/exam/{attemptId}")
-		public String showQuizExam(Model model, @PathVariable("attemptId") Long attemptId, Principal principal) {
+		public String showQuizExam(Model model, @PathVariable("attemptId") Long attemptId, @CurrentUser User currentUser) {
 			
 			// 1. 응시 기록(Attempt) 조회
 			QuizAttempt attempt = qAttempts.getAttemptById(attemptId);
-			User currentUser = uService.getUser(principal.getName());
 			
 			// 2. 본인 확인
 			if (!attempt.getUser().getUno().equals(currentUser.getUno())) {
@@ -114,12 +109,11 @@ public class QuizAttemptController {
 		public String submitAnswers(
 				@PathVariable("attemptId") Long attemptId,
 				@ModelAttribute QuizAnswerListForm answerListForm,
-				Authentication authentication,
+				@CurrentUser User currentUser,
 				RedirectAttributes redirectAttributes,
 				HttpServletRequest request // 이전 페이지 URL 얻기
 				) {
 			try {
-				User currentUser = uService.getUser(authentication.getName());
 				
 				// NullPointException 방지: answerForm 또는 getAnswers()가 null일 경우 빈 리스트 사용
 				List<QuizAnswerForm> submittedForms = Optional.ofNullable(answerListForm)
@@ -152,10 +146,9 @@ public class QuizAttemptController {
 		// 리턴 : 보여줄 뷰 이름
 		@PreAuthorize("isAuthenticated()")
 		@GetMapping("/{attemptId}/result")
-		public String getAttemptResult(@PathVariable("attemptId") Long attemptId, Authentication authentication, Model model) {
+		public String getAttemptResult(@PathVariable("attemptId") Long attemptId, @CurrentUser User currentUser, Model model) {
 			try {
 				// 1. 현재 사용자 정보 가져오기
-				User currentUser = uService.getUser(authentication.getName());
 				// 2. Service 호출하여 결과 메세지가 포함된 응시 기록 객체 가져오기
 				QuizAttempt attemptResult = qAttempts.getResultAttempt(attemptId, currentUser);
 				// 3. Model 객체에 필요한 데이터를 담아 HTML 페이지로 전달
@@ -182,9 +175,8 @@ public class QuizAttemptController {
 		// 현재 로그인한 사용자의 응시기록 목록 조회 및 화면 표시
 		@PreAuthorize("isAuthenticated()")
 		@GetMapping("/user/attempt")
-		public String getCurrentUserAttempts(Principal principal, Model model) {
+		public String getCurrentUserAttempts(@CurrentUser User currentUser, Model model) {
 			try {
-				User currentUser = uService.getUser(principal.getName());
 				List<QuizAttempt> attempts = qAttempts.getAttemptsByUser(currentUser.getUno());
 				model.addAttribute("attemptList", attempts);
 				return "my_quiz_result";
@@ -1,7 +1,11 @@
 package com.mysite.sbb.quiz_attempt;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.context.annotation.Lazy;
@@ -13,10 +17,14 @@ import com.mysite.sbb.level.Level;
 import com.mysite.sbb.level.LevelService;
 import com.mysite.sbb.quiz.Quiz;
 import com.mysite.sbb.quiz_answer.QuizAnswer;
+import com.mysite.sbb.quiz_answer.QuizAnswerBatchWriter;
+import com.mysite.sbb.quiz_answer.QuizAnswerBatchWriter.Grade;
 import com.mysite.sbb.quiz_answer.QuizAnswerForm;
 import com.mysite.sbb.quiz_answer.QuizAnswerRepository;
+import com.mysite.sbb.quiz_question.QuizAnswerKey;
+import com.mysite.sbb.quiz_question.QuizAnswerKeyCache;
 import com.mysite.sbb.quiz_question.QuizQuestion;
-import com.mysite.sbb.quiz_question.QuizQuestionRepository;
+import com.mysite.sbb.quiz_question.QuizQuestionSampler;
 import com.mysite.sbb.user.User;
 import com.mysite.sbb.user.UserService;
 
@@ -28,7 +36,9 @@ public class QuizAttemptService {
 	
 	private final QuizAttemptRepository qAttemptr;
 	private final QuizAnswerRepository qAnswerr;
-	private final QuizQuestionRepository qQuestionr;
+	private final QuizAnswerBatchWriter qAnswerWriter; // [추가] 답안 JDBC 배치 처리
+	private final QuizQuestionSampler qQuestionSampler; // [수정] 문제 랜덤 추출 (ORDER BY RAND() 대체)
+	private final QuizAnswerKeyCache qAnswerKeyCache; // [추가] 퀴즈별 정답표 캐시
 	
 	@Lazy
 	private final UserService uService; // User 정보 접근 및 수정 위해
@@ -39,7 +49,7 @@ public class QuizAttemptService {
 	@Transactional
     public QuizAttempt startAttempt(Quiz quiz, User user) {
 		
-		List<QuizQuestion> randomQuestions = qQuestionr.findRandom20QuestionsByQuizId(quiz.getQuizId());
+		List<QuizQuestion> randomQuestions = qQuestionSampler.sample(quiz.getQuizId(), 20);
 		
 		if (randomQuestions.isEmpty()) {
 			throw new RuntimeException("이 퀴즈에 등록된 문제가 없습니다. Quiz ID: " + quiz.getQuizId());
@@ -63,13 +73,8 @@ public class QuizAttemptService {
 		QuizAttempt savedAttempt = qAttemptr.save(attempt);
 		
 		// 20개의 빈 답변 생성
-		for (QuizQuestion question : randomQuestions) {
-			QuizAnswer answer = new QuizAnswer();
-			answer.setQAttempt(savedAttempt); // 방금 생성된 응시와 연결
-			answer.setQQuestion(question); // 랜덤으로 뽑힌 문제와 연결
-			answer.setCorrect(false); // 기본값 (채점 전)
-			qAnswerr.save(answer);
-		}
+		// [수정] 문제마다 save 하던 것을 JDBC 배치 INSERT 한 번으로 처리 (21회 → 2회 왕복)
+		qAnswerWriter.insertPlaceholders(savedAttempt.getAttemptId(), randomQuestions);
 		
 		return savedAttempt;
     }
@@ -98,40 +103,46 @@ public class QuizAttemptService {
 		int totalScore = 0; // 총점 계산용 변수
 		Quiz quiz = attempt.getQuiz(); // 이 응시에 해당하는 퀴즈 정보 가져오기
 		
-		// 4. 제출된 답안 목록(List)를 하나씩 확인
+		// [수정] 답안마다 findById/save 하던 것을, 이 응시의 (답안 id → 문제 id) 만 한 번에 조회
+		Map<Long, Long> questionIdByAnswerId = new HashMap<>();
+		for (Object[] row : qAnswerr.findQuestionIdsByAttemptId(attemptId)) {
+			questionIdByAnswerId.put((Long) row[0], (Long) row[1]);
+		}
+		
+		// [수정] 문제 엔티티 대신 퀴즈 정답표(문제 id, 정답, 배점)로 채점
+		QuizAnswerKey answerKey = qAnswerKeyCache.get(quiz.getQuizId());
+		if (!questionIdByAnswerId.values().stream().allMatch(answerKey::contains)) {
+			answerKey = qAnswerKeyCache.reload(quiz.getQuizId()); // 캐시된 정답표가 오래된 경우 다시 만듦
+		}
+		
+		// 4. 제출된 답안 목록(List)를 하나씩 확인 (메모리에서 채점)
+		Map<Long, Grade> grades = new LinkedHashMap<>();
+		Map<Long, Integer> scores = new HashMap<>();
 		for (QuizAnswerForm submittedForm : submittedForms) {
 			
-			// 폼의 'qAnswerId'로 DB에 미리 생성된 QuizAnswer 레코드를 찾습니다.
-						QuizAnswer savedAnswer = qAnswerr.findById(submittedForm.getQAnswerId())
-			                    .orElseThrow(() -> new DataNotFoundException("답안 레코드를 찾을 수 없습니다. ID: " + submittedForm.getQAnswerId()));
-						
-						// 이 답안이 현재 attemptId에 속한 것이 맞는지 이중 확인
-						if (!savedAnswer.getQAttempt().getAttemptId().equals(attemptId)) {
-							throw new SecurityException("잘못된 답안이 제출되었습니다. (Attempt ID 불일치)");
-						}
-						
-						// userAnswer가 null인 경우 빈 문자열로 처리 (객관식 미선택 시)
-						String userAnswer = Optional.ofNullable(submittedForm.getUserAnswer()).orElse("");
-						
-						// 사용자가 선택한 답안을 DB 레코드에 '업데이트'
-						savedAnswer.setUserAnswer(userAnswer); 
-						
-						// 답안에 해당하는 문제 정보 가져오기 (이미 연결되어 있음)
-						QuizQuestion question = savedAnswer.getQQuestion();
-						
-						// 정답 비교
-						boolean isCorrect = question.getCorrectAnswer().equalsIgnoreCase(userAnswer);
-						savedAnswer.setCorrect(isCorrect); // 채점 결과(맞음/틀림) '업데이트'
-						
-						// qAttempt와 qQuestion은 startAttempt에서 이미 설정했으므로 다시 설정할 필요 없음
-						
-						qAnswerr.save(savedAnswer); // ★★★ 변경된 답안(userAnswer, isCorrect)을 DB에 '업데이트'
-						
-						// 맞았으면 점수 합산
-						if (isCorrect) {
-							totalScore += question.getScore(); // 문제에 설정된 점수 더하기
-						}
-					}
+			// 이 응시(attemptId)에 속한 답안인지 확인 (다른 응시의 답안 id 는 목록에 없음)
+			Long answerId = submittedForm.getQAnswerId();
+			Long questionId = questionIdByAnswerId.get(answerId);
+			if (questionId == null) {
+				throw new SecurityException("잘못된 답안이 제출되었습니다. (Attempt ID 불일치)");
+			}
+			
+			// userAnswer가 null인 경우 빈 문자열로 처리 (객관식 미선택 시)
+			String userAnswer = Optional.ofNullable(submittedForm.getUserAnswer()).orElse("");
+			
+			// 정답 비교 (정답표에 없는 문제 = 그 사이 삭제된 문제는 오답 처리)
+			boolean isCorrect = answerKey.isCorrect(questionId, userAnswer);
+			grades.put(answerId, new Grade(answerId, userAnswer, isCorrect));
+			scores.put(answerId, isCorrect ? answerKey.score(questionId) : 0);
+		}
+		
+		// 같은 답안이 여러 번 제출된 경우 마지막 답만 반영하고, 점수는 답안별로 한 번만 합산
+		for (int score : scores.values()) {
+			totalScore += score; // 문제에 설정된 점수 더하기
+		}
+		
+		// 채점 결과(userAnswer, isCorrect)를 배치 UPDATE 한 번으로 반영
+		qAnswerWriter.updateGrades(new ArrayList<>(grades.values()));
 		// ---- 채점 끝 ----
 		
 		// 5. 계산된 총점을 응시 기록(Attempt)에 업데이트
@@ -0,0 +1,61 @@
+package com.mysite.sbb.quiz_question;
+
+import java.util.Arrays;
+import java.util.List;
+
+// [추가] 퀴즈별 정답표 (불변)
+// 채점에 필요한 (문제 id, 정답, 배점)만 원시 배열로 보관한다. 문제 본문/보기(TEXT)는 들고 있지 않음.
+// 문제 id 는 오름차순 정렬되어 있어 이진 탐색으로 찾는다.
+public final class QuizAnswerKey {
+
+	private final long[] questionIds;
+	private final String[] answers; // 정답 (원문 그대로)
+	private final int[] scores;
+
+	private QuizAnswerKey(long[] questionIds, String[] answers, int[] scores) {
+		this.questionIds = questionIds;
+		this.answers = answers;
+		this.scores = scores;
+	}
+
+	// (questionId, correctAnswer, score) 행 목록으로 생성 - questionId 오름차순이어야 함
+	static QuizAnswerKey of(List<Object[]> rows) {
+		int n = rows.size();
+		long[] ids = new long[n];
+		String[] answers = new String[n];
+		int[] scores = new int[n];
+		for (int i = 0; i < n; i++) {
+			Object[] row = rows.get(i);
+			ids[i] = ((Number) row[0]).longValue();
+			answers[i] = (String) row[1];
+			scores[i] = ((Number) row[2]).intValue();
+		}
+		for (int i = 1; i < n; i++) {
+			if (ids[i - 1] >= ids[i]) {
+				throw new IllegalArgumentException("문제 id 는 오름차순이어야 합니다.");
+			}
+		}
+		return new QuizAnswerKey(ids, answers, scores);
+	}
+
+	public int size() {
+		return questionIds.length;
+	}
+
+	public boolean contains(long questionId) {
+		return Arrays.binarySearch(questionIds, questionId) >= 0;
+	}
+
+	// 정답 여부 (정답표에 없는 문제는 오답) - 기존 채점과 같은 equalsIgnoreCase 비교
+	// (toUpperCase 로 미리 정규화하면 "ß" → "SS" 처럼 길이가 바뀌는 문자에서 결과가 달라짐)
+	public boolean isCorrect(long questionId, String userAnswer) {
+		int i = Arrays.binarySearch(questionIds, questionId);
+		return i >= 0 && answers[i] != null && answers[i].equalsIgnoreCase(userAnswer);
+	}
+
+	// 문제 배점 (정답표에 없는 문제는 0)
+	public int score(long questionId) {
+		int i = Arrays.binarySearch(questionIds, questionId);
+		return (i >= 0) ? scores[i] : 0;
+	}
+}
@@ -0,0 +1,56 @@
+package com.mysite.sbb.quiz_question;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 퀴즈별 정답표 캐시
+// 문제가 추가/수정/삭제되면(QuizQuestionChangedEvent) 해당 퀴즈의 정답표를 버리고, 다음 채점 때 다시 만든다.
+@RequiredArgsConstructor
+@Component
+public class QuizAnswerKeyCache {
+
+	private final QuizQuestionRepository qQuestionr;
+
+	// quizId → 정답표
+	private final Map<Long, QuizAnswerKey> keys = new ConcurrentHashMap<>();
+
+	// [수정] 무효화 횟수 - 정답표를 만드는 도중 무효화가 일어나면 만든 정답표는 이번 채점에만 쓰고 캐시하지 않음
+	// (문제 변경 커밋 전에 읽은 행으로 만든 정답표가 무효화 이후에 캐시되는 것을 방지)
+	private final AtomicLong evictions = new AtomicLong();
+
+	public QuizAnswerKey get(Long quizId) {
+		QuizAnswerKey cached = keys.get(quizId);
+		if (cached != null) {
+			return cached;
+		}
+		long before = evictions.get();
+		QuizAnswerKey built = QuizAnswerKey.of(qQuestionr.findAnswerKeyRowsByQuizId(quizId));
+		keys.put(quizId, built);
+		if (evictions.get() != before) {
+			keys.remove(quizId, built); // 넣은 뒤 다시 확인 - 무효화가 put 전후 어느 쪽에 끼어들어도 남지 않음
+		}
+		return built;
+	}
+
+	// 캐시된 정답표가 오래된 경우(문제가 빠져 있음) 다시 만들어 반환
+	public QuizAnswerKey reload(Long quizId) {
+		evict(quizId);
+		return get(quizId);
+	}
+
+	public void evict(Long quizId) {
+		evictions.incrementAndGet();
+		keys.remove(quizId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onQuestionChanged(QuizQuestionChangedEvent event) {
+		evict(event.quizId());
+	}
+}
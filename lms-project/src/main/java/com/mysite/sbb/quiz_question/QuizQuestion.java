@@ -5,11 +5,14 @@ import com.mysite.sbb.user.User;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,6 +20,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 문제 관리 목록용 fetch plan - 출제자를 함께 조회
+@NamedEntityGraph(name = "QuizQuestion.withAuthor", attributeNodes = @NamedAttributeNode("author"))
 @Table(name = "quiz_question")
 public class QuizQuestion {
 	
@@ -25,7 +30,7 @@ public class QuizQuestion {
 	@Column(name = "question_id")
 	private Long questionId; //문제 번호
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "quiz_id", nullable = false)
 	private Quiz quiz; // Quiz FK
 	
@@ -52,7 +57,7 @@ public class QuizQuestion {
 	@Column(name = "correct_answer", columnDefinition = "TEXT", nullable = false)
 	private String correctAnswer;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "author_uno")
     private User author;
 
@@ -0,0 +1,5 @@
+package com.mysite.sbb.quiz_question;
+
+// [추가] 퀴즈 문제 등록/수정/삭제 시 발행되는 이벤트 (문제 은행 캐시 무효화용)
+public record QuizQuestionChangedEvent(Long quizId) {
+}
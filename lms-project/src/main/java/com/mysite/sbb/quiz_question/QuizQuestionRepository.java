@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,12 +14,18 @@ public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long
 	List<QuizQuestion> findByQuiz_QuizId(Long quizId);
 	
 	// 퀴즈 ID로 문제를 찾되, 페이징을 적용하는 메소드
+	@EntityGraph("QuizQuestion.withAuthor")
 	Page<QuizQuestion> findByQuizQuizId(Long quizId, Pageable pageable);
 	
-	// 특정 퀴즈(Quiz)에 속한 문제들 중 20개를 랜덤으로 추출합니다.
-	@Query(value = "SELECT * FROM quiz_question WHERE quiz_id = :quizId ORDER BY RAND() LIMIT 20", nativeQuery = true)
-	List<QuizQuestion> findRandom20QuestionsByQuizId(@Param("quizId") Long quizId);
+	// [수정] 특정 퀴즈(Quiz)에 속한 문제 id 목록 - 랜덤 추출은 QuizQuestionSampler 가 담당 (ORDER BY RAND() 대체)
+	@Query("SELECT q.questionId FROM QuizQuestion q WHERE q.quiz.quizId = :quizId")
+	List<Long> findIdsByQuizId(@Param("quizId") Long quizId);
 	
+	// [추가] 정답표(QuizAnswerKey)용 - 본문/보기 없이 (문제 id, 정답, 배점)만 조회
+	@Query("SELECT q.questionId, q.correctAnswer, q.score FROM QuizQuestion q WHERE q.quiz.quizId = :quizId ORDER BY q.questionId")
+	List<Object[]> findAnswerKeyRowsByQuizId(@Param("quizId") Long quizId);
+	
+	@EntityGraph("QuizQuestion.withAuthor")
 	@Query("select q from QuizQuestion q left join q.author a "
 			+ "where q.quiz.quizId = :quizId "
 			+ "and (lower(q.quizContent) like lower(concat('%', :kw, '%')) "
@@ -0,0 +1,76 @@
+package com.mysite.sbb.quiz_question;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 문제 은행 랜덤 추출기
+// 퀴즈별 문제 id 배열을 메모리에 캐시해 두고, 부분 Fisher–Yates 셔플로 k개만 뽑아 IN 쿼리 한 번으로 조회한다.
+// (ORDER BY RAND() 처럼 문제 전체를 정렬하지 않으므로 문제 수가 늘어도 비용이 일정)
+@RequiredArgsConstructor
+@Component
+public class QuizQuestionSampler {
+
+	private final QuizQuestionRepository qQuestionr;
+
+	// quizId → 문제 id 배열
+	private final Map<Long, long[]> questionIds = new ConcurrentHashMap<>();
+
+	// 퀴즈에서 count 개의 문제를 랜덤으로 추출 (문제가 count 개보다 적으면 전부)
+	public List<QuizQuestion> sample(Long quizId, int count) {
+		List<QuizQuestion> questions = load(quizId, count);
+		if (questions == null) {
+			// 캐시에 있던 문제가 그 사이 삭제된 경우 - 캐시를 다시 읽고 한 번 더 추출
+			evict(quizId);
+			questions = load(quizId, count);
+		}
+		return (questions != null) ? questions : List.of();
+	}
+
+	private List<QuizQuestion> load(Long quizId, int count) {
+		long[] ids = questionIds.computeIfAbsent(quizId,
+				id -> qQuestionr.findIdsByQuizId(id).stream().mapToLong(Long::longValue).toArray());
+		List<Long> picked = pick(ids, count);
+		List<QuizQuestion> questions = new ArrayList<>(qQuestionr.findAllById(picked));
+		if (questions.size() < picked.size()) {
+			return null;
+		}
+		Collections.shuffle(questions); // IN 조회 결과는 id 순이므로 출제 순서를 다시 섞음
+		return questions;
+	}
+
+	// 원본 배열을 복사하지 않는 부분 Fisher–Yates 셔플 (바뀐 자리만 Map 에 기록) - O(count)
+	static List<Long> pick(long[] ids, int count) {
+		int n = ids.length;
+		int k = Math.min(count, n);
+		Map<Integer, Long> swapped = new HashMap<>();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<Long> result = new ArrayList<>(k);
+		for (int i = 0; i < k; i++) {
+			int j = i + random.nextInt(n - i);
+			long atJ = swapped.getOrDefault(j, ids[j]);
+			long atI = swapped.getOrDefault(i, ids[i]);
+			swapped.put(j, atI);
+			result.add(atJ);
+		}
+		return result;
+	}
+
+	public void evict(Long quizId) {
+		questionIds.remove(quizId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onQuestionChanged(QuizQuestionChangedEvent event) {
+		evict(event.quizId());
+	}
+}
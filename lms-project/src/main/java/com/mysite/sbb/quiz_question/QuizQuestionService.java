@@ -2,6 +2,7 @@ package com.mysite.sbb.quiz_question;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class QuizQuestionService {
 
 	private final QuizQuestionRepository qQuestionr;
+	private final ApplicationEventPublisher eventPublisher; // [추가] 문제 변경 이벤트 발행 (문제 은행 캐시 무효화)
 	
 	// 문제 생성
     public void createQuestion(Quiz quiz, QuizQuestionForm form, User author) {
@@ -36,6 +38,7 @@ public class QuizQuestionService {
         q.setCorrectAnswer(form.getCorrectAnswer());
         q.setScore(form.getScore());
         qQuestionr.save(q);
+        eventPublisher.publishEvent(new QuizQuestionChangedEvent(quiz.getQuizId()));
     }
 
     // 특정 퀴즈의 문제 목록 조회
@@ -92,6 +95,7 @@ public class QuizQuestionService {
         q.setScore(form.getScore());
         // 출제자(author)는 수정 시 변경하지 않음
         qQuestionr.save(q);
+        eventPublisher.publishEvent(new QuizQuestionChangedEvent(q.getQuiz().getQuizId()));
     }
     
     public void deleteQuestion(Long questionId, User currentUser) {
@@ -101,5 +105,6 @@ public class QuizQuestionService {
         checkPermission(q, currentUser);
         
         qQuestionr.delete(q);
+        eventPublisher.publishEvent(new QuizQuestionChangedEvent(q.getQuiz().getQuizId()));
     }
 }
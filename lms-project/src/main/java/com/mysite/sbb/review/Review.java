@@ -10,11 +10,15 @@ import com.mysite.sbb.user.User;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -23,9 +27,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+// [추가] 리뷰 목록용 fetch plan - 작성자를 함께 조회
+@NamedEntityGraph(name = "Review.withUser", attributeNodes = @NamedAttributeNode("user"))
 @Table(name = "review",
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"classes_id", "uno"}) // 한 강의당 한 리뷰만
+       },
+       indexes = {
+           @Index(name = "idx_review_classes_created", columnList = "classes_id, created_date") // [추가] 강의별 최신순 페이징
        })
 public class Review {
 
@@ -34,11 +43,11 @@ public class Review {
     @Column(name = "review_id")
     private Long reviewId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "classes_id", nullable = false)
     private Classes classes; // FK: 강의
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uno", nullable = false)
     private User user; // FK: 작성자
 
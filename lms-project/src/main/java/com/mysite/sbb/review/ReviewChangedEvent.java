@@ -0,0 +1,5 @@
+package com.mysite.sbb.review;
+
+// [추가] 리뷰 작성/수정/삭제 이벤트 - 커밋 후 리뷰 요약 캐시를 비우는 데 사용
+public record ReviewChangedEvent(Long classesId) {
+}
@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,11 +17,18 @@ import com.mysite.sbb.user.User;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     // 특정 강의의 모든 리뷰 조회 (최신순)
+    @EntityGraph("Review.withUser")
     List<Review> findByClassesOrderByCreatedDateDesc(Classes classes);
     
     // 특정 강의의 리뷰 페이징 조회
+    @EntityGraph("Review.withUser")
     Page<Review> findByClasses(Classes classes, Pageable pageable);
     
+    // [추가] 특정 강의의 리뷰 페이지 조회 (COUNT 쿼리 없음 - 전체 개수는 ReviewStats 사용)
+    // 작성자는 함께 조회 (리뷰마다 작성자를 따로 조회하지 않도록)
+    @EntityGraph("Review.withUser")
+    Slice<Review> findSliceByClasses_ClassesId(Long classesId, Pageable pageable);
+    
     // 특정 사용자가 특정 강의에 작성한 리뷰 조회 (중복 방지용)
     Optional<Review> findByClassesAndUser(Classes classes, User user);
     
@@ -33,6 +42,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 특정 강의의 리뷰 개수
     long countByClasses(Classes classes);
     
+    // [추가] 특정 강의의 별점별 리뷰 개수 (ReviewStats 최초 생성용)
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.classes.classesId = :classesId GROUP BY r.rating")
+    List<Object[]> countByRating(@Param("classesId") Long classesId);
+    
     // 특정 사용자가 특정 강의에 리뷰를 작성했는지 확인
     boolean existsByClassesAndUser(Classes classes, User user);
 }
@@ -3,8 +3,13 @@ package com.mysite.sbb.review;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,8 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final ReviewStatsService reviewStatsService; // [추가] 강의별 리뷰 집계
+    private final ApplicationEventPublisher eventPublisher; // [추가] 리뷰 변경 이벤트 발행
 
     // 리뷰 생성
     @Transactional
@@ -48,7 +55,10 @@ public class ReviewService {
         review.setRating(rating);
         review.setContent(content);
         
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        reviewStatsService.apply(classes.getClassesId(), 0, rating); // [추가] 집계 증분 갱신
+        eventPublisher.publishEvent(new ReviewChangedEvent(classes.getClassesId()));
+        return saved;
     }
 
     // 리뷰 조회 (ID)
@@ -67,6 +77,18 @@ public class ReviewService {
         return reviewRepository.findByClasses(classes, pageable);
     }
 
+    // [추가] 상세 페이지용 리뷰 페이지 (최신순) - 전체 개수는 COUNT 대신 집계(ReviewSummary)의 리뷰 수 사용
+    public Page<Review> getReviewPage(Long classesId, int page, int size, long totalCount) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdDate"));
+        Slice<Review> slice = reviewRepository.findSliceByClasses_ClassesId(classesId, pageable);
+        return new PageImpl<>(slice.getContent(), pageable, totalCount);
+    }
+
+    // [추가] 강의 리뷰 요약 (평균 별점, 리뷰 수, 별점 분포) - 캐시
+    public ReviewSummary getSummary(Long classesId) {
+        return reviewStatsService.getSummary(classesId);
+    }
+
     // 특정 사용자의 특정 강의 리뷰 조회
     public Optional<Review> getReviewByClassesAndUser(Classes classes, User user) {
         return reviewRepository.findByClassesAndUser(classes, user);
@@ -83,26 +105,37 @@ public class ReviewService {
         if (rating < 1 || rating > 5) {
             throw new IllegalArgumentException("별점은 1~5 사이여야 합니다.");
         }
+        int oldRating = review.getRating();
         review.setRating(rating);
         review.setContent(content);
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        if (oldRating != rating) {
+            Long classesId = review.getClasses().getClassesId();
+            reviewStatsService.apply(classesId, oldRating, rating); // [추가] 집계 증분 갱신
+            eventPublisher.publishEvent(new ReviewChangedEvent(classesId));
+        }
+        return saved;
     }
 
     // 리뷰 삭제
     @Transactional
     public void delete(Review review) {
+        Long classesId = review.getClasses().getClassesId();
         reviewRepository.delete(review);
+        reviewStatsService.apply(classesId, review.getRating(), 0); // [추가] 집계 증분 갱신
+        eventPublisher.publishEvent(new ReviewChangedEvent(classesId));
     }
 
     // 특정 강의의 평균 별점
+    // [수정] AVG 스캔 대신 집계(ReviewStats) 사용
     public Double getAverageRating(Classes classes) {
-        Double avg = reviewRepository.getAverageRatingByClasses(classes);
-        return avg != null ? Math.round(avg * 10) / 10.0 : 0.0;
+        return getSummary(classes.getClassesId()).getAverageRating();
     }
 
     // 특정 강의의 리뷰 개수
+    // [수정] COUNT 대신 집계(ReviewStats) 사용
     public long getReviewCount(Classes classes) {
-        return reviewRepository.countByClasses(classes);
+        return getSummary(classes.getClassesId()).getReviewCount();
     }
 
     // 사용자가 해당 강의에 리뷰를 작성할 수 있는지 확인
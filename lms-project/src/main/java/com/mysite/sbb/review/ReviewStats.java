@@ -0,0 +1,61 @@
+package com.mysite.sbb.review;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// [추가] 강의별 리뷰 집계 (별점 합계, 리뷰 수, 1~5점 분포)
+// 리뷰 작성/수정/삭제 시 ReviewStatsService 가 증분으로 갱신한다. (AVG/COUNT 전체 스캔 대체)
+@Getter
+@Setter
+@Entity
+@Table(name = "review_stats")
+public class ReviewStats {
+
+    @Id
+    @Column(name = "classes_id")
+    private Long classesId; // 강의 id (강의당 한 행)
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum; // 별점 합계
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount; // 리뷰 수
+
+    @Column(name = "star1_count", nullable = false)
+    private long star1Count;
+
+    @Column(name = "star2_count", nullable = false)
+    private long star2Count;
+
+    @Column(name = "star3_count", nullable = false)
+    private long star3Count;
+
+    @Column(name = "star4_count", nullable = false)
+    private long star4Count;
+
+    @Column(name = "star5_count", nullable = false)
+    private long star5Count;
+
+    // 별점 rating 인 리뷰를 delta 개(+1 추가, -1 제거) 반영
+    public void add(int rating, long delta) {
+        ratingSum += rating * delta;
+        reviewCount += delta;
+        switch (rating) {
+            case 1 -> star1Count += delta;
+            case 2 -> star2Count += delta;
+            case 3 -> star3Count += delta;
+            case 4 -> star4Count += delta;
+            case 5 -> star5Count += delta;
+            default -> throw new IllegalArgumentException("별점은 1~5 사이여야 합니다.");
+        }
+    }
+
+    // 1~5점 분포 (index 0 = 1점)
+    public long[] getStarCounts() {
+        return new long[] { star1Count, star2Count, star3Count, star4Count, star5Count };
+    }
+}
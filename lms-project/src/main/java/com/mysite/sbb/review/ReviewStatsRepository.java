@@ -0,0 +1,26 @@
+package com.mysite.sbb.review;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface ReviewStatsRepository extends JpaRepository<ReviewStats, Long> {
+
+    // 증분 갱신용 - 같은 강의 리뷰가 동시에 변경돼도 집계가 어긋나지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ReviewStats s WHERE s.classesId = :classesId")
+    Optional<ReviewStats> findForUpdate(@Param("classesId") Long classesId);
+
+    // [추가] 집계 행이 없으면 빈 행(0)으로 생성, 있으면 아무것도 하지 않음 (H2 는 MERGE, MySQL 은 INSERT IGNORE 등으로 변환)
+    // 반환값: 새로 만든 행 수 (0 이면 이미 있었음 - 다른 요청이 먼저 만들었으면 그 커밋까지 기다린 뒤 0)
+    @Modifying
+    @Query("INSERT INTO ReviewStats (classesId, ratingSum, reviewCount, star1Count, star2Count, star3Count, star4Count, star5Count) "
+            + "VALUES (:classesId, 0, 0, 0, 0, 0, 0, 0) ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("classesId") Long classesId);
+}
@@ -0,0 +1,86 @@
+package com.mysite.sbb.review;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강의별 리뷰 집계 관리
+// 상세 페이지는 캐시된 요약(ReviewSummary)만 읽고, 리뷰 변경 시에는 집계 행을 잠그고 증분 갱신한다.
+// 집계 행은 강의 등록 시 만들고 강의 삭제 시 지운다. 행이 없는 강의는 리뷰 테이블에서 한 번 계산해 만든다.
+@RequiredArgsConstructor
+@Service
+public class ReviewStatsService {
+
+    public static final String SUMMARY_CACHE = "reviewSummary";
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 강의 리뷰 요약 (캐시)
+    @Cacheable(cacheNames = SUMMARY_CACHE, key = "#classesId")
+    @Transactional(readOnly = true)
+    public ReviewSummary getSummary(Long classesId) {
+        ReviewStats stats = reviewStatsRepository.findById(classesId).orElseGet(() -> aggregate(classesId));
+        return ReviewSummary.of(stats);
+    }
+
+    // 리뷰 변경 반영 - oldRating/newRating 이 0 이면 각각 '없음' (작성: 0 → n, 삭제: n → 0)
+    // 리뷰 저장/삭제와 같은 트랜잭션 안에서 호출해야 함
+    @Transactional
+    public void apply(Long classesId, int oldRating, int newRating) {
+        // [수정] 조회 후 INSERT 하면 동시에 첫 리뷰를 쓴 두 요청이 모두 INSERT 하므로, 잠그기 전에 '없을 때만 INSERT' 로 만든다.
+        boolean created = reviewStatsRepository.insertIfAbsent(classesId) > 0;
+        ReviewStats stats = reviewStatsRepository.findForUpdate(classesId).orElseThrow();
+        if (created) {
+            // 방금 만든 빈 행이면 이번 변경까지 포함해 리뷰 테이블에서 계산 (다른 요청의 변경은 각자 증분으로 반영)
+            count(stats);
+            return;
+        }
+        if (oldRating > 0) {
+            stats.add(oldRating, -1);
+        }
+        if (newRating > 0) {
+            stats.add(newRating, 1);
+        }
+    }
+
+    // [추가] 강의 등록 시 빈 집계 행 생성 - 강의 등록 트랜잭션 안에서 호출
+    @Transactional
+    public void create(Long classesId) {
+        ReviewStats stats = new ReviewStats();
+        stats.setClassesId(classesId);
+        reviewStatsRepository.save(stats);
+    }
+
+    // [추가] 강의 삭제 시 집계 행 삭제 - 강의 삭제 트랜잭션 안에서 호출
+    @CacheEvict(cacheNames = SUMMARY_CACHE, key = "#classesId")
+    @Transactional
+    public void delete(Long classesId) {
+        reviewStatsRepository.deleteById(classesId);
+    }
+
+    // 커밋 후 요약 캐시 무효화
+    @CacheEvict(cacheNames = SUMMARY_CACHE, key = "#event.classesId()")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+    }
+
+    // 리뷰 테이블에서 별점별 개수를 세어 집계 생성
+    private ReviewStats aggregate(Long classesId) {
+        ReviewStats stats = new ReviewStats();
+        stats.setClassesId(classesId);
+        count(stats);
+        return stats;
+    }
+
+    // 빈 집계에 리뷰 테이블의 별점별 개수를 더함
+    private void count(ReviewStats stats) {
+        for (Object[] row : reviewRepository.countByRating(stats.getClassesId())) {
+            stats.add(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+    }
+}
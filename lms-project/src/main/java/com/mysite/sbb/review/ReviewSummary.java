@@ -0,0 +1,21 @@
+package com.mysite.sbb.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// [추가] 상세 페이지용 리뷰 요약 (캐시 대상 - 불변)
+@Getter
+@AllArgsConstructor
+public class ReviewSummary {
+
+    private final long reviewCount; // 리뷰 수
+    private final long ratingSum; // 별점 합계
+    private final double averageRating; // 평균 별점 (소수 첫째 자리 반올림)
+    private final long[] starCounts; // 1~5점 분포 (index 0 = 1점)
+
+    public static ReviewSummary of(ReviewStats stats) {
+        long count = stats.getReviewCount();
+        double avg = (count > 0) ? Math.round((double) stats.getRatingSum() / count * 10) / 10.0 : 0.0;
+        return new ReviewSummary(count, stats.getRatingSum(), avg, stats.getStarCounts());
+    }
+}
@@ -0,0 +1,74 @@
+package com.mysite.sbb.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+// [추가] 검색 색인용 분석기 - 단어 단위로 자른 뒤 1~3글자 n-gram 으로 색인
+// 한국어는 조사/어미가 붙어 단어가 그대로 일치하지 않는 경우가 많으므로 형태소 분석 대신 n-gram 으로 부분 일치를 찾는다.
+// ("자바스크립트" 검색 시 "자바스크립트를", "자바" 검색 시 "자바스크립트" 모두 일치)
+public class NGramAnalyzer extends Analyzer {
+
+	public static final int MIN_GRAM = 1;
+	public static final int MAX_GRAM = 3;
+
+	private final boolean ngram;
+
+	// ngram=false 이면 단어 단위로만 자름 (검색어 분해용)
+	public NGramAnalyzer(boolean ngram) {
+		this.ngram = ngram;
+	}
+
+	@Override
+	protected TokenStreamComponents createComponents(String fieldName) {
+		Tokenizer source = new StandardTokenizer();
+		TokenStream result = new LowerCaseFilter(source);
+		if (ngram) {
+			result = new NGramTokenFilter(result, MIN_GRAM, MAX_GRAM, true);
+		}
+		return new TokenStreamComponents(source, result);
+	}
+
+	@Override
+	protected TokenStream normalize(String fieldName, TokenStream in) {
+		return new LowerCaseFilter(in);
+	}
+
+	// 검색어를 단어 목록으로 분해 (소문자)
+	public List<String> words(String text) {
+		List<String> words = new ArrayList<>();
+		try (TokenStream ts = tokenStream("", text)) {
+			CharTermAttribute term = ts.addAttribute(CharTermAttribute.class);
+			ts.reset();
+			while (ts.incrementToken()) {
+				words.add(term.toString());
+			}
+			ts.end();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return words;
+	}
+
+	// 단어를 색인과 같은 n-gram 으로 분해 - MAX_GRAM 이하면 단어 그대로, 길면 MAX_GRAM 글자씩 겹쳐서 자름
+	// (모든 조각이 들어 있는 문서 = 단어를 부분 문자열로 포함하는 문서)
+	public static List<String> grams(String word) {
+		if (word.length() <= MAX_GRAM) {
+			return List.of(word);
+		}
+		List<String> grams = new ArrayList<>();
+		for (int i = 0; i + MAX_GRAM <= word.length(); i++) {
+			grams.add(word.substring(i, i + MAX_GRAM));
+		}
+		return grams;
+	}
+}
@@ -0,0 +1,246 @@
+package com.mysite.sbb.search;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.classes.Classes;
+
+import jakarta.annotation.PreDestroy;
+
+// [추가] 강의 / 질문 게시판 전문 검색 색인 (Lucene, 메모리)
+// 앱 시작 시 SearchIndexer 가 DB 에서 다시 만들고, 이후에는 변경 이벤트로 문서 단위 갱신한다.
+// 검색 결과는 관련도 순 id 목록만 돌려주고, 엔티티 조회는 SearchService 가 한 번의 IN 쿼리로 한다.
+@Component
+public class SearchIndex {
+
+	// 공통 필드
+	private static final String KEY = "key"; // "classes:12", "question:5" - 문서 갱신/삭제 키
+	private static final String TYPE = "type";
+	private static final String ID = "id";
+	private static final String UNO = "uno"; // 강의: 강사, 질문: 작성자
+	private static final String DATE = "date"; // 관련도가 같으면 최신순
+
+	// 강의 필드
+	public static final String TITLE = "title";
+	public static final String CONTENT = "content";
+	public static final String INSTRUCTOR = "instructor";
+	private static final String LEVEL_ID = "levelId";
+
+	// 질문 필드 (TITLE, CONTENT 공통)
+	public static final String CLASSES_TITLE = "classesTitle";
+	public static final String AUTHOR = "author";
+	private static final String CLASSES_ID = "classesId";
+
+	private static final String TYPE_CLASSES = "classes";
+	private static final String TYPE_QUESTION = "question";
+
+	private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(DATE, SortField.Type.LONG, true));
+
+	// 검색 결과 - 요청한 페이지의 id (관련도 순) + 전체 일치 수
+	public record Hits(List<Long> ids, long total) {
+	}
+
+	private final NGramAnalyzer words = new NGramAnalyzer(false);
+	private final Directory directory = new ByteBuffersDirectory();
+	private final IndexWriter writer;
+	private final SearcherManager searcherManager;
+
+	public SearchIndex() throws IOException {
+		this.writer = new IndexWriter(directory, new IndexWriterConfig(new NGramAnalyzer(true)));
+		this.searcherManager = new SearcherManager(writer, null);
+	}
+
+	public void putClasses(Classes classes) {
+		Document doc = new Document();
+		doc.add(new StringField(KEY, TYPE_CLASSES + ":" + classes.getClassesId(), Store.NO));
+		doc.add(new StringField(TYPE, TYPE_CLASSES, Store.NO));
+		doc.add(new StoredField(ID, classes.getClassesId()));
+		doc.add(new StringField(UNO, String.valueOf(classes.getUser().getUno()), Store.NO));
+		doc.add(new LongPoint(LEVEL_ID, classes.getLevel().getLevelId()));
+		doc.add(new NumericDocValuesField(DATE, epochSecond(classes.getClassesCdate())));
+		addText(doc, TITLE, classes.getTitle());
+		addText(doc, CONTENT, classes.getClassesContent());
+		addText(doc, INSTRUCTOR, classes.getUser().getUserName());
+		update(TYPE_CLASSES, classes.getClassesId(), doc);
+	}
+
+	public void putQuestion(BoardQuestion question) {
+		Document doc = new Document();
+		doc.add(new StringField(KEY, TYPE_QUESTION + ":" + question.getBoardQuesId(), Store.NO));
+		doc.add(new StringField(TYPE, TYPE_QUESTION, Store.NO));
+		doc.add(new StoredField(ID, question.getBoardQuesId()));
+		doc.add(new StringField(UNO, String.valueOf(question.getUser().getUno()), Store.NO));
+		doc.add(new StringField(CLASSES_ID, String.valueOf(question.getClasses().getClassesId()), Store.NO));
+		doc.add(new NumericDocValuesField(DATE, epochSecond(question.getQuesDate())));
+		addText(doc, TITLE, question.getTitle());
+		addText(doc, CONTENT, question.getQuesContent());
+		addText(doc, CLASSES_TITLE, question.getClasses().getTitle());
+		addText(doc, AUTHOR, question.getUser().getUserName());
+		update(TYPE_QUESTION, question.getBoardQuesId(), doc);
+	}
+
+	public void deleteClasses(Long classesId) {
+		delete(new Term(KEY, TYPE_CLASSES + ":" + classesId));
+	}
+
+	public void deleteQuestion(Long boardQuesId) {
+		delete(new Term(KEY, TYPE_QUESTION + ":" + boardQuesId));
+	}
+
+	// 강의에 달린 질문 전체 (강의명이 바뀌었거나 강의가 삭제된 경우)
+	public void deleteQuestionsOfClasses(Long classesId) {
+		delete(new Term(CLASSES_ID, String.valueOf(classesId)));
+	}
+
+	// 회원이 강사인 강의 + 작성한 질문 전체 (이름이 바뀌었거나 탈퇴한 경우)
+	public void deleteByUser(Long uno) {
+		delete(new Term(UNO, String.valueOf(uno)));
+	}
+
+	public void clear() {
+		try {
+			writer.deleteAll();
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 색인 초기화 실패", e);
+		}
+	}
+
+	// 지금까지의 변경을 검색에 반영
+	public void refresh() {
+		try {
+			searcherManager.maybeRefreshBlocking();
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 색인 갱신 실패", e);
+		}
+	}
+
+	// 강의 검색 - fields 는 필드명 → 가중치, levelBound 이하 레벨만 (null 이면 전체), levelId 레벨만 (null 이면 전체)
+	public Hits searchClasses(String kw, Map<String, Float> fields, Long levelBound, Long levelId, Pageable pageable) {
+		List<Query> filters = new ArrayList<>();
+		if (levelBound != null) {
+			filters.add(LongPoint.newRangeQuery(LEVEL_ID, Long.MIN_VALUE, levelBound));
+		}
+		if (levelId != null) {
+			filters.add(LongPoint.newExactQuery(LEVEL_ID, levelId));
+		}
+		return search(TYPE_CLASSES, kw, fields, filters, pageable);
+	}
+
+	public Hits searchQuestions(String kw, Map<String, Float> fields, Pageable pageable) {
+		return search(TYPE_QUESTION, kw, fields, List.of(), pageable);
+	}
+
+	private Hits search(String type, String kw, Map<String, Float> fields, List<Query> filters, Pageable pageable) {
+		Query match = matchQuery(kw, fields);
+		if (match == null) {
+			return new Hits(List.of(), 0);
+		}
+		BooleanQuery.Builder query = new BooleanQuery.Builder()
+				.add(new TermQuery(new Term(TYPE, type)), Occur.FILTER)
+				.add(match, Occur.MUST);
+		filters.forEach(filter -> query.add(filter, Occur.FILTER));
+		Query q = query.build();
+
+		long offset = pageable.getOffset();
+		int limit = (int) Math.min(offset + pageable.getPageSize(), Integer.MAX_VALUE);
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				TopFieldDocs top = searcher.search(q, limit, RELEVANCE, false);
+				List<Long> ids = new ArrayList<>();
+				ScoreDoc[] docs = top.scoreDocs;
+				for (int i = (int) offset; i < docs.length; i++) {
+					ids.add(searcher.storedFields().document(docs[i].doc).getField(ID).numericValue().longValue());
+				}
+				return new Hits(ids, searcher.count(q));
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 실패", e);
+		}
+	}
+
+	// 검색어의 단어마다 (필드1 에 모든 n-gram 포함 OR 필드2 에 ...) 를 만들고, 모든 단어가 일치해야 함
+	private Query matchQuery(String kw, Map<String, Float> fields) {
+		List<String> kwWords = words.words(kw);
+		if (kwWords.isEmpty()) {
+			return null;
+		}
+		BooleanQuery.Builder all = new BooleanQuery.Builder();
+		for (String word : kwWords) {
+			BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+			fields.forEach((field, boost) -> {
+				BooleanQuery.Builder grams = new BooleanQuery.Builder();
+				NGramAnalyzer.grams(word).forEach(gram -> grams.add(new TermQuery(new Term(field, gram)), Occur.MUST));
+				anyField.add(new BoostQuery(grams.build(), boost), Occur.SHOULD);
+			});
+			all.add(anyField.build(), Occur.MUST);
+		}
+		return all.build();
+	}
+
+	private void addText(Document doc, String field, String value) {
+		if (value != null) {
+			doc.add(new TextField(field, value, Store.NO));
+		}
+	}
+
+	private long epochSecond(LocalDateTime date) {
+		return (date != null) ? date.toEpochSecond(ZoneOffset.UTC) : 0L;
+	}
+
+	private void update(String type, Long id, Document doc) {
+		try {
+			writer.updateDocument(new Term(KEY, type + ":" + id), doc);
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 색인 저장 실패: " + type + ":" + id, e);
+		}
+	}
+
+	private void delete(Term term) {
+		try {
+			writer.deleteDocuments(term);
+		} catch (IOException e) {
+			throw new IllegalStateException("검색 색인 삭제 실패: " + term, e);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		searcherManager.close();
+		writer.close();
+		directory.close();
+	}
+}
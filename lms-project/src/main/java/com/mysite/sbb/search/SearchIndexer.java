@@ -0,0 +1,79 @@
+package com.mysite.sbb.search;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionChangedEvent;
+import com.mysite.sbb.board_question.BoardQuestionRepository;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesChangedEvent;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.user.UserChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 검색 색인 갱신 - 앱 시작 시 전체 재생성, 이후에는 강의/질문/회원 변경 이벤트마다 해당 문서만 다시 색인
+// (조회는 모두 EntityGraph 가 붙은 메서드로 하므로 트랜잭션 밖에서도 지연 로딩이 일어나지 않음)
+@RequiredArgsConstructor
+@Component
+public class SearchIndexer {
+
+	private static final int REBUILD_PAGE_SIZE = 500;
+
+	private final SearchIndex index;
+	private final ClassesRepository classesr;
+	private final BoardQuestionRepository bqr;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		index.clear();
+		Page<Classes> classes;
+		int page = 0;
+		do {
+			classes = classesr.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("classesId")));
+			classes.forEach(index::putClasses);
+		} while (classes.hasNext());
+
+		Page<BoardQuestion> questions;
+		page = 0;
+		do {
+			questions = bqr.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("boardQuesId")));
+			questions.forEach(index::putQuestion);
+		} while (questions.hasNext());
+		index.refresh();
+	}
+
+	// 강의 + 그 강의의 질문 (질문 문서에 강의명이 들어 있으므로)
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onClassesChanged(ClassesChangedEvent event) {
+		index.deleteClasses(event.classesId());
+		index.deleteQuestionsOfClasses(event.classesId());
+		classesr.findById(event.classesId()).ifPresent(index::putClasses);
+		bqr.findByClasses_ClassesId(event.classesId()).forEach(index::putQuestion);
+		index.refresh();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onQuestionChanged(BoardQuestionChangedEvent event) {
+		index.deleteQuestion(event.boardQuesId());
+		bqr.findAllById(List.of(event.boardQuesId())).forEach(index::putQuestion);
+		index.refresh();
+	}
+
+	// 회원이 강사인 강의 + 작성한 질문 (강사명/작성자명 검색용, 탈퇴 시 삭제)
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onUserChanged(UserChangedEvent event) {
+		index.deleteByUser(event.uno());
+		classesr.findByUser_Uno(event.uno()).forEach(index::putClasses);
+		bqr.findByUser_Uno(event.uno()).forEach(index::putQuestion);
+		index.refresh();
+	}
+}
@@ -0,0 +1,72 @@
+package com.mysite.sbb.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionRepository;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 강의 / 질문 게시판 검색 - 색인에서 관련도 순 id 를 받아 한 번의 IN 쿼리로 엔티티를 조회한 뒤 순서를 맞춘다
+@RequiredArgsConstructor
+@Service
+public class SearchService {
+
+	// 검색 구분(searchType)별 검색 필드와 가중치
+	private static final Map<String, Float> CLASSES_BY_TITLE = Map.of(SearchIndex.TITLE, 3f, SearchIndex.CONTENT, 1f);
+	private static final Map<String, Float> CLASSES_BY_INSTRUCTOR = Map.of(SearchIndex.INSTRUCTOR, 1f);
+	private static final Map<String, Float> QUESTIONS_BY_TITLE = Map.of(SearchIndex.TITLE, 3f, SearchIndex.CONTENT, 1f);
+	private static final Map<String, Float> QUESTIONS_BY_CLASSES = Map.of(SearchIndex.CLASSES_TITLE, 1f);
+	private static final Map<String, Float> QUESTIONS_BY_AUTHOR = Map.of(SearchIndex.AUTHOR, 1f);
+
+	private final SearchIndex index;
+	private final ClassesRepository classesr;
+	private final BoardQuestionRepository bqr;
+
+	// 강의 검색 - searchType: "instructor" 이면 강사명, 그 외에는 제목 + 내용
+	public Page<Classes> searchClasses(String searchType, String kw, Long levelBound, Long levelId, Pageable pageable) {
+		Map<String, Float> fields = "instructor".equals(searchType) ? CLASSES_BY_INSTRUCTOR : CLASSES_BY_TITLE;
+		SearchIndex.Hits hits = index.searchClasses(kw, fields, levelBound, levelId, pageable);
+		List<Classes> content = hits.ids().isEmpty() ? List.of()
+				: inOrder(hits.ids(), classesr.findAllById(hits.ids()), Classes::getClassesId);
+		return new PageImpl<>(content, pageable, hits.total());
+	}
+
+	// 질문 검색 - searchType: "class" 이면 강의명, "author" 이면 작성자, 그 외에는 제목 + 내용
+	public Page<BoardQuestion> searchQuestions(String searchType, String kw, Pageable pageable) {
+		Map<String, Float> fields = switch (searchType) {
+		case "class" -> QUESTIONS_BY_CLASSES;
+		case "author" -> QUESTIONS_BY_AUTHOR;
+		default -> QUESTIONS_BY_TITLE;
+		};
+		SearchIndex.Hits hits = index.searchQuestions(kw, fields, pageable);
+		List<BoardQuestion> content = hits.ids().isEmpty() ? List.of()
+				: inOrder(hits.ids(), bqr.findAllById(hits.ids()), BoardQuestion::getBoardQuesId);
+		return new PageImpl<>(content, pageable, hits.total());
+	}
+
+	// IN 쿼리 결과를 색인 순위대로 정렬 (그 사이 삭제된 행은 제외)
+	private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+		Map<Long, T> byId = new HashMap<>();
+		rows.forEach(row -> byId.put(idOf.apply(row), row));
+		List<T> ordered = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			T row = byId.get(id);
+			if (row != null) {
+				ordered.add(row);
+			}
+		}
+		return ordered;
+	}
+}
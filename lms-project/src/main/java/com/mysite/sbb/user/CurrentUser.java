@@ -0,0 +1,13 @@
+package com.mysite.sbb.user;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// [추가] 컨트롤러 파라미터에 로그인 사용자(User)를 주입 (비로그인 시 null)
+// 예) public String list(@CurrentUser User currentUser, ...)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,109 @@
+package com.mysite.sbb.user;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.DataNotFoundException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+
+// [추가] 로그인 사용자 조회 캐시
+// 1) 요청 단위: 같은 요청 안에서는 한 번만 조회
+// 2) 세션 단위: 짧은 TTL 동안 세션에 요약(CurrentUserSnapshot)만 보관 (회원 정보가 바뀌면 커밋 후 즉시 무효화)
+// [수정] 세션 캐시가 유효하면 엔티티 대신 uno 로 만든 지연 로딩 참조를 돌려줌 - uno 만 쓰는 요청은 조회 없이 처리되고,
+// 다른 필드를 읽으면 요청 중 열린 영속성 컨텍스트(open-in-view)에서 PK 로 한 번 조회된다.
+@RequiredArgsConstructor
+@Component
+public class CurrentUserCache {
+
+	private static final String REQUEST_ATTR = CurrentUserCache.class.getName() + ".USER";
+	private static final String SESSION_ATTR = CurrentUserCache.class.getName() + ".ENTRY";
+
+	private final UserRepository userr;
+
+	@Value("${lms.user.session-cache-ttl-seconds:30}")
+	private long ttlSeconds;
+
+	// uno → 변경 버전 (회원 정보 변경이 커밋될 때마다 증가, 세션에 보관된 이전 버전은 무효)
+	private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+	// 전체 무효화 횟수 - 조회 도중 어떤 회원이든 무효화되면 그 조회 결과는 세션에 올리지 않음
+	private final AtomicLong invalidations = new AtomicLong();
+
+	private record Entry(CurrentUserSnapshot user, long version, long expiresAt) implements Serializable {
+	}
+
+	public User resolve(HttpServletRequest request, String userId) {
+		Object cached = request.getAttribute(REQUEST_ATTR);
+		if (cached instanceof User user && userId.equals(user.getUserId())) {
+			return user;
+		}
+
+		CurrentUserSnapshot snapshot = cachedSnapshot(request, userId);
+		User user = (snapshot != null) ? userr.getReferenceById(snapshot.uno()) : load(request, userId);
+		request.setAttribute(REQUEST_ATTR, user);
+		return user;
+	}
+
+	// 요약만 필요한 경우 (로그인 직후 이동 경로 결정 등 - 영속성 컨텍스트가 없는 곳에서도 사용 가능)
+	public CurrentUserSnapshot resolveSnapshot(HttpServletRequest request, String userId) {
+		CurrentUserSnapshot snapshot = cachedSnapshot(request, userId);
+		return (snapshot != null) ? snapshot : CurrentUserSnapshot.of(load(request, userId));
+	}
+
+	// 회원 정보 변경이 커밋된 뒤 해당 회원의 세션 캐시를 무효화
+	// (커밋 전에 올리면 그 사이 다른 요청이 변경 전 행을 새 버전으로 다시 캐시할 수 있음)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserUpdated(UserUpdatedEvent event) {
+		invalidate(event.uno());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		invalidate(event.uno());
+	}
+
+	private void invalidate(Long uno) {
+		if (uno != null) {
+			versions.merge(uno, 1L, Long::sum);
+			invalidations.incrementAndGet();
+		}
+	}
+
+	private CurrentUserSnapshot cachedSnapshot(HttpServletRequest request, String userId) {
+		HttpSession session = request.getSession(false);
+		if (session != null && session.getAttribute(SESSION_ATTR) instanceof Entry entry
+				&& userId.equals(entry.user().userId())
+				&& entry.expiresAt() > System.currentTimeMillis()
+				&& entry.version() == versionOf(entry.user().uno())) {
+			return entry.user();
+		}
+		return null;
+	}
+
+	// 조회 전에 무효화 횟수를 읽어 두어야 조회 도중 변경이 커밋된 경우 변경 전 행을 캐시하지 않음
+	private User load(HttpServletRequest request, String userId) {
+		long before = invalidations.get();
+		User user = userr.findByUserId(userId)
+				.orElseThrow(() -> new DataNotFoundException("사용자를 찾을 수 없습니다. User ID: " + userId));
+		long version = versionOf(user.getUno());
+		HttpSession session = request.getSession(false);
+		if (session != null && invalidations.get() == before) {
+			session.setAttribute(SESSION_ATTR, new Entry(CurrentUserSnapshot.of(user), version,
+					System.currentTimeMillis() + ttlSeconds * 1000));
+		}
+		return user;
+	}
+
+	private long versionOf(Long uno) {
+		return versions.getOrDefault(uno, 0L);
+	}
+}
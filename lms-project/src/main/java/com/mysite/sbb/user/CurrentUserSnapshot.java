@@ -0,0 +1,13 @@
+package com.mysite.sbb.user;
+
+import java.io.Serializable;
+
+// [추가] 세션에 보관하는 로그인 사용자 요약 (엔티티 대신 - 비밀번호 해시/연관 엔티티 없이 직렬화 가능)
+public record CurrentUserSnapshot(Long uno, String userId, String userName, UserRole role, Long levelId)
+		implements Serializable {
+
+	static CurrentUserSnapshot of(User user) {
+		return new CurrentUserSnapshot(user.getUno(), user.getUserId(), user.getUserName(), user.getRole(),
+				user.getLevel() == null ? null : user.getLevel().getLevelId());
+	}
+}
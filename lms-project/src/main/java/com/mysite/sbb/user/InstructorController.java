@@ -3,7 +3,6 @@ package com.mysite.sbb.user;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -26,6 +25,8 @@ import com.mysite.sbb.classes.Classes;
 import com.mysite.sbb.classes.ClassesService;
 import com.mysite.sbb.enrollment.Enrollment;
 import com.mysite.sbb.enrollment.EnrollmentService;
+import com.mysite.sbb.enrollment.StudentRosterService;
+import com.mysite.sbb.enrollment.StudentRosterView;
 import com.mysite.sbb.quiz.Quiz;
 import com.mysite.sbb.quiz.QuizService;
 import com.mysite.sbb.quiz_question.QuizQuestion;
@@ -46,6 +47,7 @@ public class InstructorController {
 	private final QuizService qService;
 	private final QuizQuestionService qqService;
 	private final ClassesService cService;
+	private final StudentRosterService rosterService; // [추가] 수강생 관리 (수강생별 집계)
 
 	// 강사 마이페이지 메인
 	@PreAuthorize("hasAnyRole('ROLE_INSTRUCTOR', 'ROLE_ADMIN')")
@@ -107,18 +109,19 @@ public class InstructorController {
 
 	// 강사 전용 '내 수강생 목록' 페이지(
 	@PreAuthorize("hasRole('ROLE_INSTRUCTOR')")
+	// [수정] 수강생 1명당 1행으로 DB 에서 집계한 페이지만 조회 (페이징 + 정렬)
 	@GetMapping("/students")
-	public String instructorStudentList(Model model, Principal principal) {
+	public String instructorStudentList(Model model, Principal principal,
+			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "sort", defaultValue = StudentRosterService.DEFAULT_SORT) String sort,
+			@RequestParam(value = "dir", defaultValue = "desc") String dir) {
 		User currentUser = uService.getUser(principal.getName());
 
-		// 1. 강사의 모든 강의에 대한 수강 내역을 가져옵니다.
-		List<Enrollment> enrollments = eService.getEnrollmentsForInstructor(currentUser.getUno());
-
-		// 2. 수강 내역에서 중복된 학생을 제거. (한 학생이 여러 강의를 수강해도 목록에는 한번만)
-		Set<User> students = enrollments.stream().map(Enrollment::getUser).collect(Collectors.toSet());
+		Page<StudentRosterView> paging = rosterService.getRoster(currentUser.getUno(), page, sort, dir);
 
-		model.addAttribute("students", students); // 학생 목록(Set<User>)
-		model.addAttribute("enrollments", enrollments); // 전체 수강 내역(List<Enrollment>)
+		model.addAttribute("paging", paging); // 수강생 목록 (수강생별 집계)
+		model.addAttribute("sort", sort);
+		model.addAttribute("dir", dir);
 
 		return "instructor_student_list";
 	}
@@ -135,14 +138,9 @@ public class InstructorController {
 		// 2. 조회하려는 학생 정보
 		User student = uService.getUser(studentUno);
 
-		// 3. 학생이 수강하는 모든 강의 목록
-		List<Enrollment> allStudentEnrollments = eService.getByUser(studentUno);
-
-		// 4. 학생의 수강 목록 중 내 강의만 필터링
-		List<Enrollment> relevantEnrollments = allStudentEnrollments.stream()
-				.filter(enrollment -> enrollment.getClasses() != null && enrollment.getClasses().getUser() != null
-						&& enrollment.getClasses().getUser().getUno().equals(instructorUno))
-				.collect(Collectors.toList());
+		// 3. 학생의 수강 목록 중 내 강의만 조회
+		// [수정] 전체 수강 내역을 불러와 Java 에서 거르던 것을 강사 조건으로 바로 조회
+		List<Enrollment> relevantEnrollments = rosterService.getStudentEnrollments(instructorUno, studentUno);
 
 		model.addAttribute("student", student);
 		model.addAttribute("enrollments", relevantEnrollments); // 필터링된 목록 전달
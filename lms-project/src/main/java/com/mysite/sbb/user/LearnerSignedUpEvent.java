@@ -0,0 +1,5 @@
+package com.mysite.sbb.user;
+
+// [추가] 수강생 가입 시 발행되는 이벤트 (레벨 테스트 응시 준비를 비동기로 처리)
+public record LearnerSignedUpEvent(Long uno) {
+}
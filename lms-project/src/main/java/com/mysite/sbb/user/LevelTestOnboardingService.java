@@ -0,0 +1,88 @@
+package com.mysite.sbb.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.quiz_attempt.QuizAttempt;
+import com.mysite.sbb.quiz_attempt.QuizAttemptService;
+
+import lombok.RequiredArgsConstructor;
+
+// [추가] 가입 후 레벨 테스트 응시 준비 (회원가입 요청 스레드에서 분리)
+// 작업 단위(트랜잭션)만 담당하고, 비동기 실행과 재시도는 LevelTestOnboardingWorker 가 맡는다.
+@RequiredArgsConstructor
+@Service
+public class LevelTestOnboardingService {
+
+	private static final String LEVEL_TEST = "LEVEL_TEST";
+	private static final int ERROR_LENGTH = 500;
+
+	private final OnboardingTaskRepository taskr;
+	private final UserRepository userr;
+	private final QuizRepository quizr;
+	private final QuizAttemptService qaService;
+
+	// 레벨 테스트 응시를 만들고 READY 로 표시
+	// 회원 행을 잠그고 상태를 확인하므로 같은 이벤트가 중복 처리되거나 재시도돼도 응시는 한 번만 만들어짐
+	@Transactional
+	public void prepare(Long uno) {
+		OnboardingTask task = taskr.findForUpdate(uno)
+				.orElseGet(() -> taskr.saveAndFlush(OnboardingTask.pending(uno)));
+		if (task.getStatus() == OnboardingStatus.READY) {
+			return;
+		}
+
+		User user = userr.findById(uno).orElse(null);
+		if (user == null) {
+			taskr.delete(task); // 준비 전에 탈퇴한 회원
+			return;
+		}
+		Quiz levelTest = quizr.findByQuizType(LEVEL_TEST)
+				.orElseThrow(() -> new DataNotFoundException("레벨 테스트를 찾을 수 없습니다."));
+
+		// 이미 레벨 테스트 응시 기록이 있으면 (이전 방식으로 준비된 회원 등) 그 응시를 사용
+		QuizAttempt attempt = qaService.findLatestAttemptByUserAndQuiz(user, levelTest)
+				.orElseGet(() -> qaService.startAttempt(levelTest, user));
+
+		task.setStatus(OnboardingStatus.READY);
+		task.setAttemptId(attempt.getAttemptId());
+		task.setLastError(null);
+		task.setUpdatedAt(LocalDateTime.now());
+	}
+
+	// 실패 기록 - 시도 횟수가 maxTries 에 도달하면 FAILED 로 바꾸고 true (더 이상 재처리하지 않음)
+	@Transactional
+	public boolean recordFailure(Long uno, Exception e, int maxTries) {
+		OnboardingTask task = taskr.findForUpdate(uno).orElseGet(() -> OnboardingTask.pending(uno));
+		task.setTries(task.getTries() + 1);
+		String error = String.valueOf(e);
+		task.setLastError(error.length() > ERROR_LENGTH ? error.substring(0, ERROR_LENGTH) : error);
+		task.setUpdatedAt(LocalDateTime.now());
+		boolean giveUp = task.getTries() >= maxTries;
+		if (giveUp) {
+			task.setStatus(OnboardingStatus.FAILED);
+		}
+		taskr.save(task);
+		return giveUp;
+	}
+
+	// before 이전부터 PENDING 으로 남아 있는 작업 (오래된 순, 최대 limit 건)
+	@Transactional(readOnly = true)
+	public List<Long> findStalled(LocalDateTime before, int limit) {
+		return taskr.findUnosByStatusUpdatedBefore(OnboardingStatus.PENDING, before, PageRequest.of(0, limit));
+	}
+
+	// 로그인 성공 시 이동할 레벨 테스트 응시 - 아직 준비 중이거나 이미 제출했으면 없음
+	@Transactional(readOnly = true)
+	public Optional<Long> findUnsubmittedAttemptId(Long uno) {
+		return taskr.findUnsubmittedAttemptId(uno);
+	}
+}
@@ -0,0 +1,80 @@
+package com.mysite.sbb.user;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mysite.sbb.AsyncConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// [추가] 가입 후 레벨 테스트 준비 작업자
+// 가입이 커밋된 뒤 onboarding 스레드 풀에서 실행하고, 실패하면 간격을 두 배씩 늘려 몇 번 더 시도한다.
+// 그래도 남은 PENDING 작업(일시 오류, 스레드 풀 포화, 재시작으로 유실된 이벤트)은 주기 작업이 다시 처리한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LevelTestOnboardingWorker {
+
+	private static final int IMMEDIATE_TRIES = 3; // 이벤트 처리 시 연속 시도 횟수
+	private static final int SWEEP_BATCH = 100;
+
+	private final LevelTestOnboardingService onboarding;
+
+	@Value("${lms.onboarding.max-tries:5}")
+	private int maxTries; // 작업당 최대 시도 횟수 (연속 시도 + 주기 재처리 합산)
+
+	@Value("${lms.onboarding.retry-backoff-ms:200}")
+	private long retryBackoffMs;
+
+	@Value("${lms.onboarding.sweep-interval-ms:60000}")
+	private long sweepIntervalMs;
+
+	@Async(AsyncConfig.ONBOARDING_EXECUTOR)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onLearnerSignedUp(LearnerSignedUpEvent event) {
+		prepareWithRetry(event.uno(), IMMEDIATE_TRIES);
+	}
+
+	// 한 주기 이상 PENDING 으로 남은 작업 재처리 (작업마다 한 번씩 시도)
+	@Scheduled(fixedDelayString = "${lms.onboarding.sweep-interval-ms:60000}",
+			initialDelayString = "${lms.onboarding.sweep-interval-ms:60000}")
+	public void retryStalled() {
+		LocalDateTime before = LocalDateTime.now().minusNanos(sweepIntervalMs * 1_000_000);
+		for (Long uno : onboarding.findStalled(before, SWEEP_BATCH)) {
+			prepareWithRetry(uno, 1);
+		}
+	}
+
+	private void prepareWithRetry(Long uno, int tries) {
+		long backoff = retryBackoffMs;
+		for (int i = 1; ; i++) {
+			try {
+				onboarding.prepare(uno);
+				return;
+			} catch (RuntimeException e) {
+				boolean gaveUp = onboarding.recordFailure(uno, e, maxTries);
+				if (gaveUp || i >= tries) {
+					if (gaveUp) {
+						log.error("레벨 테스트 준비 실패 (uno: {}, 재시도 중단)", uno, e);
+					} else {
+						log.warn("레벨 테스트 준비 실패 (uno: {}, 재처리 대기)", uno, e);
+					}
+					return;
+				}
+			}
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			backoff *= 2;
+		}
+	}
+}
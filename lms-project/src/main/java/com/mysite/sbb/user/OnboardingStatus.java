@@ -0,0 +1,8 @@
+package com.mysite.sbb.user;
+
+// [추가] 가입 후 온보딩 작업 상태
+public enum OnboardingStatus {
+	PENDING, // 준비 전 (또는 재시도 대기)
+	READY, // 레벨 테스트 응시 생성 완료
+	FAILED // 최대 시도 횟수를 넘겨 포기 (관리자 확인 필요)
+}
@@ -0,0 +1,48 @@
+package com.mysite.sbb.user;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// [추가] 가입 후 온보딩 작업 (회원당 한 행 - uno 가 멱등 키)
+// 가입 시 PENDING 으로 만들고, LevelTestOnboardingWorker 가 레벨 테스트 응시를 만든 뒤 READY 로 바꾼다.
+@Getter
+@Setter
+@Entity
+@Table(name = "onboarding_task")
+public class OnboardingTask {
+
+	@Id
+	private Long uno;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private OnboardingStatus status;
+
+	@Column(name = "attempt_id")
+	private Long attemptId; // 준비된 레벨 테스트 응시
+
+	@Column(nullable = false)
+	private int tries; // 실패한 시도 횟수
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	public static OnboardingTask pending(Long uno) {
+		OnboardingTask task = new OnboardingTask();
+		task.setUno(uno);
+		task.setStatus(OnboardingStatus.PENDING);
+		task.setUpdatedAt(LocalDateTime.now());
+		return task;
+	}
+}
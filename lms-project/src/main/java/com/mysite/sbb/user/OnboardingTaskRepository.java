@@ -0,0 +1,31 @@
+package com.mysite.sbb.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface OnboardingTaskRepository extends JpaRepository<OnboardingTask, Long> {
+
+	// 같은 회원의 준비 작업이 동시에 실행돼도 응시는 한 번만 만들어지도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM OnboardingTask t WHERE t.uno = :uno")
+	Optional<OnboardingTask> findForUpdate(@Param("uno") Long uno);
+
+	// 재처리 대상 - 일정 시간 이상 PENDING 으로 남은 작업 (이벤트 유실, 스레드 풀 포화, 일시 오류)
+	@Query("SELECT t.uno FROM OnboardingTask t WHERE t.status = :status AND t.updatedAt < :before ORDER BY t.updatedAt")
+	List<Long> findUnosByStatusUpdatedBefore(@Param("status") OnboardingStatus status,
+			@Param("before") LocalDateTime before, Pageable pageable);
+
+	// 로그인 직후 이동할 레벨 테스트 응시 (준비 완료 + 아직 제출 전)
+	@Query("SELECT t.attemptId FROM OnboardingTask t, QuizAttempt a "
+			+ "WHERE t.uno = :uno AND a.attemptId = t.attemptId AND a.score = 0")
+	Optional<Long> findUnsubmittedAttemptId(@Param("uno") Long uno);
+}
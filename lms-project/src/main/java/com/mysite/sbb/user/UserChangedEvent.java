@@ -0,0 +1,6 @@
+package com.mysite.sbb.user;
+
+// [추가] 회원 가입/수정/삭제 시 발행되는 이벤트 (추천 강사 풀 등 캐시 갱신용)
+// [수정] instructor - 변경 전 또는 후의 역할이 강사인지 (추천 강사 풀은 이 경우에만 반영)
+public record UserChangedEvent(Long uno, boolean instructor) {
+}
@@ -23,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.enrollment.EnrollmentService;
 import com.mysite.sbb.quiz_attempt.QuizAttemptService;
 
@@ -130,11 +132,12 @@ public class UserController {
 	@GetMapping("/list")
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
 	public String adminUserList(Model model,
-			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "roleSearch", required = false) String roleFilter,
             @RequestParam(value = "keyword", required = false) String keyword) {
 
-		Page<User> paging = users.getFilteredUsers(page, roleFilter, keyword);
+		// [수정] page 번호 대신 커서(이전/다음 페이지 위치)로 조회
+		CursorPage<User> paging = users.getFilteredUsers(Cursor.decode(cursor), roleFilter, keyword);
 
 		model.addAttribute("paging", paging);
 		model.addAttribute("roleSearch", roleFilter);
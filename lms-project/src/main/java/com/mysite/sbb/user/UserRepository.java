@@ -7,30 +7,32 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
 	// userId로 회원 조회 (로그인 시 사용)
 	Optional<User> findByUserId(String userId);
 
+	// [추가] userId로 회원번호(uno)만 조회 (엔티티/레벨 로딩 없이)
+	@Query("SELECT u.uno FROM User u WHERE u.userId = :userId")
+	Optional<Long> findUnoByUserId(@Param("userId") String userId);
+
 	// 이메일 중복 확인용 (회원가입 시 사용)
 	Optional<User> findByEmail(String email);
 
-	// [추가] 특정 역할을 가진 사용자를 랜덤으로 조회하는 쿼리
-	@Query("SELECT u FROM User u WHERE u.role = :role ORDER BY RANDOM()")
-	Page<User> findRandomByRole(@Param("role") UserRole role, Pageable pageable);
+	// [수정] 추천 강사 풀(RecommendationPool) 갱신용 - 역할별 회원번호만 조회 (ORDER BY RANDOM() 대체)
+	@Query("SELECT u.uno FROM User u WHERE u.role = :role")
+	List<Long> findUnoByRole(@Param("role") UserRole role);
 
-	// [추가] 역할별 회원 조회 (Enum 기반)
-	List<User> findByRole(UserRole role);
+	// [추가] 추천 강사 풀 변경분 반영용 - 회원 하나의 역할 (탈퇴한 회원이면 비어 있음)
+	@Query("SELECT u.role FROM User u WHERE u.uno = :uno")
+	Optional<UserRole> findRoleByUno(@Param("uno") Long uno);
 
 	// [추가] 역할별 회원 조회 (Enum 기반)
-	// user_list.html
-	// 검색: 이름, 아이디, 이메일 포함 (role도 같이 조건에 걸 수 있도록)
-	@Query("SELECT u FROM User u WHERE " + "(:roleSearch = 'ALL' OR STR(u.role) = :roleSearch) AND "
-			+ "(LOWER(u.userName) LIKE %:keyword% OR LOWER(u.userId) LIKE %:keyword% OR LOWER(u.email) LIKE %:keyword%)")
-	Page<User> findByKeywordAndRole(@Param("keyword") String keyword, @Param("roleSearch") String roleSearch, Pageable pageable);
+	List<User> findByRole(UserRole role);
 
 	// user_list_unapproved.html
 	// 비승인 강사 전체 조회
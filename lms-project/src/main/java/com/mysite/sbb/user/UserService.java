@@ -4,42 +4,53 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.sbb.Cursor;
+import com.mysite.sbb.CursorPage;
 import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.classes.RecommendationPool;
 import com.mysite.sbb.level.Level;
 import com.mysite.sbb.level.LevelRepository;
-import com.mysite.sbb.quiz.Quiz;
-import com.mysite.sbb.quiz.QuizRepository;
-import com.mysite.sbb.quiz_attempt.QuizAttemptService;
 
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
+	// [추가] 회원 목록 커서 페이징 - 가입일 최신순, 같은 시각이면 회원번호 역순
+	private static final Sort NEWEST = Sort.by(Sort.Direction.DESC, "userCdate", "uno");
+	private static final int LIST_PAGE_SIZE = 10;
+	private static final int UNO_CACHE_SIZE = 10_000; // [추가] userId → uno 캐시 최대 항목 수
+
 	private final UserRepository userr;
 	private final PasswordEncoder passworde; // 생성자 주입 / 비밀번호 암호화용
 	private final LevelRepository levelr; // 기본 레벨 연결용 (nullable = false 대응)
-	private final QuizRepository quizr;
+	private final RecommendationPool recommendationPool;
+	private final ApplicationEventPublisher eventPublisher; // [추가] 회원 변경 이벤트 발행
+	private final OnboardingTaskRepository onboardingTaskr; // [추가] 가입 후 레벨 테스트 준비 작업
 
-	@Autowired
-	@Lazy // 순환 참조 문제를 해결하기 위해 @Lazy 사용
-	private QuizAttemptService qaService;
+	// [추가] userId → uno 캐시 (가입 후 userId 와 uno 는 바뀌지 않으므로 탈퇴 시에만 제거, 최대 항목 수 제한)
+	private final Cache<String, Long> unoCache = Caffeine.newBuilder().maximumSize(UNO_CACHE_SIZE).build();
 	
 	// - 회원가입 (UserForm 기반 수강생, 강사, 관리자 포함) 공통
+		@Transactional // [추가] 회원 + 온보딩 작업을 함께 저장하고, 커밋 후 이벤트 처리
 		public User signup(UserForm form) {
 
 			// 1. 중복 체크 (아이디/이메일)
@@ -81,23 +92,15 @@ public class UserService {
 
 			// 5. DB 저장
 			User savedUser = userr.save(user); // 저장된 User 객체 반환받기
+			eventPublisher.publishEvent(
+					new UserChangedEvent(savedUser.getUno(), savedUser.getRole() == UserRole.ROLE_INSTRUCTOR));
 
-			// ---- 6. 회원가입 후 수강생인 경우에만 레벨 테스트 자동 시작 ---- //
-			// 1. 레벨 테스트 퀴즈 찾기 (quiztype 기준)
+			// ---- 6. 회원가입 후 수강생인 경우에만 레벨 테스트 준비 ---- //
+			// [수정] 응시 생성(문제 추출 + 빈 답안 INSERT)은 가입 요청에서 분리 - 준비 대기 작업만 남기고
+			// 커밋 후 LevelTestOnboardingWorker 가 비동기로 만듦 (로그인 시 준비된 응시로 이동)
 			if (savedUser.getRole() == UserRole.ROLE_LEARNER) {
-				Optional<Quiz> levelTestQuizOpt = quizr.findByQuizType("LEVEL_TEST");
-
-				if (levelTestQuizOpt.isPresent()) {
-					Quiz levelTestQuiz = levelTestQuizOpt.get();
-					// 2. QuizAttemptService를 사용하여 응시 기록 생성
-					try {
-						qaService.startAttempt(levelTestQuiz, savedUser);
-					} catch (Exception e) {
-						System.err.println("회원가입 후 레벨 테스트 시작 오류: " + e.getMessage());
-					}
-				} else {
-					System.err.println("회원가입 후 레벨 테스트를 찾을 수 없습니다.");
-				}
+				onboardingTaskr.save(OnboardingTask.pending(savedUser.getUno()));
+				eventPublisher.publishEvent(new LearnerSignedUpEvent(savedUser.getUno()));
 			}
 			return savedUser;
 		}
@@ -111,6 +114,7 @@ public class UserService {
 			}
 			user.setApproved(true);
 			userr.save(user);
+			eventPublisher.publishEvent(new UserUpdatedEvent(user.getUno())); // [수정] 커밋 후 로그인 사용자 캐시 무효화
 		}
 		
 	// - (관리자용) 회원정보수정
@@ -130,12 +134,15 @@ public class UserService {
 		// 이메일이 같다면 아무것도 안함
 		user.setUserName(userForm.getUserName());
 		// UserForm에서 String으로 받은 role을 UserRole Enum 타입으로 변환
+		UserRole previousRole = user.getRole();
 		user.setRole(UserRole.valueOf(userForm.getRole()));
 
 		if (newPassword != null && !newPassword.isEmpty()) {
 			user.setPassword(passworde.encode(newPassword));
 		}
 		userr.save(user);
+		eventPublisher.publishEvent(new UserChangedEvent(uno,
+				previousRole == UserRole.ROLE_INSTRUCTOR || user.getRole() == UserRole.ROLE_INSTRUCTOR));
 	}
 
 	// - (수강생, 강사) 내 정보 수정 메서드
@@ -158,6 +165,7 @@ public class UserService {
 
 		// 저장
 		userr.save(user);
+		eventPublisher.publishEvent(new UserUpdatedEvent(user.getUno())); // [수정] 커밋 후 로그인 사용자 캐시 무효화
 	}
 
 	
@@ -190,21 +198,33 @@ public class UserService {
 				.orElseThrow(() -> new DataNotFoundException("사용자를 찾을 수 없습니다. User ID: " + userId));
 	}
 
+	// [추가] 회원번호(uno)만 필요한 경우 (진도율 heartbeat 등) - 최초 1회만 DB 조회
+	public Long getUno(String userId) {
+		return unoCache.get(userId, id -> userr.findUnoByUserId(id)
+				.orElseThrow(() -> new DataNotFoundException("사용자를 찾을 수 없습니다. User ID: " + id)));
+	}
+
 	// 회원 삭제
+	@Transactional // [추가] 회원과 레벨 테스트 준비 작업을 함께 삭제
 	public void deleteUser(Long uno) {
+		boolean instructor = userr.findRoleByUno(uno).orElse(null) == UserRole.ROLE_INSTRUCTOR;
 		userr.deleteById(uno);
+		onboardingTaskr.deleteById(uno);
+		unoCache.asMap().values().remove(uno);
+		eventPublisher.publishEvent(new UserChangedEvent(uno, instructor));
 	}
 	
 	
 	// 랜덤 강사 조회 (4명) 메인페이지에서
+	// [수정] 추천 풀에서 뽑아서 조회 (ORDER BY RANDOM() 대체)
 	public List<User> getRandomInstructors(int limit) {
-		Pageable pageable = PageRequest.of(0, limit);
-		return userr.findRandomByRole(UserRole.ROLE_INSTRUCTOR, pageable).getContent();
+		return recommendationPool.sampleInstructors(limit);
 	}
 
 	// save 편의 메서드
 	public void save(User user) {
 		userr.save(user);
+		eventPublisher.publishEvent(new UserUpdatedEvent(user.getUno())); // [수정] 커밋 후 로그인 사용자 캐시 무효화
 	}
 	
 	
@@ -212,7 +232,8 @@ public class UserService {
 	// 검색 - 구분 필터 + 키워드 검색 (이름, 아이디, 이메일에 대해 검색 가능)
 	// roleFilter: "ALL"이면 전체, "ROLE_LEARNER", "ROLE_INSTRUCTOR" 등으로 구분
 	// keyword: 이름, 아이디, 이메일 중 일부 포함 시 검색
-	public Page<User> getFilteredUsers(int page, String roleFilter, String keyword) {
+	// [수정] 커서 페이징 (COUNT 쿼리 없음) - 키셋 스크롤은 문자열 @Query 에서 지원되지 않아 Specification 으로 조회
+	public CursorPage<User> getFilteredUsers(Cursor cursor, String roleFilter, String keyword) {
 		// 공백 처리
 	    // "ALL" 또는 null/공백 → 기본값 : 전체 유저
 	    if (roleFilter == null || roleFilter.isBlank()) {
@@ -223,9 +244,29 @@ public class UserService {
 	    }
 	    
 	    // 최신순으로 10개씩 조회
-	    Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "userCdate"));
+	    Specification<User> spec = filteredUsers(roleFilter, keyword.toLowerCase());
+	    return CursorPage.of(userr.findBy(spec, q -> q.sortBy(NEWEST).limit(LIST_PAGE_SIZE).scroll(cursor.position())),
+	    		cursor, LIST_PAGE_SIZE);
+	}
 
-	    return userr.findByKeywordAndRole(keyword.toLowerCase(), roleFilter, pageable);
+	// 구분(role) + 이름/아이디/이메일 부분 일치
+	private Specification<User> filteredUsers(String roleFilter, String keyword) {
+		return (root, query, cb) -> {
+			String likeKw = "%" + keyword + "%";
+			Predicate matches = cb.or(
+					cb.like(cb.lower(root.get("userName")), likeKw),
+					cb.like(cb.lower(root.get("userId")), likeKw),
+					cb.like(cb.lower(root.get("email")), likeKw));
+			if ("ALL".equals(roleFilter)) {
+				return matches;
+			}
+			for (UserRole role : UserRole.values()) {
+				if (role.name().equals(roleFilter)) {
+					return cb.and(cb.equal(root.get("role"), role), matches);
+				}
+			}
+			return cb.disjunction(); // 알 수 없는 구분 → 결과 없음
+		};
 	}
 	
 	// 2. user_list_unapproved.html(비승인 강사용)
@@ -275,5 +316,6 @@ public class UserService {
         user.setPaid(true);
         user.setEndDate(null); // VIP는 기한 없음 (혹은 결제일 + 30일 등으로 설정 가능)
         userr.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getUno())); // [수정] 커밋 후 로그인 사용자 캐시 무효화
     }
 }
\ No newline at end of file
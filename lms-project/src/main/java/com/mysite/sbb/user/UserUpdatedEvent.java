@@ -0,0 +1,6 @@
+package com.mysite.sbb.user;
+
+// [추가] 회원 정보(레벨, 결제 상태, 승인, 이메일/비밀번호 등) 변경 후 발행 - 로그인 사용자 캐시 무효화용
+// (가입/관리자 수정/탈퇴는 UserChangedEvent)
+public record UserUpdatedEvent(Long uno) {
+}
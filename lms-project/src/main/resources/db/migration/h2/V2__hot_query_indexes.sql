@@ -0,0 +1,25 @@
+-- 자주 실행되는 조회 조건 인덱스 (HotQueryPlanTest 가 EXPLAIN 으로 사용 여부를 검사)
+
+-- 내 강의실 진행중/완료 목록, 완료 강의 수 (EnrollmentRepository.findByUserAndCompleted, countByUser_UnoAndCompletedTrue)
+create index idx_enrollment_uno_completed
+    on enrollment (uno, is_completed);
+
+-- 퀴즈별 최근 응시 기록 (QuizAttemptRepository.findFirstByUserAndQuizOrderByAttemptedCdateDesc)
+create index idx_quiz_attempt_uno_quiz_attempted
+    on quiz_attempt (uno, quiz_id, attempted_cdate);
+
+-- 강의별 질문 최신순 (BoardQuestionRepository.findByClassesInOrderByQuesDateDesc)
+create index idx_board_question_class_ques_date
+    on board_question (class_id, ques_date);
+
+-- 강의 시청 화면의 내 메모 목록 (MemoRepository.findByClassesAndUserOrderByVideoTimestampAsc)
+create index idx_memo_classes_uno_timestamp
+    on memo (classes_id, uno, video_timestamp);
+
+-- 레벨별 강의 목록 최신순 (ClassesRepository.findByLevel_LevelIdLessThanEqual, 강의 목록 난이도 필터)
+create index idx_classes_level_created
+    on classes (level_id, created_date);
+
+-- 관리자 승인 대기 강사 목록 (UserRepository.findByRoleAndApprovedFalse)
+create index idx_site_user_role_approved
+    on site_user (role, approved);
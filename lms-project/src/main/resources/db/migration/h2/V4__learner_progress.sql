@@ -0,0 +1,16 @@
+-- 학습자 등급별 수료 강의 수 집계 - 메인/강의 목록의 승급 테스트 자격을 COUNT 없이 기본 키 한 번으로 조회
+-- 수료 여부가 바뀔 때 LearnerProgressService 가 (회원, 레벨) 한 행만 다시 계산한다.
+create table learner_progress (
+    uno bigint not null,
+    level_id bigint not null,
+    completed_count bigint not null,
+    primary key (uno, level_id)
+);
+
+-- 기존 수강 내역으로 채움
+insert into learner_progress (uno, level_id, completed_count)
+select e.uno, c.level_id, count(*)
+from enrollment e
+join classes c on c.classes_id = e.classes_id
+where e.is_completed = true
+group by e.uno, c.level_id;
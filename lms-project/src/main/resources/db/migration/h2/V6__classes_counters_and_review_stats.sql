@@ -0,0 +1,45 @@
+-- 강의 상세/목록 집계 - V1(기존 스키마) 이후 추가된 비정규화 컬럼과 집계 테이블
+-- 기존 DB 는 V1 로 기록되어 있으므로 여기서 만들고 현재 데이터로 채운다.
+-- (ddl-auto=update 로 이미 컬럼/테이블이 생긴 개발용 DB 도 있으므로 IF NOT EXISTS)
+
+-- 강의별 수강생 수 (EnrollmentService 가 수강신청/취소 시 원자적 UPDATE 로 증감)
+alter table classes
+    add column if not exists enrollment_count bigint default 0 not null;
+
+update classes
+set enrollment_count = (select count(*) from enrollment e where e.classes_id = classes.classes_id);
+
+-- 강사별 '수강생 많은 순' 정렬
+create index if not exists idx_classes_uno_enrollment_count
+    on classes (uno, enrollment_count);
+
+-- 강의별 리뷰 집계 (강의당 한 행 - ReviewStatsService 가 리뷰 변경 시 증분 갱신)
+create table if not exists review_stats (
+    classes_id bigint not null,
+    rating_sum bigint not null,
+    review_count bigint not null,
+    star1_count bigint not null,
+    star2_count bigint not null,
+    star3_count bigint not null,
+    star4_count bigint not null,
+    star5_count bigint not null,
+    primary key (classes_id)
+);
+
+-- 기존 강의 모두 채움 (리뷰가 없는 강의는 0)
+insert into review_stats (classes_id, rating_sum, review_count,
+        star1_count, star2_count, star3_count, star4_count, star5_count)
+select c.classes_id, coalesce(sum(r.rating), 0), count(r.review_id),
+       sum(case when r.rating = 1 then 1 else 0 end),
+       sum(case when r.rating = 2 then 1 else 0 end),
+       sum(case when r.rating = 3 then 1 else 0 end),
+       sum(case when r.rating = 4 then 1 else 0 end),
+       sum(case when r.rating = 5 then 1 else 0 end)
+from classes c
+left join review r on r.classes_id = c.classes_id
+where not exists (select 1 from review_stats s where s.classes_id = c.classes_id)
+group by c.classes_id;
+
+-- 강의 상세 리뷰 최신순 페이징
+create index if not exists idx_review_classes_created
+    on review (classes_id, created_date);
@@ -0,0 +1,265 @@
+-- 기준 스키마 (MySQL) - ddl-auto=update 로 만들어져 있던 스키마와 동일
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 V1 로 기록되고 V2 부터 적용된다
+
+create table board_answer (
+    answ_date datetime(6),
+    board_answ_id bigint not null auto_increment,
+    board_ques_id bigint not null,
+    uno bigint not null,
+    answ_content TEXT,
+    primary key (board_answ_id)
+) engine=InnoDB;
+
+create table board_question (
+    board_ques_id bigint not null auto_increment,
+    class_id bigint not null,
+    ques_date datetime(6) not null,
+    uno bigint not null,
+    ques_content TEXT,
+    title varchar(255),
+    primary key (board_ques_id)
+) engine=InnoDB;
+
+create table classes (
+    classes_id bigint not null auto_increment,
+    created_date datetime(6) not null,
+    level_id bigint not null,
+    uno bigint not null,
+    classes_content TEXT,
+    classes_img varchar(255),
+    classes_video varchar(255),
+    title varchar(255) not null,
+    primary key (classes_id)
+) engine=InnoDB;
+
+create table enrollment (
+    is_completed bit not null,
+    progress integer not null,
+    classes_id bigint not null,
+    enrollment_cdate datetime(6),
+    enrollment_id bigint not null auto_increment,
+    uno bigint not null,
+    primary key (enrollment_id)
+) engine=InnoDB;
+
+create table level (
+    level_id bigint not null auto_increment,
+    level_name varchar(20) not null,
+    primary key (level_id)
+) engine=InnoDB;
+
+create table memo (
+    video_timestamp integer,
+    classes_id bigint not null,
+    created_date datetime(6),
+    memo_id bigint not null auto_increment,
+    modified_date datetime(6),
+    uno bigint not null,
+    content TEXT not null,
+    primary key (memo_id)
+) engine=InnoDB;
+
+create table payment (
+    amount integer not null,
+    id bigint not null auto_increment,
+    level_id bigint not null,
+    paid_at datetime(6) not null,
+    user_id bigint not null,
+    order_id varchar(255) not null,
+    payment_key varchar(255) not null,
+    status varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table quiz (
+    total_score integer,
+    level_id bigint,
+    quiz_id bigint not null auto_increment,
+    quiz_type varchar(50) not null,
+    quiz_title varchar(200) not null,
+    primary key (quiz_id)
+) engine=InnoDB;
+
+create table quiz_attempt (
+    score integer not null,
+    attempt_id bigint not null auto_increment,
+    attempted_cdate datetime(6) not null,
+    quiz_id bigint not null,
+    uno bigint not null,
+    primary key (attempt_id)
+) engine=InnoDB;
+
+create table quiz_question (
+    score integer not null,
+    author_uno bigint,
+    question_id bigint not null auto_increment,
+    quiz_id bigint not null,
+    correct_answer TEXT not null,
+    option1 TEXT,
+    option2 TEXT,
+    option3 TEXT,
+    option4 TEXT,
+    quiz_content TEXT not null,
+    primary key (question_id)
+) engine=InnoDB;
+
+create table quiz_answer (
+    is_correct bit not null,
+    answer_id bigint not null auto_increment,
+    attempt_id bigint not null,
+    question_id bigint not null,
+    user_answer TEXT,
+    primary key (answer_id)
+) engine=InnoDB;
+
+create table review (
+    rating integer not null,
+    classes_id bigint not null,
+    created_date datetime(6),
+    modified_date datetime(6),
+    review_id bigint not null auto_increment,
+    uno bigint not null,
+    content TEXT,
+    primary key (review_id)
+) engine=InnoDB;
+
+create table site_user (
+    approved BOOLEAN DEFAULT false not null,
+    is_paid bit not null,
+    end_date datetime(6),
+    level_id bigint,
+    uno bigint not null auto_increment,
+    user_cdate datetime(6) not null,
+    user_id varchar(100) not null,
+    user_name varchar(100) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    profile_img varchar(255),
+    role enum ('ROLE_ADMIN','ROLE_INSTRUCTOR','ROLE_LEARNER') not null,
+    primary key (uno)
+) engine=InnoDB;
+
+alter table enrollment
+   add constraint UK4po525nh6ipqn6s8ngc1sdpjo unique (classes_id, uno);
+
+alter table level
+   add constraint UKhe33fbxsgs4gpdlwl01f2ybsg unique (level_name);
+
+alter table review
+   add constraint UK4drkt7s82eo8jhrrqoecl83ig unique (classes_id, uno);
+
+alter table site_user
+   add constraint UK7txm0o5jvngqyt8iwgnr1ohwu unique (user_id);
+
+alter table site_user
+   add constraint UK8vlkw482t3gpnebxcm03ywk9p unique (email);
+
+alter table board_answer
+   add constraint FKna4h2q8lxycmnaljxmwcmgs4w
+   foreign key (board_ques_id)
+   references board_question (board_ques_id);
+
+alter table board_answer
+   add constraint FK301yuuj2xb1kmoj0oi1kkmwpe
+   foreign key (uno)
+   references site_user (uno);
+
+alter table board_question
+   add constraint FKh0hymnhi01h2mfqdxkw03ksox
+   foreign key (class_id)
+   references classes (classes_id);
+
+alter table board_question
+   add constraint FKm9e7bpltsw4hgpck07svrbysn
+   foreign key (uno)
+   references site_user (uno);
+
+alter table classes
+   add constraint FKewtdnmfs54gi71rkcaj24lwi3
+   foreign key (level_id)
+   references level (level_id);
+
+alter table classes
+   add constraint FK8nt1rbhos2qdnrj0v489j1mgq
+   foreign key (uno)
+   references site_user (uno);
+
+alter table enrollment
+   add constraint FKg794xaovcfot3s388nk5g9bap
+   foreign key (classes_id)
+   references classes (classes_id);
+
+alter table enrollment
+   add constraint FKop6ux38qb3bndjs4ni41h7vco
+   foreign key (uno)
+   references site_user (uno);
+
+alter table memo
+   add constraint FKlk23s1wmffvnosb7s8s1ryc3
+   foreign key (classes_id)
+   references classes (classes_id);
+
+alter table memo
+   add constraint FKk5p477w0e0pcqeynoqw0rt2g
+   foreign key (uno)
+   references site_user (uno);
+
+alter table payment
+   add constraint FKi2xpudulwrtx87qmaxwqaxj08
+   foreign key (level_id)
+   references level (level_id);
+
+alter table payment
+   add constraint FK614we81g3b1oepm5kwwg6hw4m
+   foreign key (user_id)
+   references site_user (uno);
+
+alter table quiz
+   add constraint FK1lsw8aftneawu630wmsw1qyyi
+   foreign key (level_id)
+   references level (level_id);
+
+alter table quiz_attempt
+   add constraint FK8l6wmgul0rgeha0lp6abrp5fa
+   foreign key (quiz_id)
+   references quiz (quiz_id);
+
+alter table quiz_attempt
+   add constraint FKfecesu062wgf55iu99lg7ve7o
+   foreign key (uno)
+   references site_user (uno);
+
+alter table quiz_question
+   add constraint FK3uqtxjvv9hs9ux8wowh7qtdf9
+   foreign key (author_uno)
+   references site_user (uno);
+
+alter table quiz_question
+   add constraint FKdtynvfjgh6e7fd8l0wk37nrpc
+   foreign key (quiz_id)
+   references quiz (quiz_id);
+
+alter table quiz_answer
+   add constraint FKf7qbuojyxmmujpdwfrbh1rpba
+   foreign key (attempt_id)
+   references quiz_attempt (attempt_id);
+
+alter table quiz_answer
+   add constraint FK4miyop5d48hmevxd77k797gsp
+   foreign key (question_id)
+   references quiz_question (question_id);
+
+alter table review
+   add constraint FKma1qdn48aw2k3u82dxe0oxdh1
+   foreign key (classes_id)
+   references classes (classes_id);
+
+alter table review
+   add constraint FKrvsv4nk6hds6ul9wl5bq8qhf9
+   foreign key (uno)
+   references site_user (uno);
+
+alter table site_user
+   add constraint FKoilrxuqdwhgfs31hihgti8hvy
+   foreign key (level_id)
+   references level (level_id);
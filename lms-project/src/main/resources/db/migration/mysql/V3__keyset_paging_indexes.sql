@@ -0,0 +1,17 @@
+-- 커서(키셋) 페이징 목록 인덱스 - WHERE (정렬 키) < (직전 페이지 마지막 값) ORDER BY 정렬 키 DESC LIMIT n 을 인덱스 범위 탐색으로 처리
+
+-- 질문 게시판 최신순 (BoardQuestionRepository.findBy)
+create index idx_board_question_ques_date_id
+    on board_question (ques_date, board_ques_id);
+
+-- 내 질문 (BoardQuestionRepository.findByUser)
+create index idx_board_question_uno_ques_date_id
+    on board_question (uno, ques_date, board_ques_id);
+
+-- 내 답글 (BoardAnswerRepository.findByUser)
+create index idx_board_answer_uno_answ_date_id
+    on board_answer (uno, answ_date, board_answ_id);
+
+-- 관리자 회원 목록 가입일 최신순 (UserService.getFilteredUsers)
+create index idx_site_user_cdate_uno
+    on site_user (user_cdate, uno);
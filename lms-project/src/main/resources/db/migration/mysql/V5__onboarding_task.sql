@@ -0,0 +1,22 @@
+-- 가입 후 온보딩(레벨 테스트 응시 준비) 작업 - 회원당 한 행 (uno 가 멱등 키)
+-- 가입 요청은 PENDING 행만 남기고, 비동기 작업자가 응시를 만든 뒤 READY + attempt_id 로 바꾼다.
+create table onboarding_task (
+    uno bigint not null,
+    status varchar(20) not null,
+    attempt_id bigint,
+    tries integer not null,
+    last_error varchar(500),
+    updated_at timestamp(6) not null,
+    primary key (uno)
+) engine=InnoDB;
+
+create index idx_onboarding_task_status_updated
+   on onboarding_task (status, updated_at);
+
+-- 기존 회원은 가장 최근 레벨 테스트 응시로 채움 (로그인 시 미제출 응시로 바로 이동)
+insert into onboarding_task (uno, status, attempt_id, tries, updated_at)
+select a.uno, 'READY', max(a.attempt_id), 1, current_timestamp
+from quiz_attempt a
+join quiz q on q.quiz_id = a.quiz_id
+where q.quiz_type = 'LEVEL_TEST'
+group by a.uno;
@@ -0,0 +1,140 @@
+package com.mysite.sbb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionRepository;
+import com.mysite.sbb.board_question.BoardQuestionService;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+import com.mysite.sbb.user.UserService;
+
+// 커서(키셋) 페이징 - 다음/이전으로 이동해도 행이 빠지거나 겹치지 않는지, 커서 문자열 인코딩 확인
+@LmsTest
+class CursorPagingTest {
+
+	private static final int QUESTIONS = 12; // 내 질문은 5개씩 → 5, 5, 2
+
+	@Autowired
+	private BoardQuestionService bqService;
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private BoardQuestionRepository bqr;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Level level;
+	private User author;
+	private List<Long> latestFirst;
+
+	@BeforeEach
+	void seed() {
+		level = fixtures.level("C-");
+
+		author = fixtures.user("author", UserRole.ROLE_LEARNER, level);
+		Classes classes = new Classes();
+		classes.setTitle("커서 페이징 테스트 강의");
+		classes.setUser(fixtures.user("instructor", UserRole.ROLE_INSTRUCTOR, level));
+		classes.setLevel(level);
+		classesr.save(classes);
+
+		List<BoardQuestion> saved = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			BoardQuestion question = new BoardQuestion();
+			question.setClasses(classes);
+			question.setUser(author);
+			question.setTitle("질문 " + i);
+			saved.add(bqr.save(question));
+		}
+		latestFirst = saved.stream()
+				.sorted(Comparator.comparing(BoardQuestion::getQuesDate).thenComparing(BoardQuestion::getBoardQuesId)
+						.reversed())
+				.map(BoardQuestion::getBoardQuesId)
+				.toList();
+	}
+
+	@Test
+	void forwardThenBackward() {
+		CursorPage<BoardQuestion> first = bqService.findMyQuestions(author, Cursor.first());
+		assertThat(first.hasPrevious()).isFalse();
+		CursorPage<BoardQuestion> second = next(first);
+		CursorPage<BoardQuestion> third = next(second);
+		assertThat(third.hasNext()).isFalse();
+		assertThat(third.getOffset()).isEqualTo(10);
+
+		List<Long> walked = new ArrayList<>();
+		List.of(first, second, third).forEach(page -> walked.addAll(ids(page)));
+		assertThat(walked).containsExactlyElementsOf(latestFirst);
+
+		CursorPage<BoardQuestion> backToSecond = previous(third);
+		assertThat(ids(backToSecond)).containsExactlyElementsOf(ids(second));
+		assertThat(backToSecond.getOffset()).isEqualTo(5);
+		assertThat(backToSecond.hasNext()).isTrue();
+
+		CursorPage<BoardQuestion> backToFirst = previous(backToSecond);
+		assertThat(ids(backToFirst)).containsExactlyElementsOf(ids(first));
+		assertThat(backToFirst.hasPrevious()).isFalse();
+		assertThat(backToFirst.getOffset()).isZero();
+	}
+
+	@Test
+	void filteredUsers() {
+		String marker = "cp" + Long.toString(System.nanoTime(), 36);
+		for (int i = 0; i < 3; i++) {
+			fixtures.user(marker + i + "-", UserRole.ROLE_LEARNER, level);
+		}
+		fixtures.user(marker + "t", UserRole.ROLE_INSTRUCTOR, level);
+
+		assertThat(userService.getFilteredUsers(Cursor.first(), "ROLE_LEARNER", marker.toUpperCase()).getContent())
+				.hasSize(3);
+		assertThat(userService.getFilteredUsers(Cursor.first(), "ALL", marker).getContent()).hasSize(4);
+		assertThat(userService.getFilteredUsers(Cursor.first(), "NOT_A_ROLE", marker).isEmpty()).isTrue();
+	}
+
+	@Test
+	void cursorRoundTrip() {
+		LocalDateTime date = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123456000);
+		Cursor cursor = new Cursor(20, ScrollPosition.backward(Map.of("quesDate", date, "boardQuesId", 42L)));
+
+		Cursor decoded = Cursor.decode(cursor.encode());
+		assertThat(decoded.offset()).isEqualTo(20);
+		assertThat(decoded.isBackward()).isTrue();
+		assertThat(decoded.position().getKeys()).containsEntry("quesDate", date).containsEntry("boardQuesId", 42L);
+
+		assertThat(Cursor.decode(null).position().isInitial()).isTrue();
+		assertThatThrownBy(() -> Cursor.decode("not-a-cursor")).isInstanceOf(ResponseStatusException.class);
+	}
+
+	private CursorPage<BoardQuestion> next(CursorPage<BoardQuestion> page) {
+		assertThat(page.hasNext()).isTrue();
+		return bqService.findMyQuestions(author, Cursor.decode(page.getNextCursor()));
+	}
+
+	private CursorPage<BoardQuestion> previous(CursorPage<BoardQuestion> page) {
+		assertThat(page.hasPrevious()).isTrue();
+		return bqService.findMyQuestions(author, Cursor.decode(page.getPreviousCursor()));
+	}
+
+	private List<Long> ids(CursorPage<BoardQuestion> page) {
+		return page.getContent().stream().map(BoardQuestion::getBoardQuesId).toList();
+	}
+}
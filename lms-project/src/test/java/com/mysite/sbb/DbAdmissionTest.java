@@ -0,0 +1,66 @@
+package com.mysite.sbb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.mysite.sbb.level.LevelRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// DB 동시 사용 상한 - 허가 수만큼만 커넥션을 빌려주고, 초과 요청은 제한 시간 후 실패, 닫으면 허가 반환
+@LmsTest
+@TestPropertySource(properties = { "lms.db.admission.enabled=true", "lms.db.admission.permits=3", "lms.db.admission.timeout-ms=200" })
+class DbAdmissionTest {
+
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private LevelRepository levelr;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void connectionsBeyondPermitsWaitThenFail() throws Exception {
+		AdmissionLimitedDataSource limited = dataSource.unwrap(AdmissionLimitedDataSource.class);
+		assertThat(limited.getMaxPermits()).isEqualTo(3);
+
+		try (Connection first = dataSource.getConnection();
+				Connection second = dataSource.getConnection()) {
+			Connection third = dataSource.getConnection();
+			assertThat(limited.getAvailablePermits()).isZero();
+			assertThat(meterRegistry.get("lms.db.admission.available").gauge().value()).isZero();
+
+			long start = System.nanoTime();
+			assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+			assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(150_000_000L);
+
+			third.close();
+			third.close(); // 두 번 닫아도 허가는 한 번만 반환
+			assertThat(limited.getAvailablePermits()).isEqualTo(1);
+			try (Connection again = dataSource.getConnection()) {
+				assertThat(again.isValid(1)).isTrue();
+			}
+		}
+		assertThat(limited.getAvailablePermits()).isEqualTo(3);
+	}
+
+	@Test
+	void repositoriesGoThroughTheLimiter() throws Exception {
+		try (Connection first = dataSource.getConnection();
+				Connection second = dataSource.getConnection();
+				Connection third = dataSource.getConnection()) {
+			assertThatThrownBy(levelr::count).hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+		}
+		levelr.count();
+		assertThat(dataSource.unwrap(AdmissionLimitedDataSource.class).getAvailablePermits()).isEqualTo(3); // 트랜잭션이 끝나면 반환
+	}
+}
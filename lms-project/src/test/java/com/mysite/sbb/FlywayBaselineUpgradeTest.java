@@ -0,0 +1,75 @@
+package com.mysite.sbb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+// 기존 DB 업그레이드 - ddl-auto=update 로 만들어진 DB(= V1 스키마, Flyway 이력 없음)를
+// 운영 설정과 같이 baseline-on-migrate(V1)로 마이그레이션하면 V2 이후만 적용되므로,
+// V1 이후 추가된 컬럼/테이블이 V2 이후 마이그레이션에 빠짐없이 들어 있고 기존 데이터로 채워지는지 확인
+class FlywayBaselineUpgradeTest {
+
+	private static final String URL = "jdbc:h2:mem:lms-upgrade;DB_CLOSE_DELAY=-1";
+
+	@Test
+	void existingDatabaseGetsLaterColumnsWithBackfill() throws SQLException {
+		try (Connection conn = DriverManager.getConnection(URL, "sa", "");
+				Statement st = conn.createStatement()) {
+			// 기존 DB: V1 스키마 + 데이터 (강의 1 은 수강 2명/리뷰 2개, 강의 2 는 없음)
+			st.execute("RUNSCRIPT FROM 'classpath:db/migration/h2/V1__baseline_schema.sql'");
+			st.execute("INSERT INTO level (level_id, level_name) VALUES (1, '초급')");
+			for (int uno = 1; uno <= 3; uno++) {
+				st.execute("INSERT INTO site_user (uno, user_id, user_name, email, password, role, approved, is_paid, user_cdate) "
+						+ "VALUES (" + uno + ", 'u" + uno + "', 'u" + uno + "', 'u" + uno + "@test.com', 'pw', 'ROLE_LEARNER', true, false, CURRENT_TIMESTAMP)");
+			}
+			st.execute("INSERT INTO classes (classes_id, title, level_id, uno, created_date) VALUES (1, '강의 1', 1, 1, CURRENT_TIMESTAMP)");
+			st.execute("INSERT INTO classes (classes_id, title, level_id, uno, created_date) VALUES (2, '강의 2', 1, 1, CURRENT_TIMESTAMP)");
+			st.execute("INSERT INTO enrollment (classes_id, uno, is_completed, progress) VALUES (1, 2, true, 100), (1, 3, true, 100)");
+			st.execute("INSERT INTO review (classes_id, uno, rating) VALUES (1, 2, 4), (1, 3, 5)");
+		}
+
+		Flyway.configure()
+				.dataSource(URL, "sa", "")
+				.locations("classpath:db/migration/h2")
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.load()
+				.migrate();
+
+		try (Connection conn = DriverManager.getConnection(URL, "sa", "");
+				Statement st = conn.createStatement()) {
+			assertThat(rows(st, "SELECT classes_id, enrollment_count FROM classes ORDER BY classes_id"))
+					.containsExactly("1:2", "2:0");
+			assertThat(rows(st, "SELECT classes_id, rating_sum, review_count, star4_count, star5_count FROM review_stats ORDER BY classes_id"))
+					.containsExactly("1:9:2:1:1", "2:0:0:0:0");
+			assertThat(rows(st, "SELECT index_name FROM information_schema.indexes WHERE index_name IN "
+					+ "('IDX_CLASSES_UNO_ENROLLMENT_COUNT', 'IDX_REVIEW_CLASSES_CREATED') ORDER BY index_name"))
+					.containsExactly("IDX_CLASSES_UNO_ENROLLMENT_COUNT", "IDX_REVIEW_CLASSES_CREATED");
+		}
+	}
+
+	// 결과 행을 "열1:열2:..." 문자열 목록으로
+	private static List<String> rows(Statement st, String sql) throws SQLException {
+		List<String> result = new ArrayList<>();
+		try (ResultSet rs = st.executeQuery(sql)) {
+			int columns = rs.getMetaData().getColumnCount();
+			while (rs.next()) {
+				StringBuilder row = new StringBuilder(rs.getString(1));
+				for (int i = 2; i <= columns; i++) {
+					row.append(':').append(rs.getString(i));
+				}
+				result.add(row.toString());
+			}
+		}
+		return result;
+	}
+}
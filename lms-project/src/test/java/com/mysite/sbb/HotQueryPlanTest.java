@@ -0,0 +1,257 @@
+package com.mysite.sbb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionRepository;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.enrollment.Enrollment;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.memo.Memo;
+import com.mysite.sbb.memo.MemoRepository;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.quiz_attempt.QuizAttempt;
+import com.mysite.sbb.quiz_attempt.QuizAttemptRepository;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+// 자주 실행되는 리포지토리 쿼리의 실행 계획 검사
+// 리포지토리 메서드가 실제로 보내는 SQL 을 가로채 EXPLAIN 한 뒤, 대상 테이블을 전체 스캔(tableScan)하지 않는지 확인한다.
+// (H2 옵티마이저는 비용이 같으면 컬럼 수가 적은 FK 인덱스를 고르므로, V2__hot_query_indexes.sql 의 복합 인덱스는
+//  존재 여부만 확인하고 실제 사용 여부는 검사하지 않는다 - 복합 인덱스는 MySQL 옵티마이저를 위한 것)
+@LmsTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.mysite.sbb.HotQueryPlanTest$SqlCapture")
+class HotQueryPlanTest {
+
+	// 빈 테이블이면 H2 가 비용 계산 없이 계획을 고를 수 있으므로 테이블마다 행을 조금씩 채움
+	private static final int ROWS = 20;
+
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private QuizAttemptRepository qAttemptr;
+	@Autowired
+	private BoardQuestionRepository bqr;
+	@Autowired
+	private MemoRepository memor;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private UserRepository userr;
+	@Autowired
+	private QuizRepository quizr;
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private TransactionTemplate tx;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Level level;
+	private User learner;
+	private Classes classes;
+	private Quiz quiz;
+
+	@BeforeEach
+	void seed() {
+		tx.executeWithoutResult(status -> {
+			level = fixtures.level("P-");
+
+			learner = fixtures.user(UserRole.ROLE_LEARNER, level);
+			User instructor = fixtures.user(UserRole.ROLE_INSTRUCTOR, level);
+
+			quiz = new Quiz();
+			quiz.setQuizTitle("실행 계획 테스트 퀴즈");
+			quiz.setQuizType("PLAN_TEST");
+			quizr.save(quiz);
+
+			for (int i = 0; i < ROWS; i++) {
+				classes = new Classes();
+				classes.setTitle("실행 계획 테스트 강의 " + i);
+				classes.setUser(instructor);
+				classes.setLevel(level);
+				classesr.save(classes);
+
+				User other = fixtures.user(UserRole.ROLE_LEARNER, level);
+				for (User user : List.of(learner, other)) {
+					Enrollment enrollment = new Enrollment();
+					enrollment.setClasses(classes);
+					enrollment.setUser(user);
+					enrollment.setCompleted(i % 2 == 0);
+					enrollmentr.save(enrollment);
+
+					Memo memo = new Memo();
+					memo.setClasses(classes);
+					memo.setUser(user);
+					memo.setContent("메모 " + i);
+					memo.setVideoTimestamp(i);
+					memor.save(memo);
+
+					QuizAttempt attempt = new QuizAttempt();
+					attempt.setQuiz(quiz);
+					attempt.setUser(user);
+					qAttemptr.save(attempt);
+				}
+
+				BoardQuestion question = new BoardQuestion();
+				question.setClasses(classes);
+				question.setUser(other);
+				question.setTitle("질문 " + i);
+				question.setQuesContent("내용 " + i);
+				bqr.save(question);
+			}
+		});
+		analyze();
+	}
+
+	@Test
+	void myClassesByCompletion() {
+		assertIndexed("enrollment", "idx_enrollment_uno_completed",
+				() -> enrollmentr.findByUserAndCompleted(learner, false, PageRequest.of(0, 6)));
+		assertIndexed("enrollment", "idx_enrollment_uno_completed",
+				() -> enrollmentr.countByUser_UnoAndCompletedTrue(learner.getUno()));
+	}
+
+	@Test
+	void latestQuizAttempt() {
+		assertIndexed("quiz_attempt", "idx_quiz_attempt_uno_quiz_attempted",
+				() -> qAttemptr.findFirstByUserAndQuizOrderByAttemptedCdateDesc(learner, quiz));
+	}
+
+	@Test
+	void questionsOfClasses() {
+		assertIndexed("board_question", "idx_board_question_class_ques_date",
+				() -> bqr.findByClassesInOrderByQuesDateDesc(List.of(classes), PageRequest.of(0, 10)));
+	}
+
+	@Test
+	void memosOfClassesAndUser() {
+		assertIndexed("memo", "idx_memo_classes_uno_timestamp",
+				() -> memor.findByClassesAndUserOrderByVideoTimestampAsc(classes, learner));
+	}
+
+	@Test
+	void classesUpToLevel() {
+		assertIndexed("classes", "idx_classes_level_created",
+				() -> classesr.findByLevel_LevelIdLessThanEqual(level.getLevelId()));
+	}
+
+	@Test
+	void unapprovedInstructors() {
+		assertIndexed("site_user", "idx_site_user_role_approved",
+				() -> userr.findByRoleAndApprovedFalse(UserRole.ROLE_INSTRUCTOR, PageRequest.of(0, 10)));
+	}
+
+	// 마이그레이션으로 index 가 만들어졌는지, action 이 보낸 SQL 중 table 을 읽는 SELECT 가 전체 스캔하지 않는지 확인
+	private void assertIndexed(String table, String index, Runnable action) {
+		assertThat(indexesOf(table)).contains(index.toUpperCase(Locale.ROOT));
+
+		List<String> selects = SqlCapture.capture(() -> tx.executeWithoutResult(status -> action.run())).stream()
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).matches("(?s).*\\bfrom\\s+" + table + "\\b.*"))
+				.toList();
+		assertThat(selects).as("%s 를 조회하는 SQL", table).isNotEmpty();
+
+		for (String sql : selects) {
+			String plan = explain(sql);
+			assertThat(plan).as("실행 계획:%n%s", plan)
+					.doesNotContainIgnoringCase("PUBLIC." + table + ".tableScan");
+		}
+	}
+
+	private List<String> indexesOf(String table) {
+		try (Connection conn = dataSource.getConnection();
+				PreparedStatement ps = conn.prepareStatement(
+						"SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = ?")) {
+			ps.setString(1, table.toUpperCase(Locale.ROOT));
+			List<String> names = new ArrayList<>();
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					names.add(rs.getString(1));
+				}
+			}
+			return names;
+		} catch (SQLException e) {
+			throw new IllegalStateException("인덱스 조회 실패: " + table, e);
+		}
+	}
+
+	// 바인딩 값과 무관한 실행 계획을 보기 위해 파라미터는 모두 null 로 두고 EXPLAIN
+	private String explain(String sql) {
+		try (Connection conn = dataSource.getConnection();
+				PreparedStatement ps = conn.prepareStatement("EXPLAIN " + sql)) {
+			int params = ps.getParameterMetaData().getParameterCount();
+			for (int i = 1; i <= params; i++) {
+				ps.setObject(i, null);
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					plan.append(rs.getString(1)).append('\n');
+				}
+			}
+			return plan.toString();
+		} catch (SQLException e) {
+			throw new IllegalStateException("EXPLAIN 실패: " + sql, e);
+		}
+	}
+
+	// 컬럼 선택도 통계 갱신 (운영 DB 는 데이터가 쌓이면 H2 가 자동으로 수행)
+	private void analyze() {
+		try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+			st.execute("ANALYZE");
+		} catch (SQLException e) {
+			throw new IllegalStateException("ANALYZE 실패", e);
+		}
+	}
+
+	// Hibernate 가 실행하는 SQL 을 현재 스레드에서만 수집
+	public static class SqlCapture implements StatementInspector {
+
+		private static final long serialVersionUID = 1L;
+		private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+		static List<String> capture(Runnable action) {
+			List<String> sqls = new ArrayList<>();
+			CAPTURED.set(sqls);
+			try {
+				action.run();
+			} finally {
+				CAPTURED.remove();
+			}
+			return sqls;
+		}
+
+		@Override
+		public String inspect(String sql) {
+			List<String> sqls = CAPTURED.get();
+			if (sqls != null) {
+				sqls.add(sql);
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package com.mysite.sbb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionRepository;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.enrollment.Enrollment;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.enrollment.EnrollmentService;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 주요 목록 페이지 N+1 검사 - 목록 조회 후 템플릿이 읽는 연관관계까지 접근해도 SQL 수가 행 수와 무관해야 한다
+@LmsTest
+class ListPageQueryCountTest {
+
+	private static final int ROWS = 8; // 강의/강사/수강생/질문 수 (모두 서로 다름)
+	private static final Pageable PAGE = PageRequest.of(0, 20);
+
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private EnrollmentService enrollmentService;
+	@Autowired
+	private BoardQuestionRepository bqr;
+	@Autowired
+	private EntityManagerFactory emf;
+	@Autowired
+	private TransactionTemplate tx;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private User learner;
+	private Long rosterClassesId;
+	private final List<Long> classesIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		tx.executeWithoutResult(status -> {
+			List<Level> levels = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				levels.add(fixtures.level("L" + i + "-"));
+			}
+
+			learner = fixtures.user(UserRole.ROLE_LEARNER, levels.get(0));
+			classesIds.clear();
+			for (int i = 0; i < ROWS; i++) {
+				Classes classes = new Classes();
+				classes.setTitle("목록 테스트 강의 " + i);
+				classes.setUser(fixtures.user(UserRole.ROLE_INSTRUCTOR, null));
+				classes.setLevel(levels.get(i % levels.size()));
+				classesr.save(classes);
+				classesIds.add(classes.getClassesId());
+
+				enroll(classes, learner);
+
+				BoardQuestion question = new BoardQuestion();
+				question.setClasses(classes);
+				question.setUser(fixtures.user(UserRole.ROLE_LEARNER, levels.get(i % levels.size())));
+				question.setTitle("질문 " + i);
+				question.setQuesContent("내용 " + i);
+				bqr.save(question);
+			}
+
+			// 수강생 목록(roster)용 - 첫 강의에 레벨이 서로 다른 수강생 ROWS 명 추가
+			Classes first = classesr.getReferenceById(classesIds.get(0));
+			for (int i = 0; i < ROWS; i++) {
+				enroll(first, fixtures.user(UserRole.ROLE_LEARNER, levels.get(i % levels.size())));
+			}
+			rosterClassesId = first.getClassesId();
+		});
+	}
+
+	@Test
+	void classesListPage() {
+		Specification<Classes> all = (root, query, cb) -> cb.conjunction();
+		assertNoNPlusOne(() -> classesr.findAll(all, PAGE).getContent(), c -> {
+			c.getTitle();
+			c.getLevel().getLevelName();
+			c.getUser().getUserName();
+		});
+	}
+
+	@Test
+	void recommendedClasses() {
+		assertNoNPlusOne(() -> classesr.findAllById(classesIds), c -> {
+			c.getLevel().getLevelName();
+			c.getUser().getUserName();
+		});
+	}
+
+	@Test
+	void myClassesPage() {
+		assertNoNPlusOne(() -> enrollmentr.findByUserAndCompleted(learner, false, PAGE).getContent(), e -> {
+			e.getClasses().getTitle();
+			e.getClasses().getLevel().getLevelName();
+			e.getClasses().getUser().getUserName();
+		});
+	}
+
+	@Test
+	void classRosterPage() {
+		assertNoNPlusOne(() -> enrollmentr.findByClassesIdAndKeyword(rosterClassesId, "", PAGE).getContent(), e -> {
+			e.getUser().getUserName();
+			e.getUser().getLevel().getLevelName();
+		});
+	}
+
+	@Test
+	void enrollmentStatusOfPage() {
+		List<Long> page = classesIds.subList(0, 3);
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		Map<Long, String> statusMap = enrollmentService.getStatusMap(learner, page);
+
+		// 수강 내역 전체가 아니라 페이지에 보이는 강의만, 엔티티 없이 한 번에 조회
+		assertThat(statusMap).containsOnlyKeys(page).containsValue("ENROLLED");
+		assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(stats.getEntityLoadCount()).isZero();
+		assertThat(enrollmentService.getStatusMap(null, page)).isEmpty();
+	}
+
+	@Test
+	void boardListPage() {
+		assertNoNPlusOne(() -> bqr.findBy(ScrollPosition.keyset(), Sort.by("quesDate", "boardQuesId"), Limit.of(10)).getContent(), q -> {
+			q.getTitle();
+			q.getClasses().getTitle();
+			q.getClasses().getLevel().getLevelName();
+			q.getUser().getUserName();
+		});
+	}
+
+	// 한 트랜잭션(= open-in-view 요청 하나) 안에서 목록 조회 + 템플릿이 읽는 연관관계 접근
+	// 목록 쿼리 1개 (+ 페이지 count 쿼리 1개) 만 허용
+	private <T> void assertNoNPlusOne(Supplier<List<T>> page, Consumer<T> render) {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		long min = Long.MAX_VALUE;
+		int rows = 0;
+		for (int i = 0; i < 3; i++) { // 백그라운드 작업 영향을 줄이기 위해 3회 중 최소값
+			stats.clear();
+			rows = tx.execute(status -> {
+				List<T> content = page.get();
+				content.forEach(render);
+				return content.size();
+			});
+			min = Math.min(min, stats.getPrepareStatementCount());
+		}
+		assertThat(rows).isGreaterThanOrEqualTo(ROWS);
+		assertThat(min).isLessThanOrEqualTo(2);
+	}
+
+	private void enroll(Classes classes, User user) {
+		Enrollment enrollment = new Enrollment();
+		enrollment.setClasses(classes);
+		enrollment.setUser(user);
+		enrollmentr.save(enrollment);
+	}
+}
@@ -0,0 +1,22 @@
+package com.mysite.sbb;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// 통합 테스트 공통 설정 - 메모리 H2 테스트 프로필로 애플리케이션을 띄우고 테스트 데이터 생성기(TestFixtures)를 등록
+// 테스트별 추가 설정은 테스트 클래스에 @TestPropertySource(properties = ...) 를 함께 붙인다.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties") // 외부 config/application.yml 보다 우선
+@Import(TestFixtures.class)
+public @interface LmsTest {
+}
@@ -0,0 +1,64 @@
+package com.mysite.sbb;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.test.context.TestComponent;
+
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.level.LevelRepository;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+// 테스트 데이터 생성기 (@LmsTest 가 등록)
+// 테스트 클래스들이 같은 메모리 DB 를 함께 쓰므로 아이디/이메일/레벨명 같은 고유 값은 여기서 번호를 붙여 만든다.
+@TestComponent
+public class TestFixtures {
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private final UserRepository userr;
+	private final LevelRepository levelr;
+
+	public TestFixtures(UserRepository userr, LevelRepository levelr) {
+		this.userr = userr;
+		this.levelr = levelr;
+	}
+
+	// prefix 뒤에 번호를 붙인 고유 문자열
+	public static String unique(String prefix) {
+		return prefix + SEQUENCE.incrementAndGet();
+	}
+
+	public Level level(String prefix) {
+		Level level = new Level();
+		level.setLevelName(unique(prefix));
+		return levelr.save(level);
+	}
+
+	public User user(UserRole role) {
+		return user("u", role, null);
+	}
+
+	public User user(UserRole role, Level level) {
+		return user("u", role, level);
+	}
+
+	// 아이디/이름이 prefix 로 시작하는 회원 저장
+	public User user(String prefix, UserRole role, Level level) {
+		return userr.save(newUser(prefix, role, level));
+	}
+
+	// 저장 전 회원 (필드를 더 바꾼 뒤 저장할 때)
+	public User newUser(String prefix, UserRole role, Level level) {
+		User user = new User();
+		String id = unique(prefix);
+		user.setUserId(id);
+		user.setUserName(id);
+		user.setEmail(id + "@test.com");
+		user.setPassword("pw");
+		user.setRole(role);
+		user.setLevel(level);
+		return user;
+	}
+}
@@ -0,0 +1,160 @@
+package com.mysite.sbb.classes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.enrollment.Enrollment;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.review.Review;
+import com.mysite.sbb.review.ReviewRepository;
+import com.mysite.sbb.review.ReviewStatsRepository;
+import com.mysite.sbb.review.ReviewStatsService;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 강의 상세 페이지 쿼리 수 비교 (기존 조회 순서 vs ClassDetailService)
+@LmsTest
+class ClassDetailQueryCountTest {
+
+	private static final int REVIEWERS = 30;
+
+	@Autowired
+	private ClassDetailService classDetailService;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private ReviewRepository reviewr;
+	@Autowired
+	private ReviewStatsService reviewStatsService;
+	@Autowired
+	private ReviewStatsRepository reviewStatsr;
+	@Autowired
+	private UserRepository userr;
+	@Autowired
+	private EntityManagerFactory emf;
+	@Autowired
+	private TransactionTemplate tx;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Long classesId;
+	private User learner;
+
+	@BeforeEach
+	void seed() {
+		tx.executeWithoutResult(status -> {
+			Level level = fixtures.level("초급-");
+
+			User instructor = fixtures.user(UserRole.ROLE_INSTRUCTOR, null);
+			Classes classes = new Classes();
+			classes.setTitle("상세 페이지 테스트 강의");
+			classes.setUser(instructor);
+			classes.setLevel(level);
+			classesr.save(classes);
+			classesId = classes.getClassesId();
+			reviewStatsService.create(classesId); // 강의 등록 시 만드는 집계 행
+
+			learner = fixtures.user(UserRole.ROLE_LEARNER, level);
+			enroll(classes, learner);
+
+			// 리뷰 REVIEWERS 개 (작성자가 모두 다름)
+			for (int i = 0; i < REVIEWERS; i++) {
+				User reviewer = fixtures.user(UserRole.ROLE_LEARNER, level);
+				enroll(classes, reviewer);
+				Review review = new Review();
+				review.setClasses(classes);
+				review.setUser(reviewer);
+				review.setRating(i % 5 + 1);
+				review.setContent("리뷰 " + i);
+				reviewr.save(review);
+				reviewStatsService.apply(classesId, 0, review.getRating());
+			}
+			classesr.addEnrollmentCount(classesId, REVIEWERS + 1);
+		});
+	}
+
+	@Test
+	void detailPageQueryCount() {
+		long before = count(() -> tx.execute(status -> {
+			// 기존 ClassesController.detail 의 조회 순서
+			userr.findByUserId(learner.getUserId());
+			Classes classes = classesr.findById(classesId).orElseThrow();
+			enrollmentr.countByClasses_ClassesId(classesId);
+			userr.findByUserId(learner.getUserId());
+			enrollmentr.findByUserAndClasses(learner, classes);
+			reviewr.findByClassesOrderByCreatedDateDesc(classes).forEach(r -> r.getUser().getUserName());
+			reviewr.getAverageRatingByClasses(classes);
+			reviewr.countByClasses(classes);
+			enrollmentr.findByClassesAndUser(classes, learner);
+			reviewr.existsByClassesAndUser(classes, learner);
+			return null;
+		}));
+
+		long afterLoggedIn = count(() -> classDetailService.getView(classesId, learner, 0, 10));
+		long afterGuest = count(() -> classDetailService.getView(classesId, null, 0, 10));
+
+		assertThat(before).as("기존").isEqualTo(11);
+		assertThat(afterGuest).as("변경(비로그인)").isEqualTo(2); // 상세 projection + 리뷰 페이지
+		assertThat(afterLoggedIn).as("변경(로그인)").isEqualTo(3); // + 수강/수료/리뷰 작성 여부
+
+		ClassDetailView view = classDetailService.getView(classesId, learner, 0, 10);
+		assertThat(view.getReviewCount()).isEqualTo(REVIEWERS);
+		assertThat(view.getEnrollmentCount()).isEqualTo(REVIEWERS + 1);
+		assertThat(view.getReviews().getContent()).hasSize(10);
+		assertThat(view.isEnrolled()).isTrue();
+		assertThat(view.isCanWriteReview()).isFalse(); // 수료 전
+	}
+
+	@Test
+	void legacyClassWithoutStatsUsesExactRatingSum() {
+		// 집계 행이 없는 강의(기존 데이터) - 평균에서 거꾸로 계산하면 합계 91 이 90 이 됨 (91 / 30 = 3.03 → 3.0)
+		tx.executeWithoutResult(status -> {
+			reviewStatsr.deleteById(classesId);
+			Review review = reviewr.findSliceByClasses_ClassesId(classesId, PageRequest.of(0, 1)).getContent().get(0);
+			review.setRating(review.getRating() % 5 + 1);
+		});
+		long ratingSum = reviewr.findByClassesOrderByCreatedDateDesc(classesr.findById(classesId).orElseThrow())
+				.stream().mapToLong(Review::getRating).sum();
+
+		ClassDetailView view = classDetailService.getView(classesId, null, 0, 10);
+		assertThat(view.isHasReviewStats()).isFalse();
+		assertThat(view.getReviewCount()).isEqualTo(REVIEWERS);
+		assertThat(view.getRatingSum()).isEqualTo(ratingSum);
+	}
+
+	// 실행한 SQL 문 수 (백그라운드 작업 영향을 줄이기 위해 3회 중 최소값)
+	private long count(Supplier<?> action) {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			stats.clear();
+			action.get();
+			min = Math.min(min, stats.getPrepareStatementCount());
+		}
+		return min;
+	}
+
+	private void enroll(Classes classes, User user) {
+		Enrollment enrollment = new Enrollment();
+		enrollment.setClasses(classes);
+		enrollment.setUser(user);
+		enrollmentr.save(enrollment);
+	}
+}
@@ -0,0 +1,114 @@
+package com.mysite.sbb.classes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserChangedEvent;
+import com.mysite.sbb.user.UserRole;
+
+// 강의 카탈로그 캐시 - 목록 페이지는 id 만 캐시해 요청마다 새 엔티티를 돌려주고, 강의/강사 변경은 커밋된 뒤에 무효화되는지 확인
+@LmsTest
+class ClassesCatalogTest {
+
+	private static final Pageable PAGE = PageRequest.of(0, 9, Sort.by(Sort.Direction.DESC, "classesCdate"));
+
+	@Autowired
+	private ClassesService cService;
+	@Autowired
+	private CacheManager cacheManager;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private TransactionTemplate tx;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Level level;
+	private User instructor;
+	private ClassesCatalog.PageKey key;
+
+	@BeforeEach
+	void seed() {
+		level = fixtures.level("CC-");
+		instructor = fixtures.user("cc", UserRole.ROLE_INSTRUCTOR, level);
+		create("카탈로그 테스트 강의 1");
+		create("카탈로그 테스트 강의 2");
+		key = new ClassesCatalog.PageKey(null, level.getLevelId(), PAGE);
+	}
+
+	@Test
+	void pageHitReturnsFreshEntities() {
+		Page<Classes> first = list();
+		assertThat(catalog().get(key)).isNotNull();
+		Page<Classes> second = list();
+
+		assertThat(ids(second)).containsExactlyElementsOf(ids(first));
+		assertThat(second.getTotalElements()).isEqualTo(2);
+		assertThat(second.getContent().get(0)).isNotSameAs(first.getContent().get(0));
+		assertThat(cService.getClassById(ids(first).get(0))).isNotSameAs(cService.getClassById(ids(first).get(0)));
+	}
+
+	@Test
+	void classesChangeEvictsAfterCommit() {
+		list();
+		tx.executeWithoutResult(status -> {
+			create("카탈로그 테스트 강의 3");
+			assertThat(catalog().get(key)).isNotNull(); // 커밋 전에는 그대로
+		});
+		assertThat(catalog().get(key)).isNull();
+		assertThat(list().getTotalElements()).isEqualTo(3);
+
+		tx.executeWithoutResult(status -> {
+			cService.deleteClass(ids(list()).get(0));
+			status.setRollbackOnly(); // 롤백되면 무효화하지 않음
+		});
+		assertThat(catalog().get(key)).isNotNull();
+	}
+
+	@Test
+	void instructorChangeEvicts() {
+		list();
+		eventPublisher.publishEvent(new UserChangedEvent(fixtures.user(UserRole.ROLE_LEARNER).getUno(), false));
+		assertThat(catalog().get(key)).isNotNull();
+
+		eventPublisher.publishEvent(new UserChangedEvent(instructor.getUno(), true));
+		assertThat(catalog().get(key)).isNull();
+	}
+
+	private Page<Classes> list() {
+		return cService.getList(null, "title", null, level.getLevelId(), PAGE);
+	}
+
+	private void create(String title) {
+		ClassesForm form = new ClassesForm();
+		form.setTitle(title);
+		form.setClassesContent("내용");
+		form.setLevelId(level.getLevelId());
+		cService.create(form, instructor);
+	}
+
+	private Cache catalog() {
+		return cacheManager.getCache(ClassesCatalog.CATALOG_CACHE);
+	}
+
+	private List<Long> ids(Page<Classes> page) {
+		return page.getContent().stream().map(Classes::getClassesId).toList();
+	}
+}
@@ -0,0 +1,100 @@
+package com.mysite.sbb.classes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserChangedEvent;
+import com.mysite.sbb.user.UserRepository;
+import com.mysite.sbb.user.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 추천 풀 - 강의/회원 변경은 바뀐 id 하나만 반영하고(전체 재조회 없음), 수강생 변경은 무시하는지 확인
+@LmsTest
+class RecommendationPoolTest {
+
+	@Autowired
+	private RecommendationPool pool;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private UserRepository userr;
+	@Autowired
+	private EntityManagerFactory emf;
+	@Autowired
+	private TestFixtures fixtures;
+
+	// 풀 갱신 쿼리 (전체 재조회 / 회원 하나의 역할)
+	private static final String ALL_INSTRUCTORS = "SELECT u.uno FROM User u WHERE u.role = :role";
+	private static final String ONE_ROLE = "SELECT u.role FROM User u WHERE u.uno = :uno";
+
+	private Level level;
+	private Level other;
+	private User instructor;
+
+	@BeforeEach
+	void seed() {
+		level = fixtures.level("R-");
+		other = fixtures.level("R-");
+		instructor = fixtures.user("rp", UserRole.ROLE_INSTRUCTOR, null);
+		pool.refresh();
+	}
+
+	@Test
+	void classesChangesMoveOneId() {
+		Classes classes = new Classes();
+		classes.setTitle("추천 풀 테스트 강의");
+		classes.setUser(instructor);
+		classes.setLevel(level);
+		classesr.save(classes);
+		assertThat(pool.sampleClasses(level, 10)).isEmpty();
+
+		eventPublisher.publishEvent(new ClassesChangedEvent(classes.getClassesId()));
+		assertThat(pool.sampleClasses(level, 10)).extracting(Classes::getClassesId)
+				.containsExactly(classes.getClassesId());
+
+		classes.setLevel(other); // 레벨 변경
+		classesr.save(classes);
+		eventPublisher.publishEvent(new ClassesChangedEvent(classes.getClassesId()));
+		assertThat(pool.sampleClasses(level, 10)).isEmpty();
+		assertThat(pool.sampleClasses(other, 10)).hasSize(1);
+
+		classesr.delete(classes);
+		eventPublisher.publishEvent(new ClassesChangedEvent(classes.getClassesId()));
+		assertThat(pool.sampleClasses(other, 10)).isEmpty();
+	}
+
+	@Test
+	void onlyInstructorChangesTouchThePool() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		User learner = fixtures.user("rp", UserRole.ROLE_LEARNER, null);
+		stats.clear();
+		eventPublisher.publishEvent(new UserChangedEvent(learner.getUno(), false));
+		assertThat(stats.getQueryStatistics(ONE_ROLE).getExecutionCount()).isZero();
+
+		User joined = fixtures.user("rp", UserRole.ROLE_INSTRUCTOR, null);
+		stats.clear();
+		eventPublisher.publishEvent(new UserChangedEvent(joined.getUno(), true));
+		assertThat(stats.getQueryStatistics(ONE_ROLE).getExecutionCount()).isEqualTo(1); // 역할만 조회
+		assertThat(stats.getQueryStatistics(ALL_INSTRUCTORS).getExecutionCount()).isZero();
+		assertThat(pool.sampleInstructors(10_000)).extracting(User::getUno).contains(joined.getUno());
+
+		joined.setRole(UserRole.ROLE_LEARNER); // 강사 → 수강생
+		userr.save(joined);
+		eventPublisher.publishEvent(new UserChangedEvent(joined.getUno(), true));
+		assertThat(pool.sampleInstructors(10_000)).extracting(User::getUno).doesNotContain(joined.getUno());
+	}
+
+}
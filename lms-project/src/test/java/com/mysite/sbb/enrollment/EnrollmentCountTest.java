@@ -0,0 +1,87 @@
+package com.mysite.sbb.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+import com.mysite.sbb.user.UserService;
+
+// 강의별 수강생 수 카운터 - 수강신청/취소가 카운터를 1씩 증감하고, 회원 삭제(cascade)로 어긋난 값은 보정 작업이 맞추는지 확인
+@LmsTest
+class EnrollmentCountTest {
+
+	@Autowired
+	private EnrollmentService enrollments;
+	@Autowired
+	private EnrollmentCountReconciler reconciler;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Classes classes;
+	private User first;
+	private User second;
+
+	@BeforeEach
+	void seed() {
+		Level level = fixtures.level("EC-");
+		classes = new Classes();
+		classes.setTitle("수강생 수 테스트 강의");
+		classes.setUser(fixtures.user("ec", UserRole.ROLE_INSTRUCTOR, null));
+		classes.setLevel(level);
+		classesr.save(classes);
+		first = fixtures.user("ec", UserRole.ROLE_LEARNER, level);
+		second = fixtures.user("ec", UserRole.ROLE_LEARNER, level);
+	}
+
+	@Test
+	void enrollAndCancelMoveCounterByOne() {
+		enrollments.enroll(classes.getClassesId(), first);
+		enrollments.enroll(classes.getClassesId(), second);
+		assertThat(count()).isEqualTo(2);
+
+		// 중복 신청은 실패하고 카운터는 그대로
+		assertThatThrownBy(() -> enrollments.enroll(classes.getClassesId(), first))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(count()).isEqualTo(2);
+
+		enrollments.delete(enrollmentr.findByUserAndClasses(first, classes).orElseThrow().getEnrollmentId());
+		assertThat(count()).isEqualTo(1);
+	}
+
+	@Test
+	void reconcileFixesDriftAfterCascadeDelete() {
+		enrollments.enroll(classes.getClassesId(), first);
+		enrollments.enroll(classes.getClassesId(), second);
+
+		// 회원 삭제는 수강 내역을 cascade 로 지우므로 카운터가 줄지 않음
+		userService.deleteUser(second.getUno());
+		assertThat(count()).isEqualTo(2);
+
+		reconciler.reconcile();
+		assertThat(count()).isEqualTo(1);
+		assertThat(enrollments.getEnrollmentCountsForClasses(List.of(classes)))
+				.containsEntry(classes.getClassesId(), 1L);
+	}
+
+	private long count() {
+		return classesr.findEnrollmentCountById(classes.getClassesId()).orElseThrow();
+	}
+}
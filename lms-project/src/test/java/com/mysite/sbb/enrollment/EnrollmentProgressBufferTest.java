@@ -0,0 +1,111 @@
+package com.mysite.sbb.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.DataNotFoundException;
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+// 진도 heartbeat 버퍼 - 반복 flush 해도 결과가 같고, 진도는 내려가지 않으며, 수료 기준 도달 시 바로 수료 처리,
+// 수강 취소 후 다시 신청하면 새 수강의 진도가 처음부터 기록되고, 수강하지 않은 강의의 heartbeat 는 버퍼에 쌓이지 않는지 확인
+@LmsTest
+class EnrollmentProgressBufferTest {
+
+	@Autowired
+	private EnrollmentProgressBuffer progressBuffer;
+	@Autowired
+	private EnrollmentService enrollments;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private User learner;
+	private Classes classes;
+
+	@BeforeEach
+	void seed() {
+		Level level = fixtures.level("B-");
+		User instructor = fixtures.user("pb", UserRole.ROLE_INSTRUCTOR, null);
+		learner = fixtures.user("pb", UserRole.ROLE_LEARNER, level);
+
+		classes = new Classes();
+		classes.setTitle("진도 버퍼 테스트 강의");
+		classes.setUser(instructor);
+		classes.setLevel(level);
+		classesr.save(classes);
+		enrollments.enroll(classes.getClassesId(), learner);
+	}
+
+	@Test
+	void flushIsIdempotentAndNeverLowersProgress() {
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), 5);
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), 4); // 같은 주기의 작은 값은 무시
+		progressBuffer.flush();
+		assertThat(enrollment().getProgress()).isEqualTo(25);
+
+		progressBuffer.flush(); // 반영할 것이 없으면 그대로
+		assertThat(enrollment().getProgress()).isEqualTo(25);
+
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), 2); // 다른 탭의 늦은 heartbeat
+		progressBuffer.flush();
+		assertThat(enrollment().getProgress()).isEqualTo(25);
+		assertThat(enrollment().isCompleted()).isFalse();
+	}
+
+	@Test
+	void reachingTargetCompletesImmediately() {
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), EnrollmentProgressBuffer.TARGET_SECONDS);
+		Enrollment completed = enrollment();
+		assertThat(completed.getProgress()).isEqualTo(100);
+		assertThat(completed.isCompleted()).isTrue();
+
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), EnrollmentProgressBuffer.TARGET_SECONDS + 1);
+		progressBuffer.flush();
+		assertThat(enrollment().isCompleted()).isTrue();
+	}
+
+	@Test
+	void reEnrollmentStartsFromZero() {
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), EnrollmentProgressBuffer.TARGET_SECONDS);
+		enrollments.delete(enrollment().getEnrollmentId());
+		enrollments.enroll(classes.getClassesId(), learner);
+
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), 5);
+		progressBuffer.flush();
+		Enrollment again = enrollment();
+		assertThat(again.getProgress()).isEqualTo(25);
+		assertThat(again.isCompleted()).isFalse();
+	}
+
+	@Test
+	void heartbeatWithoutEnrollmentIsRejected() {
+		User stranger = fixtures.user("pb", UserRole.ROLE_LEARNER, null);
+		progressBuffer.flush();
+		assertThatThrownBy(() -> progressBuffer.record(stranger.getUno(), classes.getClassesId(), 5))
+				.isInstanceOf(DataNotFoundException.class);
+		assertThat(progressBuffer.pendingCount()).isZero();
+
+		progressBuffer.record(learner.getUno(), classes.getClassesId(), 5); // 확인된 수강은 기억
+		enrollments.delete(enrollment().getEnrollmentId());
+		assertThatThrownBy(() -> progressBuffer.record(learner.getUno(), classes.getClassesId(), 6))
+				.isInstanceOf(DataNotFoundException.class);
+		assertThat(progressBuffer.pendingCount()).isZero();
+	}
+
+	private Enrollment enrollment() {
+		return enrollmentr.findByUserAndClasses(learner, classes).orElseThrow();
+	}
+}
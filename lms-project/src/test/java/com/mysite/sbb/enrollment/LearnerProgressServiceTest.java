@@ -0,0 +1,184 @@
+package com.mysite.sbb.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesForm;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.classes.ClassesService;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.level.LevelRepository;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 등급별 수료 집계 - 수료/취소/강의 레벨 변경/진도 버퍼 수료가 승급 현황에 반영되는지, 현황은 캐시에서 읽는지 확인
+@LmsTest
+class LearnerProgressServiceTest {
+
+	@Autowired
+	private LearnerProgressService learnerProgress;
+	@Autowired
+	private EnrollmentService enrollments;
+	@Autowired
+	private EnrollmentProgressBuffer progressBuffer;
+	@Autowired
+	private ClassesService cService;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private LevelRepository levelr;
+	@Autowired
+	private QuizRepository quizr;
+	@Autowired
+	private TestFixtures fixtures;
+	@Autowired
+	private EntityManagerFactory emf;
+
+	private Level beginner; // 승급 테스트가 있는 초급 (levelId 1)
+	private Level other;
+	private User instructor;
+	private User learner;
+	private List<Classes> classes;
+
+	@BeforeEach
+	void seed() {
+		beginner = levelr.findById(1L).orElseGet(() -> fixtures.level("초급"));
+		other = fixtures.level("P-");
+		instructor = fixtures.user("lp", UserRole.ROLE_INSTRUCTOR, null);
+		learner = fixtures.user("lp", UserRole.ROLE_LEARNER, beginner);
+
+		classes = new ArrayList<>();
+		for (int i = 0; i < PromotionStatus.REQUIRED_COUNT; i++) {
+			Classes saved = new Classes();
+			saved.setTitle("승급 현황 테스트 강의 " + i);
+			saved.setUser(instructor);
+			saved.setLevel(beginner);
+			classes.add(classesr.save(saved));
+			enrollments.enroll(saved.getClassesId(), learner);
+		}
+	}
+
+	@Test
+	void completionsReachPromotion() {
+		Long quizId = quizr.findByQuizType("PROMOTION_TEST_BEGINNER").orElseGet(this::newPromotionQuiz).getQuizId();
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isZero();
+
+		for (int i = 0; i < classes.size() - 1; i++) {
+			enrollments.markAsCompleted(learner, classes.get(i).getClassesId());
+		}
+		PromotionStatus almost = learnerProgress.getStatus(learner);
+		assertThat(almost.getCompletedCount()).isEqualTo(9);
+		assertThat(almost.getProgressPercent()).isEqualTo(90.0);
+		assertThat(almost.isEligible()).isFalse();
+
+		// 관리자/강사의 진도 수정으로 마지막 강의 수료
+		Enrollment last = enrollment(classes.get(classes.size() - 1));
+		enrollments.updateProgress(last.getEnrollmentId(), 100, true);
+		PromotionStatus eligible = learnerProgress.getStatus(learner);
+		assertThat(eligible.isEligible()).isTrue();
+		assertThat(eligible.getQuizId()).isEqualTo(quizId);
+
+		// 수료한 강의 수강 취소
+		enrollments.delete(last.getEnrollmentId());
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(9);
+		assertThat(learnerProgress.getStatus(learner).isEligible()).isFalse();
+	}
+
+	@Test
+	void statusIsCachedPerLevel() {
+		enrollments.markAsCompleted(learner, classes.get(0).getClassesId());
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(1);
+
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(1);
+		assertThat(stats.getPrepareStatementCount()).isZero();
+
+		// 레벨이 바뀌면 새 레벨의 현황
+		learner.setLevel(other);
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isZero();
+		assertThat(learnerProgress.getStatus(null)).isSameAs(PromotionStatus.NONE);
+	}
+
+	@Test
+	void classesLevelChangeMovesCompletion() {
+		Classes moved = classes.get(0);
+		enrollments.markAsCompleted(learner, moved.getClassesId());
+		enrollments.markAsCompleted(learner, classes.get(1).getClassesId());
+
+		ClassesForm form = new ClassesForm();
+		form.setTitle(moved.getTitle());
+		form.setClassesContent("내용");
+		form.setLevelId(other.getLevelId());
+		cService.updateClass(moved.getClassesId(), form, instructor);
+
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(1);
+		learner.setLevel(other);
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentFirstCompletionsAreAllCounted() throws Exception {
+		// 집계 행이 없는 상태에서 여러 강의를 동시에 수료해도 행 생성이 충돌하지 않고 모두 집계됨
+		ExecutorService pool = Executors.newFixedThreadPool(classes.size());
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		for (Classes target : classes) {
+			results.add(pool.submit(() -> {
+				start.await();
+				enrollments.markAsCompleted(learner, target.getClassesId());
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> result : results) {
+			result.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(classes.size());
+	}
+
+	@Test
+	void watchedCompletionFromProgressBuffer() {
+		progressBuffer.record(learner.getUno(), classes.get(0).getClassesId(), EnrollmentProgressBuffer.TARGET_SECONDS);
+
+		assertThat(enrollment(classes.get(0)).isCompleted()).isTrue();
+		assertThat(learnerProgress.getStatus(learner).getCompletedCount()).isEqualTo(1);
+	}
+
+	private Enrollment enrollment(Classes target) {
+		return enrollmentr.findByUserAndClasses(learner, target).orElseThrow();
+	}
+
+	private Quiz newPromotionQuiz() {
+		Quiz quiz = new Quiz();
+		quiz.setQuizTitle("초급 승급 테스트");
+		quiz.setQuizType("PROMOTION_TEST_BEGINNER");
+		quiz.setLevel(beginner);
+		return quizr.save(quiz);
+	}
+
+}
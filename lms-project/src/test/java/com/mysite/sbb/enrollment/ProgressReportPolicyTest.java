@@ -0,0 +1,59 @@
+package com.mysite.sbb.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 진도 보고 주기 - 반영 대기 항목이 pending-step 만큼 쌓일 때마다 간격이 2배가 되고 최대값에서 멈추는지,
+// 응답의 구간/수료 값 확인 (스프링 컨텍스트 없이 대기 항목 수만 바꿔 가며 확인)
+class ProgressReportPolicyTest {
+
+	private static final int BASE = 5;
+	private static final int MAX = 60;
+	private static final int STEP = 100;
+
+	private int pending;
+	private ProgressReportPolicy policy;
+
+	@BeforeEach
+	void setUp() {
+		EnrollmentProgressBuffer buffer = new EnrollmentProgressBuffer(null, null, null) {
+			@Override
+			public int pendingCount() {
+				return pending;
+			}
+		};
+		policy = new ProgressReportPolicy(buffer);
+		ReflectionTestUtils.setField(policy, "baseIntervalSeconds", BASE);
+		ReflectionTestUtils.setField(policy, "maxIntervalSeconds", MAX);
+		ReflectionTestUtils.setField(policy, "pendingStep", STEP);
+	}
+
+	@Test
+	void intervalDoublesPerStepUpToMax() {
+		assertThat(interval(0)).isEqualTo(BASE);
+		assertThat(interval(STEP - 1)).isEqualTo(BASE);
+		assertThat(interval(STEP)).isEqualTo(BASE * 2);
+		assertThat(interval(STEP * 2)).isEqualTo(BASE * 4);
+		assertThat(interval(STEP * 3)).isEqualTo(BASE * 8);
+		assertThat(interval(STEP * 4)).isEqualTo(MAX); // 80 → 60
+		assertThat(interval(Integer.MAX_VALUE)).isEqualTo(MAX); // 자리 넘침 없이 최대값
+	}
+
+	@Test
+	void milestonesAndCompletion() {
+		ProgressReportResponse watching = policy.nextReport(3);
+		assertThat(watching.getCompletionSeconds()).isEqualTo(EnrollmentProgressBuffer.TARGET_SECONDS);
+		assertThat(watching.getMilestoneSeconds()).isEqualTo(EnrollmentProgressBuffer.TARGET_SECONDS / 4);
+		assertThat(watching.isCompleted()).isFalse();
+
+		assertThat(policy.nextReport(EnrollmentProgressBuffer.TARGET_SECONDS).isCompleted()).isTrue();
+	}
+
+	private int interval(int pendingCount) {
+		pending = pendingCount;
+		return policy.nextReport(0).getNextIntervalSeconds();
+	}
+}
@@ -0,0 +1,127 @@
+package com.mysite.sbb.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 강사별 수강생 목록 - 수강생 1명당 1행 집계, 정렬, 다른 강사의 수강 내역 제외
+@LmsTest
+class StudentRosterServiceTest {
+
+	@Autowired
+	private StudentRosterService rosterService;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private TestFixtures fixtures;
+	@Autowired
+	private EntityManagerFactory emf;
+
+	private Level level;
+	private User instructor;
+	private User busy; // 내 강의 3개 수강 (2개 수료)
+	private User casual; // 내 강의 1개 수강
+	private User stranger; // 다른 강사 강의만 수강
+
+	@BeforeEach
+	void seed() {
+		level = fixtures.level("R-");
+
+		instructor = fixtures.user("instructor", UserRole.ROLE_INSTRUCTOR, level);
+		User otherInstructor = fixtures.user("other", UserRole.ROLE_INSTRUCTOR, level);
+		busy = fixtures.user("busy", UserRole.ROLE_LEARNER, level);
+		casual = fixtures.user("casual", UserRole.ROLE_LEARNER, level);
+		stranger = fixtures.user("stranger", UserRole.ROLE_LEARNER, level);
+
+		Classes first = newClasses(instructor);
+		Classes second = newClasses(instructor);
+		Classes third = newClasses(instructor);
+		Classes others = newClasses(otherInstructor);
+
+		enroll(first, busy, 100, true);
+		enroll(second, busy, 100, true);
+		enroll(third, busy, 40, false);
+		enroll(others, busy, 0, false);
+		enroll(first, casual, 10, false);
+		enroll(others, stranger, 50, false);
+	}
+
+	@Test
+	void oneRowPerStudent() {
+		Page<StudentRosterView> roster = rosterService.getRoster(instructor.getUno(), 0, "enrolled", "desc");
+
+		assertThat(roster.getTotalElements()).isEqualTo(2);
+		assertThat(roster.getContent()).extracting(StudentRosterView::getUno)
+				.containsExactly(busy.getUno(), casual.getUno());
+
+		StudentRosterView top = roster.getContent().get(0);
+		assertThat(top.getEnrolledCount()).isEqualTo(3);
+		assertThat(top.getCompletedCount()).isEqualTo(2);
+		assertThat(top.getAverageProgress()).isEqualTo(80.0);
+		assertThat(top.getLevelName()).isEqualTo(level.getLevelName());
+		assertThat(top.getLastActivity()).isNotNull();
+	}
+
+	@Test
+	void sortable() {
+		assertThat(rosterService.getRoster(instructor.getUno(), 0, "progress", "asc").getContent())
+				.extracting(StudentRosterView::getUno).containsExactly(casual.getUno(), busy.getUno());
+		assertThat(rosterService.getRoster(instructor.getUno(), 0, "name", "desc").getContent())
+				.extracting(StudentRosterView::getUno).containsExactly(casual.getUno(), busy.getUno());
+		// 알 수 없는 정렬 키는 최근 활동순
+		assertThat(rosterService.getRoster(instructor.getUno(), 0, "password", "asc").getContent()).hasSize(2);
+	}
+
+	@Test
+	void pageIsAggregatedInDatabase() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		rosterService.getRoster(instructor.getUno(), 0, "activity", "desc");
+		assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(2); // 목록 + count
+		assertThat(stats.getEntityLoadCount()).isZero(); // 엔티티를 불러오지 않음
+	}
+
+	@Test
+	void studentDetailOnlyMyClasses() {
+		List<Enrollment> mine = rosterService.getStudentEnrollments(instructor.getUno(), busy.getUno());
+		assertThat(mine).hasSize(3)
+				.allSatisfy(e -> assertThat(e.getClasses().getUser().getUno()).isEqualTo(instructor.getUno()));
+		assertThat(rosterService.getStudentEnrollments(instructor.getUno(), stranger.getUno())).isEmpty();
+	}
+
+	private Classes newClasses(User owner) {
+		Classes classes = new Classes();
+		classes.setTitle("수강생 관리 테스트 강의");
+		classes.setUser(owner);
+		classes.setLevel(level);
+		return classesr.save(classes);
+	}
+
+	private void enroll(Classes classes, User user, int progress, boolean completed) {
+		Enrollment enrollment = new Enrollment();
+		enrollment.setClasses(classes);
+		enrollment.setUser(user);
+		enrollment.setProgress(progress);
+		enrollment.setCompleted(completed);
+		enrollmentr.save(enrollment);
+	}
+}
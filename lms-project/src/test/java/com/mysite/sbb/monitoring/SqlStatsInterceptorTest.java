@@ -0,0 +1,103 @@
+package com.mysite.sbb.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 요청별 SQL 지표 - 컨트롤러 메서드 이름으로 SQL 수 / JDBC 시간 / 엔티티 로드 수가 기록되고, 기준을 넘으면 집계되는지 확인
+@LmsTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "lms.sql.statement-budget=1")
+class SqlStatsInterceptorTest {
+
+	private static final String DETAIL = "ClassesController.detail";
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private SqlStatsEndpoint endpoint;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Classes classes;
+
+	@BeforeEach
+	void seed() {
+		Level level = fixtures.level("M-");
+		User instructor = fixtures.user("m", UserRole.ROLE_INSTRUCTOR, null);
+
+		classes = new Classes();
+		classes.setTitle("SQL 지표 테스트 강의");
+		classes.setUser(instructor);
+		classes.setLevel(level);
+		classesr.save(classes);
+	}
+
+	@Test
+	void recordsPerHandler() throws Exception {
+		long before = statements().map(DistributionSummary::count).orElse(0L);
+
+		mockMvc.perform(get("/classes/" + classes.getClassesId())).andExpect(status().isOk());
+
+		DistributionSummary statements = statements().orElseThrow();
+		assertThat(statements.count()).isEqualTo(before + 1);
+		assertThat(statements.max()).isPositive();
+		assertThat(meterRegistry.find(SqlStatsInterceptor.JDBC_TIME).tag(SqlStatsInterceptor.HANDLER_TAG, DETAIL).timer()
+				.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+		// 상세 페이지는 DTO 로만 조회하므로 엔티티 로드 없음
+		assertThat(meterRegistry.find(SqlStatsInterceptor.ENTITY_LOADS).tag(SqlStatsInterceptor.HANDLER_TAG, DETAIL)
+				.summary().max()).isZero();
+	}
+
+	@Test
+	void countsEntityLoads() throws Exception {
+		mockMvc.perform(get("/classes/instructor/" + classes.getUser().getUno())).andExpect(status().isOk());
+
+		assertThat(meterRegistry.find(SqlStatsInterceptor.ENTITY_LOADS)
+				.tag(SqlStatsInterceptor.HANDLER_TAG, "ClassesController.instructorClasses").summary().max())
+				.isGreaterThanOrEqualTo(2); // 강사 + 강의
+	}
+
+	@Test
+	void overBudgetIsCounted() throws Exception {
+		mockMvc.perform(get("/classes/" + classes.getClassesId())).andExpect(status().isOk());
+
+		assertThat(endpoint.handlers())
+				.filteredOn(stats -> stats.handler().equals(DETAIL))
+				.singleElement()
+				.satisfies(stats -> {
+					assertThat(stats.totalStatements()).isGreaterThan(1);
+					assertThat(stats.budgetExceeded()).isPositive();
+				});
+	}
+
+	private Optional<DistributionSummary> statements() {
+		return Optional.ofNullable(meterRegistry.find(SqlStatsInterceptor.STATEMENTS)
+				.tag(SqlStatsInterceptor.HANDLER_TAG, DETAIL).summary());
+	}
+}
@@ -0,0 +1,143 @@
+package com.mysite.sbb.quiz_attempt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.quiz_answer.QuizAnswer;
+import com.mysite.sbb.quiz_answer.QuizAnswerForm;
+import com.mysite.sbb.quiz_answer.QuizAnswerRepository;
+import com.mysite.sbb.quiz_question.QuizQuestion;
+import com.mysite.sbb.quiz_question.QuizQuestionRepository;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+// 채점 - 정답표/배치 UPDATE 로 바꾼 채점 결과(총점, 답안별 사용자 답/정답 여부)가
+// 기존 방식(문제 엔티티의 정답과 equalsIgnoreCase 비교, null 답은 빈 문자열)과 같은지 확인
+@LmsTest
+class QuizGradingTest {
+
+	@Autowired
+	private QuizAttemptService qAttemptService;
+	@Autowired
+	private QuizAttemptRepository qAttemptr;
+	@Autowired
+	private QuizAnswerRepository qAnswerr;
+	@Autowired
+	private QuizQuestionRepository qQuestionr;
+	@Autowired
+	private QuizRepository quizr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private User learner;
+	private Quiz quiz;
+	private Map<Long, QuizQuestion> questions; // 문제 id → 문제
+
+	@BeforeEach
+	void seed() {
+		learner = fixtures.user("qg", UserRole.ROLE_LEARNER, null);
+		quiz = new Quiz();
+		quiz.setQuizTitle("채점 테스트");
+		quiz.setQuizType("PRACTICE");
+		quizr.save(quiz);
+
+		questions = new HashMap<>();
+		String[] answers = { "Apple", "보기 2", "b", "Dog", "Cat", "ß" };
+		int[] scores = { 5, 10, 5, 20, 5, 5 };
+		for (int i = 0; i < answers.length; i++) {
+			QuizQuestion question = new QuizQuestion();
+			question.setQuiz(quiz);
+			question.setQuizContent("문제 " + i);
+			question.setOption1(answers[i]);
+			question.setCorrectAnswer(answers[i]);
+			question.setScore(scores[i]);
+			questions.put(qQuestionr.save(question).getQuestionId(), question);
+		}
+	}
+
+	@Test
+	void gradesLikeTheEntityComparison() {
+		QuizAttempt attempt = qAttemptService.startAttempt(quiz, learner);
+		Map<Long, Long> questionIdByAnswerId = questionIdByAnswerId(attempt);
+		assertThat(questionIdByAnswerId).hasSize(questions.size());
+
+		// 문제별 제출 답: 대소문자만 다른 정답, 정답, 빈 답, 미선택(null), 오답, 대문자로 길이가 바뀌는 문자
+		Map<String, String> submitted = Map.of("Apple", "aPPLE", "보기 2", "보기 2", "b", "", "Cat", "Dog", "ß", "SS");
+		List<QuizAnswerForm> forms = new ArrayList<>();
+		for (Map.Entry<Long, Long> entry : questionIdByAnswerId.entrySet()) {
+			String correct = questions.get(entry.getValue()).getCorrectAnswer();
+			forms.add(form(entry.getKey(), submitted.get(correct))); // "Dog" 문제는 null
+		}
+
+		QuizAttempt graded = qAttemptService.submitAnswersAndGrade(attempt.getAttemptId(), forms, learner);
+
+		// 기존 방식으로 다시 채점한 결과와 비교
+		int expectedTotal = 0;
+		for (QuizAnswerForm form : forms) {
+			QuizQuestion question = questions.get(questionIdByAnswerId.get(form.getQAnswerId()));
+			String userAnswer = Optional.ofNullable(form.getUserAnswer()).orElse("");
+			boolean correct = question.getCorrectAnswer().equalsIgnoreCase(userAnswer);
+			if (correct) {
+				expectedTotal += question.getScore();
+			}
+			QuizAnswer saved = qAnswerr.findById(form.getQAnswerId()).orElseThrow();
+			assertThat(saved.getUserAnswer()).isEqualTo(userAnswer);
+			assertThat(saved.isCorrect()).as(question.getCorrectAnswer()).isEqualTo(correct);
+		}
+		assertThat(expectedTotal).isEqualTo(15); // Apple 5 + 보기 2 10
+		assertThat(graded.getScore()).isEqualTo(expectedTotal);
+		assertThat(qAttemptr.findById(attempt.getAttemptId()).orElseThrow().getScore()).isEqualTo(expectedTotal);
+	}
+
+	@Test
+	void repeatedAnswerCountsOnce() {
+		QuizAttempt attempt = qAttemptService.startAttempt(quiz, learner);
+		Map.Entry<Long, Long> first = questionIdByAnswerId(attempt).entrySet().iterator().next();
+		QuizQuestion question = questions.get(first.getValue());
+
+		QuizAttempt graded = qAttemptService.submitAnswersAndGrade(attempt.getAttemptId(),
+				List.of(form(first.getKey(), question.getCorrectAnswer()), form(first.getKey(), question.getCorrectAnswer())),
+				learner);
+		assertThat(graded.getScore()).isEqualTo(question.getScore());
+	}
+
+	@Test
+	void rejectsAnswersOfAnotherAttempt() {
+		QuizAttempt mine = qAttemptService.startAttempt(quiz, learner);
+		User other = fixtures.user("qg", UserRole.ROLE_LEARNER, null);
+		QuizAttempt theirs = qAttemptService.startAttempt(quiz, other);
+		Long theirAnswerId = questionIdByAnswerId(theirs).keySet().iterator().next();
+
+		assertThatThrownBy(() -> qAttemptService.submitAnswersAndGrade(mine.getAttemptId(),
+				List.of(form(theirAnswerId, "Apple")), learner)).isInstanceOf(SecurityException.class);
+	}
+
+	private Map<Long, Long> questionIdByAnswerId(QuizAttempt attempt) {
+		Map<Long, Long> result = new HashMap<>();
+		for (Object[] row : qAnswerr.findQuestionIdsByAttemptId(attempt.getAttemptId())) {
+			result.put((Long) row[0], (Long) row[1]);
+		}
+		return result;
+	}
+
+	private static QuizAnswerForm form(Long answerId, String userAnswer) {
+		QuizAnswerForm form = new QuizAnswerForm();
+		form.setQAnswerId(answerId);
+		form.setUserAnswer(userAnswer);
+		return form;
+	}
+}
@@ -0,0 +1,83 @@
+package com.mysite.sbb.quiz_question;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+
+// 문제 랜덤 추출 - 중복 없이 해당 퀴즈의 문제만 뽑고, 캐시된 문제가 삭제돼도 남은 문제로 다시 뽑는지 확인
+@LmsTest
+class QuizQuestionSamplerTest {
+
+	private static final int QUESTIONS = 30;
+
+	@Autowired
+	private QuizQuestionSampler sampler;
+	@Autowired
+	private QuizQuestionRepository qQuestionr;
+	@Autowired
+	private QuizRepository quizr;
+
+	private Quiz quiz;
+	private List<Long> questionIds;
+
+	@BeforeEach
+	void seed() {
+		quiz = new Quiz();
+		quiz.setQuizTitle("추출 테스트");
+		quiz.setQuizType("PRACTICE");
+		quizr.save(quiz);
+		questionIds = new ArrayList<>();
+		for (int i = 0; i < QUESTIONS; i++) {
+			QuizQuestion question = new QuizQuestion();
+			question.setQuiz(quiz);
+			question.setQuizContent("문제 " + i);
+			question.setOption1("보기 1");
+			question.setCorrectAnswer("보기 1");
+			questionIds.add(qQuestionr.save(question).getQuestionId());
+		}
+	}
+
+	@Test
+	void samplesDistinctQuestionsOfTheQuiz() {
+		for (int round = 0; round < 20; round++) {
+			List<Long> picked = ids(sampler.sample(quiz.getQuizId(), 20));
+			assertThat(picked).hasSize(20).doesNotHaveDuplicates();
+			assertThat(questionIds).containsAll(picked);
+		}
+		assertThat(ids(sampler.sample(quiz.getQuizId(), 50))).containsExactlyInAnyOrderElementsOf(questionIds);
+	}
+
+	@Test
+	void pickNeverRepeatsAnId() {
+		long[] ids = questionIds.stream().mapToLong(Long::longValue).toArray();
+		for (int round = 0; round < 100; round++) {
+			assertThat(QuizQuestionSampler.pick(ids, 20)).hasSize(20).doesNotHaveDuplicates();
+		}
+		assertThat(QuizQuestionSampler.pick(new long[0], 20)).isEmpty();
+	}
+
+	@Test
+	void survivesDeletedQuestions() {
+		sampler.sample(quiz.getQuizId(), 20); // 문제 id 캐시
+
+		// 이벤트 없이 삭제 - 캐시에는 삭제된 id 가 남아 있음
+		List<Long> deleted = questionIds.subList(0, QUESTIONS - 5);
+		qQuestionr.deleteAllById(deleted);
+
+		List<Long> picked = ids(sampler.sample(quiz.getQuizId(), 20));
+		assertThat(picked).containsExactlyInAnyOrderElementsOf(questionIds.subList(QUESTIONS - 5, QUESTIONS));
+	}
+
+	private static List<Long> ids(List<QuizQuestion> questions) {
+		return questions.stream().map(QuizQuestion::getQuestionId).toList();
+	}
+}
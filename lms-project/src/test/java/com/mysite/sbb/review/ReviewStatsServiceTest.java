@@ -0,0 +1,118 @@
+package com.mysite.sbb.review;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesForm;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.classes.ClassesService;
+import com.mysite.sbb.enrollment.Enrollment;
+import com.mysite.sbb.enrollment.EnrollmentRepository;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+// 리뷰 집계 행 - 강의 등록/삭제와 함께 생성/삭제되고, 행이 없는 강의에 첫 리뷰가 동시에 들어와도 모두 반영되는지 확인
+@LmsTest
+class ReviewStatsServiceTest {
+
+	private static final int REVIEWERS = 6;
+
+	@Autowired
+	private ReviewService reviewService;
+	@Autowired
+	private ReviewStatsRepository reviewStatsr;
+	@Autowired
+	private ClassesService classesService;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private EnrollmentRepository enrollmentr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private Level level;
+	private User instructor;
+
+	@BeforeEach
+	void seed() {
+		level = fixtures.level("리뷰집계-");
+		instructor = fixtures.user("rs", UserRole.ROLE_INSTRUCTOR, level);
+	}
+
+	@Test
+	void concurrentFirstReviewsAreAllCounted() throws Exception {
+		// 집계 행이 없는 강의 (마이그레이션 이전 데이터처럼 저장소로 직접 저장)
+		Classes classes = new Classes();
+		classes.setTitle("동시 첫 리뷰");
+		classes.setUser(instructor);
+		classes.setLevel(level);
+		classesr.save(classes);
+		assertThat(reviewStatsr.existsById(classes.getClassesId())).isFalse();
+
+		List<User> reviewers = new ArrayList<>();
+		for (int i = 0; i < REVIEWERS; i++) {
+			User reviewer = fixtures.user("rs", UserRole.ROLE_LEARNER, level);
+			Enrollment enrollment = new Enrollment();
+			enrollment.setClasses(classes);
+			enrollment.setUser(reviewer);
+			enrollment.setCompleted(true);
+			enrollmentr.save(enrollment);
+			reviewers.add(reviewer);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(REVIEWERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Review>> results = new ArrayList<>();
+		for (int i = 0; i < REVIEWERS; i++) {
+			User reviewer = reviewers.get(i);
+			int rating = i % 5 + 1;
+			results.add(pool.submit(() -> {
+				start.await();
+				return reviewService.create(classes, reviewer, rating, "동시 리뷰");
+			}));
+		}
+		start.countDown();
+		for (Future<Review> result : results) {
+			result.get(30, TimeUnit.SECONDS); // 예외 없이 모두 저장
+		}
+		pool.shutdown();
+
+		ReviewStats stats = reviewStatsr.findById(classes.getClassesId()).orElseThrow();
+		assertThat(stats.getReviewCount()).isEqualTo(REVIEWERS);
+		assertThat(stats.getRatingSum()).isEqualTo(1 + 2 + 3 + 4 + 5 + 1);
+		assertThat(stats.getStarCounts()).containsExactly(2, 1, 1, 1, 1);
+	}
+
+	@Test
+	void statsRowFollowsClassesLifecycle() {
+		ClassesForm form = new ClassesForm();
+		form.setTitle(TestFixtures.unique("집계 행 생성/삭제 "));
+		form.setClassesContent("내용");
+		form.setLevelId(level.getLevelId());
+		classesService.create(form, instructor);
+		Long classesId = classesr.findAll().stream()
+				.filter(c -> form.getTitle().equals(c.getTitle()))
+				.findFirst().orElseThrow().getClassesId();
+
+		ReviewStats stats = reviewStatsr.findById(classesId).orElseThrow();
+		assertThat(stats.getReviewCount()).isZero();
+
+		classesService.deleteClass(classesId);
+		assertThat(reviewStatsr.existsById(classesId)).isFalse();
+	}
+}
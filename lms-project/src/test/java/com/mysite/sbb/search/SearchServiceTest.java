@@ -0,0 +1,131 @@
+package com.mysite.sbb.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.board_question.BoardQuestion;
+import com.mysite.sbb.board_question.BoardQuestionService;
+import com.mysite.sbb.classes.Classes;
+import com.mysite.sbb.classes.ClassesForm;
+import com.mysite.sbb.classes.ClassesRepository;
+import com.mysite.sbb.classes.ClassesService;
+import com.mysite.sbb.level.Level;
+import com.mysite.sbb.user.User;
+import com.mysite.sbb.user.UserRole;
+
+// 전문 검색 색인 - 서비스 등록/수정/삭제가 바로 검색에 반영되는지, 부분 일치와 관련도 순서 확인
+// (테스트 DB 를 다른 테스트와 함께 쓰므로 검색어마다 이번 실행에만 쓰는 marker 단어를 붙임)
+@LmsTest
+class SearchServiceTest {
+
+	private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+	@Autowired
+	private SearchService searchService;
+	@Autowired
+	private ClassesService cService;
+	@Autowired
+	private BoardQuestionService bqService;
+	@Autowired
+	private ClassesRepository classesr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private String marker;
+	private Level basic;
+	private Level advanced;
+	private User instructor;
+
+	@BeforeEach
+	void setUp() {
+		marker = "mk" + Long.toString(System.nanoTime(), 36);
+		basic = fixtures.level("S-");
+		advanced = fixtures.level("S-");
+		instructor = fixtures.user("s", UserRole.ROLE_INSTRUCTOR, basic);
+	}
+
+	@Test
+	void partialWordMatch() {
+		Classes classes = createClasses("자바스크립트를 배우는 강의 " + marker, "내용", basic);
+
+		assertThat(ids(searchService.searchClasses("title", "자바스크립트 " + marker, null, null, PAGE)))
+				.containsExactly(classes.getClassesId());
+		assertThat(ids(searchService.searchClasses("title", "스크립 " + marker.toUpperCase(), null, null, PAGE)))
+				.containsExactly(classes.getClassesId());
+		assertThat(searchService.searchClasses("title", "파이썬 " + marker, null, null, PAGE)).isEmpty();
+	}
+
+	@Test
+	void titleMatchRanksFirst() {
+		Classes inContent = createClasses("기초 강의 " + marker, "파이썬 예제를 다룹니다", basic);
+		Classes inTitle = createClasses("파이썬 입문 " + marker, "예제를 다룹니다", basic);
+
+		Page<Classes> page = searchService.searchClasses("title", "파이썬 " + marker, null, null, PAGE);
+		assertThat(ids(page)).containsExactly(inTitle.getClassesId(), inContent.getClassesId());
+		assertThat(page.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	void learnerSeesOnlyUpToOwnLevel() {
+		Classes easy = createClasses("데이터베이스 " + marker, "내용", basic);
+		createClasses("데이터베이스 심화 " + marker, "내용", advanced);
+		User learner = fixtures.user("s", UserRole.ROLE_LEARNER, basic);
+
+		assertThat(ids(cService.getList(learner, "title", "데이터베이스 " + marker, 0L, PAGE)))
+				.containsExactly(easy.getClassesId());
+		assertThat(cService.getList(instructor, "title", "데이터베이스 " + marker, 0L, PAGE).getTotalElements())
+				.isEqualTo(2);
+	}
+
+	@Test
+	void instructorNameSearch() {
+		Classes classes = createClasses("강사 검색 " + marker, "내용", basic);
+
+		assertThat(ids(searchService.searchClasses("instructor", instructor.getUserName(), null, null, PAGE)))
+				.containsExactly(classes.getClassesId());
+	}
+
+	@Test
+	void questionChangesAreIndexed() {
+		Classes classes = createClasses("네트워크 " + marker, "내용", basic);
+		User learner = fixtures.user("s", UserRole.ROLE_LEARNER, basic);
+		bqService.create("소켓 연결 오류 " + marker, "타임아웃이 납니다", learner, classes);
+
+		List<BoardQuestion> found = searchService.searchQuestions("title", "소켓 " + marker, PAGE).getContent();
+		assertThat(found).hasSize(1);
+		assertThat(searchService.searchQuestions("class", "네트워크 " + marker, PAGE)).hasSize(1);
+
+		BoardQuestion question = found.get(0);
+		bqService.modify(question, "라우팅 질문 " + marker, "내용");
+		assertThat(searchService.searchQuestions("title", "소켓 " + marker, PAGE)).isEmpty();
+		assertThat(searchService.searchQuestions("title", "라우팅 " + marker, PAGE)).hasSize(1);
+
+		bqService.delete(question);
+		assertThat(searchService.searchQuestions("title", "라우팅 " + marker, PAGE)).isEmpty();
+	}
+
+	private Classes createClasses(String title, String content, Level level) {
+		ClassesForm form = new ClassesForm();
+		form.setTitle(title);
+		form.setClassesContent(content);
+		form.setLevelId(level.getLevelId());
+		cService.create(form, instructor);
+		return classesr.findByUser_Uno(instructor.getUno()).stream()
+				.filter(c -> c.getTitle().equals(title))
+				.findFirst().orElseThrow();
+	}
+
+	private List<Long> ids(Page<Classes> page) {
+		return page.getContent().stream().map(Classes::getClassesId).toList();
+	}
+
+}
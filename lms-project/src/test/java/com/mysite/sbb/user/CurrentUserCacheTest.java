@@ -0,0 +1,83 @@
+package com.mysite.sbb.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+
+// 로그인 사용자 세션 캐시 - 세션에는 직렬화 가능한 요약만 남고, 회원 정보 변경은 커밋된 뒤에 무효화되는지 확인
+@LmsTest
+class CurrentUserCacheTest {
+
+	@Autowired
+	private CurrentUserCache currentUserCache;
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userr;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private TestFixtures fixtures;
+
+	private User learner;
+	private MockHttpSession session;
+
+	@BeforeEach
+	void seed() {
+		User user = fixtures.newUser("cu", UserRole.ROLE_LEARNER, null);
+		user.setUserName("변경 전");
+		learner = userr.save(user);
+		session = new MockHttpSession();
+	}
+
+	@Test
+	void sessionHoldsSerializableSnapshot() throws Exception {
+		User resolved = currentUserCache.resolve(request(), learner.getUserId());
+		assertThat(resolved.getUno()).isEqualTo(learner.getUno());
+
+		for (String name : Collections.list(session.getAttributeNames())) {
+			Object value = session.getAttribute(name);
+			try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+				out.writeObject(value); // 세션 저장/복제 시 직렬화
+			}
+			assertThat(value.toString()).doesNotContain("pw");
+		}
+
+		CurrentUserSnapshot snapshot = currentUserCache.resolveSnapshot(request(), learner.getUserId());
+		assertThat(snapshot.uno()).isEqualTo(learner.getUno());
+		assertThat(snapshot.role()).isEqualTo(UserRole.ROLE_LEARNER);
+	}
+
+	@Test
+	void invalidatedOnlyAfterCommit() {
+		currentUserCache.resolveSnapshot(request(), learner.getUserId());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			User user = userr.findById(learner.getUno()).orElseThrow();
+			user.setUserName("변경 후");
+			userService.save(user);
+			// 커밋 전에는 무효화되지 않음 - 다른 요청이 변경 전 행을 새 버전으로 다시 캐시할 수 없음
+			assertThat(currentUserCache.resolveSnapshot(request(), learner.getUserId()).userName()).isEqualTo("변경 전");
+		});
+
+		assertThat(currentUserCache.resolveSnapshot(request(), learner.getUserId()).userName()).isEqualTo("변경 후");
+	}
+
+	private MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+		return request;
+	}
+}
@@ -0,0 +1,140 @@
+package com.mysite.sbb.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.mysite.sbb.LmsTest;
+import com.mysite.sbb.TestFixtures;
+import com.mysite.sbb.level.LevelRepository;
+import com.mysite.sbb.quiz.Quiz;
+import com.mysite.sbb.quiz.QuizRepository;
+import com.mysite.sbb.quiz_answer.QuizAnswerRepository;
+import com.mysite.sbb.quiz_attempt.QuizAttempt;
+import com.mysite.sbb.quiz_attempt.QuizAttemptRepository;
+import com.mysite.sbb.quiz_question.QuizQuestion;
+import com.mysite.sbb.quiz_question.QuizQuestionRepository;
+
+// 가입 후 레벨 테스트 준비 - 가입 요청과 분리되어 비동기로 준비되는지, 중복 처리돼도 응시가 한 번만 생기는지,
+// 로그인 시 이동할 응시(준비 완료 + 미제출) 조회, 실패 횟수 누적 후 포기
+@LmsTest
+class LevelTestOnboardingTest {
+
+	private static final long WAIT_MILLIS = 10_000;
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private LevelTestOnboardingService onboarding;
+	@Autowired
+	private OnboardingTaskRepository taskr;
+	@Autowired
+	private QuizAttemptRepository attemptr;
+	@Autowired
+	private QuizAnswerRepository answerr;
+	@Autowired
+	private QuizRepository quizr;
+	@Autowired
+	private QuizQuestionRepository questionr;
+	@Autowired
+	private LevelRepository levelr;
+	@Autowired
+	private TestFixtures fixtures;
+
+	@BeforeEach
+	void levelTestExists() {
+		if (levelr.findById(1L).isEmpty()) { // 가입 시 기본 레벨(ID 1)
+			fixtures.level("O-");
+		}
+		if (quizr.findByQuizType("LEVEL_TEST").isEmpty()) {
+			Quiz quiz = new Quiz();
+			quiz.setQuizTitle("레벨 테스트");
+			quiz.setQuizType("LEVEL_TEST");
+			quizr.save(quiz);
+			for (int i = 0; i < 25; i++) {
+				QuizQuestion question = new QuizQuestion();
+				question.setQuiz(quiz);
+				question.setQuizContent("문제 " + i);
+				question.setOption1("보기 1");
+				question.setOption2("보기 2");
+				question.setCorrectAnswer("보기 1");
+				questionr.save(question);
+			}
+		}
+	}
+
+	@Test
+	void signupPreparesLevelTestAsynchronously() throws InterruptedException {
+		User learner = signup();
+		assertThat(taskr.findById(learner.getUno())).isPresent(); // 가입 시점에 작업이 남음
+
+		OnboardingTask task = awaitReady(learner.getUno());
+		assertThat(task.getAttemptId()).isNotNull();
+		assertThat(answerr.findQuestionIdsByAttemptId(task.getAttemptId())).hasSize(20);
+		assertThat(onboarding.findUnsubmittedAttemptId(learner.getUno())).contains(task.getAttemptId());
+	}
+
+	@Test
+	void preparingTwiceKeepsOneAttempt() throws InterruptedException {
+		User learner = signup();
+		Long attemptId = awaitReady(learner.getUno()).getAttemptId();
+
+		onboarding.prepare(learner.getUno());
+		onboarding.prepare(learner.getUno());
+
+		List<QuizAttempt> attempts = attemptr.findByUserUno(learner.getUno());
+		assertThat(attempts).extracting(QuizAttempt::getAttemptId).containsExactly(attemptId);
+	}
+
+	@Test
+	void submittedAttemptIsNotResumed() throws InterruptedException {
+		User learner = signup();
+		QuizAttempt attempt = attemptr.findById(awaitReady(learner.getUno()).getAttemptId()).orElseThrow();
+		attempt.setScore(60);
+		attemptr.save(attempt);
+
+		assertThat(onboarding.findUnsubmittedAttemptId(learner.getUno())).isEmpty();
+	}
+
+	@Test
+	void failuresAreCountedUntilGivingUp() {
+		Long uno = -Long.parseLong(TestFixtures.unique("")); // 회원 행 없이 작업만 기록
+		taskr.save(OnboardingTask.pending(uno));
+
+		assertThat(onboarding.recordFailure(uno, new IllegalStateException("일시 오류"), 2)).isFalse();
+		assertThat(onboarding.recordFailure(uno, new IllegalStateException("일시 오류"), 2)).isTrue();
+
+		OnboardingTask task = taskr.findById(uno).orElseThrow();
+		assertThat(task.getStatus()).isEqualTo(OnboardingStatus.FAILED);
+		assertThat(task.getTries()).isEqualTo(2);
+		assertThat(task.getLastError()).contains("일시 오류");
+	}
+
+	private User signup() {
+		String id = TestFixtures.unique("ob");
+		UserForm form = new UserForm();
+		form.setUserName(id);
+		form.setUserId(id);
+		form.setEmail(id + "@test.com");
+		form.setPassword("Abcd123!");
+		form.setPassword1("Abcd123!");
+		form.setRole("ROLE_LEARNER");
+		return userService.signup(form);
+	}
+
+	private OnboardingTask awaitReady(Long uno) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+		while (System.currentTimeMillis() < deadline) {
+			OnboardingTask task = taskr.findById(uno).orElseThrow();
+			if (task.getStatus() == OnboardingStatus.READY) {
+				return task;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("레벨 테스트 응시가 준비되지 않았습니다. uno: " + uno);
+	}
+}